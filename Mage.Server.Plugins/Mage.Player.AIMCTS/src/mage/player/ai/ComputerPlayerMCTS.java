@@ -128,7 +128,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer implements Player {
     protected void getNextAction(Game game, NextAction nextAction) {
         if (root != null) {
             MCTSNode newRoot;
-            newRoot = root.getMatchingState(game.getState().getValue(game, playerId));
+            newRoot = root.getMatchingState(game);
             if (newRoot != null) {
                 newRoot.emancipate();
             }
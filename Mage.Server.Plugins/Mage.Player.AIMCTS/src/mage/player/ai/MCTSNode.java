@@ -29,8 +29,10 @@ package mage.player.ai;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -42,6 +44,7 @@ import mage.abilities.PlayLandAbility;
 import mage.abilities.common.PassAbility;
 import mage.cards.Card;
 import mage.game.Game;
+import mage.game.GameState;
 import mage.game.combat.Combat;
 import mage.game.combat.CombatGroup;
 import mage.game.turn.Step.StepPart;
@@ -66,8 +69,8 @@ public class MCTSNode {
     private Ability action;
     private Game game;
     private Combat combat;
-    private final String stateValue;
-    private final String fullStateValue;
+    private final StateKey stateValue;
+    private final StateKey fullStateValue;
     private UUID playerId;
     private boolean terminal = false;
     private UUID targetPlayer;
@@ -77,8 +80,8 @@ public class MCTSNode {
     public MCTSNode(UUID targetPlayer, Game game) {
         this.targetPlayer = targetPlayer;
         this.game = game;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateValue = new StateKey(game, game.getState().getHash(game, targetPlayer));
+        this.fullStateValue = new StateKey(game, game.getState().getHash(true, game));
         this.terminal = game.gameOver(null);
         setPlayer();
         nodeCount = 1;
@@ -88,8 +91,8 @@ public class MCTSNode {
     protected MCTSNode(MCTSNode parent, Game game, Ability action) {
         this.targetPlayer = parent.targetPlayer;
         this.game = game;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateValue = new StateKey(game, game.getState().getHash(game, targetPlayer));
+        this.fullStateValue = new StateKey(game, game.getState().getHash(true, game));
         this.terminal = game.gameOver(null);
         this.parent = parent;
         this.action = action;
@@ -102,8 +105,8 @@ public class MCTSNode {
         this.targetPlayer = parent.targetPlayer;
         this.game = game;
         this.combat = combat;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateValue = new StateKey(game, game.getState().getHash(game, targetPlayer));
+        this.fullStateValue = new StateKey(game, game.getState().getHash(true, game));
         this.terminal = game.gameOver(null);
         this.parent = parent;
         setPlayer();
@@ -306,8 +309,8 @@ public class MCTSNode {
         return nodeCount;
     }
 
-    public String getStateValue() {
-        return stateValue;
+    public long getStateValue() {
+        return stateValue.hash;
     }
 
     public double getWinRatio() {
@@ -382,10 +385,11 @@ public class MCTSNode {
      * 
      * performs a breadth first search for a matching game state
      * 
-     * @param state - the game state that we are looking for
+     * @param game - the game state that we are looking for
      * @return the matching state or null if no match is found
      */
-    public MCTSNode getMatchingState(String state) {
+    public MCTSNode getMatchingState(Game game) {
+        StateKey state = new StateKey(game, game.getState().getHash(game, targetPlayer));
         ArrayDeque<MCTSNode> queue = new ArrayDeque<>();
         queue.add(this);
 
@@ -478,9 +482,63 @@ public class MCTSNode {
         return num;
     }
 
-    private static final ConcurrentHashMap<String, List<Ability>> playablesCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, List<List<UUID>>> attacksCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, List<List<List<UUID>>>> blocksCache = new ConcurrentHashMap<>();
+    /**
+     * Identity of a game state, used as key of the action caches and to find
+     * matching nodes. The turn number is kept to be able to remove the cache
+     * entries of past turns.
+     *
+     * The 64 bit hash alone can collide (about n^2 / 2^65 for n states) and a
+     * collision would return the actions of another state. So a few exact
+     * values that are cheap to read (step, priority, life totals and zone
+     * sizes) are compared too, only states that agree in all of them and in
+     * the hash are taken as equal.
+     */
+    private static class StateKey {
+
+        private final int turnNum;
+        private final long hash;
+        private final UUID priorityPlayerId;
+        private final int[] summary;
+
+        StateKey(Game game, long hash) {
+            this.turnNum = game.getTurnNum();
+            this.hash = hash;
+            GameState state = game.getState();
+            this.priorityPlayerId = state.getPriorityPlayerId();
+            List<Player> players = new ArrayList<>(state.getPlayers().values());
+            this.summary = new int[3 + players.size() * 4];
+            int i = 0;
+            summary[i++] = state.getTurn().getStepType() == null ? -1 : state.getTurn().getStepType().ordinal();
+            summary[i++] = state.getBattlefield().getAllPermanentIds().size();
+            summary[i++] = state.getStack().size();
+            for (Player player : players) {
+                summary[i++] = player.getLife();
+                summary[i++] = player.getHand().size();
+                summary[i++] = player.getLibrary().size();
+                summary[i++] = player.getGraveyard().size();
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) (hash ^ (hash >>> 32));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof StateKey)) {
+                return false;
+            }
+            StateKey key = (StateKey) obj;
+            return turnNum == key.turnNum && hash == key.hash
+                    && Objects.equals(priorityPlayerId, key.priorityPlayerId)
+                    && Arrays.equals(summary, key.summary);
+        }
+    }
+
+    private static final ConcurrentHashMap<StateKey, List<Ability>> playablesCache = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<StateKey, List<List<UUID>>> attacksCache = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<StateKey, List<List<List<UUID>>>> blocksCache = new ConcurrentHashMap<>();
 
     private static long playablesHit = 0;
     private static long playablesMiss = 0;
@@ -489,7 +547,7 @@ public class MCTSNode {
     private static long blocksHit = 0;
     private static long blocksMiss = 0;
     
-    private static List<Ability> getPlayables(MCTSPlayer player, String state, Game game) {
+    private static List<Ability> getPlayables(MCTSPlayer player, StateKey state, Game game) {
         if (playablesCache.containsKey(state)) {
             playablesHit++;
             return playablesCache.get(state);
@@ -502,7 +560,7 @@ public class MCTSNode {
         }
     }
     
-    private static List<List<UUID>> getAttacks(MCTSPlayer player, String state, Game game) {
+    private static List<List<UUID>> getAttacks(MCTSPlayer player, StateKey state, Game game) {
         if (attacksCache.containsKey(state)) {
             attacksHit++;
             return attacksCache.get(state);
@@ -515,7 +573,7 @@ public class MCTSNode {
         }
     }
     
-    private static List<List<List<UUID>>> getBlocks(MCTSPlayer player, String state, Game game) {
+    private static List<List<List<UUID>>> getBlocks(MCTSPlayer player, StateKey state, Game game) {
         if (blocksCache.containsKey(state)) {
             blocksHit++;
             return blocksCache.get(state);
@@ -529,38 +587,22 @@ public class MCTSNode {
     }
     
     public static int cleanupCache(int turnNum) {
-        Set<String> playablesKeys = playablesCache.keySet();
-        Iterator<String> playablesIterator = playablesKeys.iterator();
         int count = 0;
-        while(playablesIterator.hasNext()) {
-            String next = playablesIterator.next();
-            int cacheTurn = Integer.valueOf(next.split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                playablesIterator.remove();
-                count++;
-            }
-        }
+        count += cleanupCache(playablesCache.keySet(), turnNum);
+        count += cleanupCache(attacksCache.keySet(), turnNum);
+        count += cleanupCache(blocksCache.keySet(), turnNum);
+        return count;
+    }
 
-        Set<String> attacksKeys = attacksCache.keySet();
-        Iterator<String> attacksIterator = attacksKeys.iterator();
-        while(attacksIterator.hasNext()) {
-            int cacheTurn = Integer.valueOf(attacksIterator.next().split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                attacksIterator.remove();
-                count++;
-            }
-        }
-        
-        Set<String> blocksKeys = blocksCache.keySet();
-        Iterator<String> blocksIterator = blocksKeys.iterator();
-        while(blocksIterator.hasNext()) {
-            int cacheTurn = Integer.valueOf(blocksIterator.next().split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                blocksIterator.remove();
+    private static int cleanupCache(Set<StateKey> keys, int turnNum) {
+        int count = 0;
+        Iterator<StateKey> iterator = keys.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().turnNum < turnNum) {
+                iterator.remove();
                 count++;
             }
         }
-
         return count;
     }
     
@@ -57,6 +57,7 @@ import mage.server.util.ServerMessagesUtil;
 import mage.server.util.SystemUtil;
 import mage.server.util.config.GamePlugin;
 import mage.server.util.config.Plugin;
+import mage.util.Copier;
 import mage.utils.MageVersion;
 import org.apache.log4j.Logger;
 import org.jboss.remoting.Client;
@@ -126,6 +127,9 @@ public class Main {
             logger.info("Done.");
         }
 
+        // compressed game states (GameStates) contain classes of the plugins
+        Copier.setLoader(classLoader);
+
         logger.info("Loading extension packages...");
         List<ExtensionPackage> extensions = new ArrayList<>();
         if (!extensionFolder.exists()) {
@@ -173,10 +173,8 @@ class AkroanHorseCreateTokenEffect extends OneShotEffect {
 
     @Override
     public boolean apply(Game game, Ability source) {
-        for (UUID opponentId : game.getOpponents(source.getControllerId())) {
-            Token token = new SoldierToken();
-            token.putOntoBattlefield(1, game, source.getSourceId(), opponentId);
-        }
+        Token token = new SoldierToken();
+        token.putOntoBattlefield(1, game, source.getSourceId(), game.getOpponents(source.getControllerId()));
         return true;
     }
 }
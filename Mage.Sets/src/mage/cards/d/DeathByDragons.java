@@ -27,6 +27,8 @@
  */
 package mage.cards.d;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.abilities.effects.OneShotEffect;
@@ -85,12 +87,14 @@ class DeathByDragonsEffect extends OneShotEffect {
     public boolean apply(Game game, Ability source) {
         Player controller = game.getPlayer(source.getControllerId());
         if (controller != null) {
+            List<UUID> playerIds = new ArrayList<>();
             for (UUID playerId : game.getState().getPlayersInRange(controller.getId(), game)) {
                 if (!playerId.equals(this.getTargetPointer().getFirst(game, source))) {
-                    Token token = new DragonToken2();
-                    token.putOntoBattlefield(1, game, source.getSourceId(), playerId);
+                    playerIds.add(playerId);
                 }
             }
+            Token token = new DragonToken2();
+            token.putOntoBattlefield(1, game, source.getSourceId(), playerIds);
             return true;
         }
         return false;
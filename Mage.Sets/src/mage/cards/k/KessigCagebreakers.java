@@ -91,8 +91,8 @@ class KessigCagebreakersEffect extends OneShotEffect {
         if (player != null) {
             WolfToken token = new WolfToken();
             int count = player.getGraveyard().count(new FilterCreatureCard(), game);
-            for (int i = 0; i < count; i++) {
-                token.putOntoBattlefield(1, game, source.getSourceId(), source.getControllerId(), true, true);
+            if (count > 0) {
+                token.putOntoBattlefield(count, game, source.getSourceId(), source.getControllerId(), true, true);
             }
             return true;
         }
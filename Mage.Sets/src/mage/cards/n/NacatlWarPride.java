@@ -117,16 +117,14 @@ class NacatlWarPrideEffect extends OneShotEffect {
         }
 
         List<Permanent> copies = new ArrayList<>();
-        for (int i = 0; i < count; i++) {
-            EmptyToken token = new EmptyToken();
-            CardUtil.copyTo(token).from(origNactalWarPride);
-            token.putOntoBattlefield(1, game, source.getSourceId(), source.getControllerId(), true, true);
-
-            for (UUID tokenId : token.getLastAddedTokenIds()) { // by cards like Doubling Season multiple tokens can be added to the battlefield
-                Permanent tokenPermanent = game.getPermanent(tokenId);
-                if (tokenPermanent != null) {
-                    copies.add(tokenPermanent);
-                }
+        EmptyToken token = new EmptyToken();
+        CardUtil.copyTo(token).from(origNactalWarPride);
+        token.putOntoBattlefield(count, game, source.getSourceId(), source.getControllerId(), true, true);
+
+        for (UUID tokenId : token.getLastAddedTokenIds()) { // by cards like Doubling Season multiple tokens can be added to the battlefield
+            Permanent tokenPermanent = game.getPermanent(tokenId);
+            if (tokenPermanent != null) {
+                copies.add(tokenPermanent);
             }
         }
 
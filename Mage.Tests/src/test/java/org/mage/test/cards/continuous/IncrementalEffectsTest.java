@@ -0,0 +1,203 @@
+package org.mage.test.cards.continuous;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.filter.Filter;
+import mage.game.permanent.Permanent;
+import mage.players.Player;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.cards.abilities.enters.MasterBiomancerTest;
+import org.mage.test.cards.copy.CloneTest;
+import org.mage.test.cards.copy.CopyEnchantmentTest;
+import org.mage.test.cards.copy.PhantasmalImageTest;
+import org.mage.test.cards.copy.VesuvaTest;
+import org.mage.test.cards.copy.VolrathsShapshifterTest;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Plays the same games with continuous effects applied from scratch for every
+ * applyEffects call and with incremental application (skipped if nothing has
+ * changed), the resulting battlefields have to be the same.
+ *
+ * Besides the own scenarios, the tests of existing rules test classes for
+ * continuous effects, layers and copies are played in both modes (the tests
+ * check their own assertions in both modes and the resulting games are
+ * compared).
+ */
+public class IncrementalEffectsTest extends CardTestPlayerBase {
+
+    private interface Scenario {
+
+        void setup();
+    }
+
+    private void assertSameResultInBothModes(Scenario scenario) throws Exception {
+        String full = play(scenario, false);
+        String incremental = play(scenario, true);
+        Assert.assertEquals(full, incremental);
+    }
+
+    private String play(Scenario scenario, boolean incrementalEffects) throws Exception {
+        reset();
+        gameOptions.incrementalEffects = incrementalEffects;
+        scenario.setup();
+        execute();
+        return describeGame();
+    }
+
+    private void assertSameResultInBothModes(Class<? extends CardTestPlayerBase> testClass) throws Exception {
+        int played = 0;
+        for (Method method : testClass.getMethods()) {
+            Test test = method.getAnnotation(Test.class);
+            if (test == null || test.expected() != Test.None.class || method.isAnnotationPresent(Ignore.class)) {
+                continue;
+            }
+            String full = play(testClass, method, false);
+            String incremental = play(testClass, method, true);
+            Assert.assertEquals(testClass.getSimpleName() + '.' + method.getName(), full, incremental);
+            played++;
+        }
+        Assert.assertTrue("no tests in " + testClass.getSimpleName(), played > 0);
+    }
+
+    private String play(Class<? extends CardTestPlayerBase> testClass, Method method, boolean incrementalEffects) throws Exception {
+        CardTestPlayerBase test = testClass.newInstance();
+        test.reset();
+        test.getGameOptions().incrementalEffects = incrementalEffects;
+        try {
+            method.invoke(test);
+        } catch (InvocationTargetException ex) {
+            if (ex.getCause() instanceof Error) {
+                throw (Error) ex.getCause();
+            }
+            throw (Exception) ex.getCause();
+        }
+        return describeGame();
+    }
+
+    private String describeGame() {
+        List<String> lines = new ArrayList<>();
+        for (Permanent permanent : currentGame.getBattlefield().getAllPermanents()) {
+            lines.add(permanent.getName()
+                    + " controller: " + currentGame.getPlayer(permanent.getControllerId()).getName()
+                    + " " + permanent.getPower().getValue() + '/' + permanent.getToughness().getValue()
+                    + ' ' + permanent.getCardType()
+                    + ' ' + permanent.getSubtype(currentGame)
+                    + " abilities: " + permanent.getAbilities(currentGame).size()
+                    + (permanent.isTapped() ? " tapped" : ""));
+        }
+        Collections.sort(lines);
+        for (Player player : currentGame.getPlayers().values()) {
+            lines.add(player.getName() + " life: " + player.getLife());
+        }
+        return String.join("\n", lines);
+    }
+
+    @Test
+    public void testAnthemLeavesBattlefield() throws Exception {
+        assertSameResultInBothModes(() -> {
+            addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem");
+            addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 2);
+            addCard(Zone.BATTLEFIELD, playerB, "Plains", 2);
+            addCard(Zone.HAND, playerB, "Disenchant");
+
+            castSpell(2, PhaseStep.PRECOMBAT_MAIN, playerB, "Disenchant", "Glorious Anthem");
+
+            setStopAt(2, PhaseStep.END_TURN);
+        });
+
+        assertGraveyardCount(playerA, "Glorious Anthem", 1);
+        assertPowerToughness(playerA, "Grizzly Bears", 2, 2, Filter.ComparisonScope.All);
+    }
+
+    @Test
+    public void testControlChange() throws Exception {
+        assertSameResultInBothModes(() -> {
+            addCard(Zone.BATTLEFIELD, playerA, "Island", 5);
+            addCard(Zone.HAND, playerA, "Mind Control");
+            addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion");
+
+            castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Mind Control", "Silvercoat Lion");
+
+            setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        });
+
+        assertPermanentCount(playerA, "Silvercoat Lion", 1);
+        assertPermanentCount(playerB, "Silvercoat Lion", 0);
+    }
+
+    @Test
+    public void testEndOfTurnEffectEnds() throws Exception {
+        assertSameResultInBothModes(() -> {
+            addCard(Zone.BATTLEFIELD, playerA, "Forest");
+            addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears");
+            addCard(Zone.HAND, playerA, "Giant Growth");
+
+            castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Giant Growth", "Grizzly Bears");
+
+            setStopAt(2, PhaseStep.UPKEEP);
+        });
+
+        assertGraveyardCount(playerA, "Giant Growth", 1);
+        assertPowerToughness(playerA, "Grizzly Bears", 2, 2);
+    }
+
+    @Test
+    public void testCopyAndDependentTypeChangingEffects() throws Exception {
+        assertSameResultInBothModes(() -> {
+            addCard(Zone.BATTLEFIELD, playerA, "Opalescence");
+            addCard(Zone.BATTLEFIELD, playerA, "Island", 9);
+            addCard(Zone.HAND, playerA, "Rite of Replication");
+            addCard(Zone.HAND, playerA, "Enchanted Evening");
+            addCard(Zone.BATTLEFIELD, playerB, "Cobblebrute");
+            addCard(Zone.BATTLEFIELD, playerB, "Plains", 2);
+            addCard(Zone.HAND, playerB, "Raise the Alarm");
+
+            castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Rite of Replication", "Cobblebrute");
+            setChoice(playerA, "No"); // no kicker
+            castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerB, "Raise the Alarm");
+            castSpell(1, PhaseStep.POSTCOMBAT_MAIN, playerA, "Enchanted Evening");
+
+            setStopAt(1, PhaseStep.END_TURN);
+        });
+
+        assertPowerToughness(playerA, "Enchanted Evening", 5, 5);
+        assertPowerToughness(playerA, "Cobblebrute", 4, 4);
+        assertPowerToughness(playerB, "Cobblebrute", 4, 4);
+        assertPermanentCount(playerB, "Soldier", 0);
+    }
+
+    @Test
+    public void testContinuousEffectsTests() throws Exception {
+        assertSameResultInBothModes(BoostAllTest.class);
+        assertSameResultInBothModes(BecomesCreatureTest.class);
+        assertSameResultInBothModes(EnsoulArtifactTest.class);
+        assertSameResultInBothModes(MarchOfTheMachinesTest.class);
+        assertSameResultInBothModes(MasterBiomancerTest.class);
+    }
+
+    @Test
+    public void testLayerTests() throws Exception {
+        assertSameResultInBothModes(DependentEffectsTest.class);
+        assertSameResultInBothModes(LandTypeChangingEffectsTest.class);
+        assertSameResultInBothModes(MasterOfThePearlTridentTest.class);
+        assertSameResultInBothModes(PaintersServantTest.class);
+        assertSameResultInBothModes(WonderTest.class);
+    }
+
+    @Test
+    public void testCopyTests() throws Exception {
+        assertSameResultInBothModes(CloneTest.class);
+        assertSameResultInBothModes(CopyEnchantmentTest.class);
+        assertSameResultInBothModes(PhantasmalImageTest.class);
+        assertSameResultInBothModes(VesuvaTest.class);
+        assertSameResultInBothModes(VolrathsShapshifterTest.class);
+    }
+}
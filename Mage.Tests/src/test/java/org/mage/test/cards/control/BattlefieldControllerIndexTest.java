@@ -0,0 +1,89 @@
+package org.mage.test.cards.control;
+
+import java.util.ArrayList;
+import java.util.List;
+import mage.constants.CardType;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.filter.common.FilterCreaturePermanent;
+import mage.game.permanent.Permanent;
+import mage.players.Player;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Checks that the permanents by controller of the battlefield are the same as
+ * found by going through all permanents, after control changes, phasing and
+ * zone changes.
+ */
+public class BattlefieldControllerIndexTest extends CardTestPlayerBase {
+
+    private void assertIndexMatchesBattlefield() {
+        for (Player player : currentGame.getPlayers().values()) {
+            List<Permanent> expected = new ArrayList<>();
+            int creatures = 0;
+            for (Permanent permanent : currentGame.getBattlefield().getAllPermanents()) {
+                if (permanent.isPhasedIn() && permanent.getControllerId().equals(player.getId())) {
+                    expected.add(permanent);
+                    if (permanent.getCardType().contains(CardType.CREATURE)) {
+                        creatures++;
+                    }
+                }
+            }
+            Assert.assertEquals(expected, currentGame.getBattlefield().getAllActivePermanents(player.getId()));
+            Assert.assertEquals(creatures, currentGame.getBattlefield().countAll(new FilterCreaturePermanent(), player.getId(), currentGame));
+        }
+    }
+
+    @Test
+    public void testControlChange() {
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 5);
+        addCard(Zone.HAND, playerA, "Mind Control");
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion");
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Mind Control", "Silvercoat Lion");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        assertPermanentCount(playerA, "Silvercoat Lion", 1);
+        assertIndexMatchesBattlefield();
+    }
+
+    @Test
+    public void testControlChangeEnds() {
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 5);
+        addCard(Zone.HAND, playerA, "Mind Control");
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion");
+        addCard(Zone.BATTLEFIELD, playerB, "Plains", 2);
+        addCard(Zone.HAND, playerB, "Disenchant");
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Mind Control", "Silvercoat Lion");
+        castSpell(2, PhaseStep.PRECOMBAT_MAIN, playerB, "Disenchant", "Mind Control");
+
+        setStopAt(2, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        assertPermanentCount(playerB, "Silvercoat Lion", 1);
+        assertIndexMatchesBattlefield();
+    }
+
+    @Test
+    public void testPhasing() {
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 3);
+        // At the beginning of each player's upkeep, that player chooses artifact, creature, land, or non-Aura enchantment.
+        // All nontoken permanents of that type phase out.
+        addCard(Zone.HAND, playerA, "Teferi's Realm", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion", 2);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Teferi's Realm");
+
+        setChoice(playerB, "Creature");
+        setStopAt(2, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        assertPermanentCount(playerB, "Silvercoat Lion", 0);
+        assertIndexMatchesBattlefield();
+    }
+}
@@ -0,0 +1,58 @@
+package org.mage.test.cards.cost.modification;
+
+import mage.abilities.SpellAbility;
+import mage.cards.Card;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Checks that the playable check uses modified costs, but doesn't change the
+ * ability it checks.
+ */
+public class PlayableCostModificationTest extends CardTestPlayerBase {
+
+    private Card getCardInHand(String cardName) {
+        for (Card card : playerA.getHand().getCards(currentGame)) {
+            if (card.getName().equals(cardName)) {
+                return card;
+            }
+        }
+        Assert.fail(cardName + " not found in hand");
+        return null;
+    }
+
+    @Test
+    public void testPlayableWithoutCostModification() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 1);
+        addCard(Zone.HAND, playerA, "Grizzly Bears", 1);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        Card bears = getCardInHand("Grizzly Bears");
+        Assert.assertFalse("Grizzly Bears can't be cast with one Forest", playerA.getPlayableInHand(currentGame).contains(bears.getId()));
+        SpellAbility spellAbility = bears.getSpellAbility();
+        Assert.assertFalse(spellAbility.isCheckPlayableMode());
+        Assert.assertEquals("{1}{G}", spellAbility.getManaCostsToPay().getText());
+    }
+
+    @Test
+    public void testPlayableWithCostModification() {
+        // Spells cost {1} less to cast.
+        addCard(Zone.BATTLEFIELD, playerA, "Helm of Awakening", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 1);
+        addCard(Zone.HAND, playerA, "Grizzly Bears", 1);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        Card bears = getCardInHand("Grizzly Bears");
+        Assert.assertTrue("Grizzly Bears has to be castable with one Forest", playerA.getPlayableInHand(currentGame).contains(bears.getId()));
+        SpellAbility spellAbility = bears.getSpellAbility();
+        Assert.assertFalse(spellAbility.isCheckPlayableMode());
+        Assert.assertEquals("{1}{G}", spellAbility.getManaCostsToPay().getText());
+    }
+}
@@ -0,0 +1,135 @@
+package org.mage.test.sba;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.permanent.Permanent;
+import mage.players.Player;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Plays the same games with all permanents checked for state-based actions
+ * every time and with the incremental check in its verifying mode (that fails
+ * if the incremental check would have missed something), the resulting games
+ * have to be the same.
+ */
+public class IncrementalStateBasedActionsTest extends CardTestPlayerBase {
+
+    private interface Scenario {
+
+        void setup();
+    }
+
+    private void assertSameResultInBothModes(Scenario scenario) throws Exception {
+        String full = play(scenario, false);
+        String incremental = play(scenario, true);
+        Assert.assertEquals(full, incremental);
+    }
+
+    private String play(Scenario scenario, boolean incremental) throws Exception {
+        reset();
+        gameOptions.incrementalStateBasedActions = incremental;
+        gameOptions.verifyIncrementalStateBasedActions = incremental;
+        scenario.setup();
+        execute();
+        return describeGame();
+    }
+
+    private String describeGame() {
+        List<String> lines = new ArrayList<>();
+        for (Permanent permanent : currentGame.getBattlefield().getAllPermanents()) {
+            lines.add(permanent.getName()
+                    + " controller: " + currentGame.getPlayer(permanent.getControllerId()).getName()
+                    + " " + permanent.getPower().getValue() + '/' + permanent.getToughness().getValue()
+                    + " damage: " + permanent.getDamage()
+                    + " attached to: " + (permanent.getAttachedTo() == null ? "-" : currentGame.getPermanent(permanent.getAttachedTo()).getName()));
+        }
+        Collections.sort(lines);
+        for (Player player : currentGame.getPlayers().values()) {
+            List<String> graveyard = new ArrayList<>();
+            player.getGraveyard().getCards(currentGame).forEach(card -> graveyard.add(card.getName()));
+            Collections.sort(graveyard);
+            lines.add(player.getName() + " life: " + player.getLife() + " graveyard: " + graveyard);
+        }
+        return String.join("\n", lines);
+    }
+
+    @Test
+    public void testDamagedCreatureDiesWhenAnthemLeaves() throws Exception {
+        assertSameResultInBothModes(() -> {
+            addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem");
+            addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears");
+            addCard(Zone.BATTLEFIELD, playerB, "Mountain");
+            addCard(Zone.BATTLEFIELD, playerB, "Plains", 2);
+            addCard(Zone.HAND, playerB, "Shock");
+            addCard(Zone.HAND, playerB, "Disenchant");
+
+            castSpell(2, PhaseStep.PRECOMBAT_MAIN, playerB, "Shock", "Grizzly Bears");
+            castSpell(2, PhaseStep.POSTCOMBAT_MAIN, playerB, "Disenchant", "Glorious Anthem");
+
+            setStopAt(2, PhaseStep.END_TURN);
+        });
+
+        assertGraveyardCount(playerA, "Glorious Anthem", 1);
+        assertGraveyardCount(playerA, "Grizzly Bears", 1);
+    }
+
+    @Test
+    public void testIndestructibleCreatureWithLethalDamage() throws Exception {
+        assertSameResultInBothModes(() -> {
+            addCard(Zone.BATTLEFIELD, playerA, "Darksteel Myr");
+            addCard(Zone.BATTLEFIELD, playerB, "Mountain", 2);
+            addCard(Zone.HAND, playerB, "Lightning Bolt");
+            addCard(Zone.HAND, playerB, "Shock");
+
+            castSpell(2, PhaseStep.PRECOMBAT_MAIN, playerB, "Lightning Bolt", "Darksteel Myr");
+            castSpell(2, PhaseStep.POSTCOMBAT_MAIN, playerB, "Shock", "Darksteel Myr");
+
+            setStopAt(2, PhaseStep.END_TURN);
+        });
+
+        assertPermanentCount(playerA, "Darksteel Myr", 1);
+    }
+
+    @Test
+    public void testAttachmentsOfDyingCreature() throws Exception {
+        assertSameResultInBothModes(() -> {
+            addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears");
+            addCard(Zone.BATTLEFIELD, playerA, "Bonesplitter");
+            addCard(Zone.BATTLEFIELD, playerA, "Plains", 3);
+            addCard(Zone.HAND, playerA, "Pacifism");
+            addCard(Zone.BATTLEFIELD, playerB, "Mountain");
+            addCard(Zone.HAND, playerB, "Lightning Bolt");
+
+            activateAbility(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Equip {1}", "Grizzly Bears");
+            castSpell(1, PhaseStep.POSTCOMBAT_MAIN, playerA, "Pacifism", "Grizzly Bears");
+            castSpell(2, PhaseStep.PRECOMBAT_MAIN, playerB, "Lightning Bolt", "Grizzly Bears");
+
+            setStopAt(2, PhaseStep.END_TURN);
+        });
+
+        assertGraveyardCount(playerA, "Grizzly Bears", 1);
+        assertGraveyardCount(playerA, "Pacifism", 1);
+        assertPermanentCount(playerA, "Bonesplitter", 1);
+    }
+
+    @Test
+    public void testPlaneswalkerUniquenessRule() throws Exception {
+        assertSameResultInBothModes(() -> {
+            addCard(Zone.BATTLEFIELD, playerA, "Jace, Memory Adept");
+            addCard(Zone.BATTLEFIELD, playerA, "Island", 5);
+            addCard(Zone.HAND, playerA, "Jace, Memory Adept");
+
+            castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Jace, Memory Adept");
+
+            setStopAt(1, PhaseStep.END_COMBAT);
+        });
+
+        assertPermanentCount(playerA, "Jace, Memory Adept", 1);
+        assertGraveyardCount(playerA, "Jace, Memory Adept", 1);
+    }
+}
@@ -0,0 +1,67 @@
+package org.mage.test.serverside;
+
+import mage.cards.Card;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.counters.CounterType;
+import mage.game.GameState;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Checks that the hash of a game state is the same for a copy of the state and
+ * changes with the tapped state, damage and counters of the permanents and
+ * with the cards of the players.
+ */
+public class GameStateHashTest extends CardTestPlayerBase {
+
+    private long hash() {
+        return currentGame.getState().getHash(true, currentGame);
+    }
+
+    @Test
+    public void testHashOfChangedState() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears");
+        addCard(Zone.HAND, playerA, "Lightning Bolt");
+        addCard(Zone.GRAVEYARD, playerA, "Shock");
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        GameState copy = currentGame.getState().copy();
+        Assert.assertEquals(hash(), copy.getHash(true, currentGame));
+        Assert.assertEquals(currentGame.getState().getHash(currentGame, playerA.getId()), copy.getHash(currentGame, playerA.getId()));
+
+        Permanent bears = getPermanent("Grizzly Bears", playerA);
+        long permanentHash = bears.getValueHash(currentGame.getState());
+        long hash = hash();
+        bears.setTapped(true);
+        Assert.assertNotEquals(permanentHash, bears.getValueHash(currentGame.getState()));
+        Assert.assertNotEquals(hash, hash());
+
+        permanentHash = bears.getValueHash(currentGame.getState());
+        hash = hash();
+        bears.damage(1, playerB.getId(), currentGame, false, true);
+        Assert.assertNotEquals(permanentHash, bears.getValueHash(currentGame.getState()));
+        Assert.assertNotEquals(hash, hash());
+
+        permanentHash = bears.getValueHash(currentGame.getState());
+        hash = hash();
+        bears.addCounters(CounterType.P1P1.createInstance(), null, currentGame);
+        Assert.assertNotEquals(permanentHash, bears.getValueHash(currentGame.getState()));
+        Assert.assertNotEquals(hash, hash());
+
+        long graveyardHash = playerA.getGraveyard().getValueHash(currentGame);
+        long handHash = playerA.getHand().getValueHash(currentGame);
+        hash = hash();
+        Card bolt = playerA.getHand().getCards(currentGame).iterator().next();
+        playerA.moveCards(bolt, Zone.GRAVEYARD, null, currentGame);
+        Assert.assertNotEquals(graveyardHash, playerA.getGraveyard().getValueHash(currentGame));
+        Assert.assertNotEquals(handHash, playerA.getHand().getValueHash(currentGame));
+        Assert.assertNotEquals(hash, hash());
+
+        Assert.assertNotEquals(copy.getHash(true, currentGame), hash());
+    }
+}
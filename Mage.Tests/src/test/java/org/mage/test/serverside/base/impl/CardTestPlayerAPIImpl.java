@@ -136,6 +136,14 @@ public abstract class CardTestPlayerAPIImpl extends MageTestPlayerBase implement
         gameOptions = new GameOptions();
     }
 
+    /**
+     * @return the options the game is started with, can be changed until
+     * {@link #execute()} is called
+     */
+    public GameOptions getGameOptions() {
+        return gameOptions;
+    }
+
     abstract protected Game createNewGameAndPlayers() throws GameException, FileNotFoundException;
 
     protected TestPlayer createPlayer(Game game, TestPlayer player, String name) throws GameException {
@@ -0,0 +1,86 @@
+package org.mage.test.serverside.deck;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import mage.abilities.Ability;
+import mage.abilities.effects.Effect;
+import mage.cards.Card;
+import mage.cards.MeldCard;
+import mage.cards.SplitCard;
+import mage.cards.repository.CardRepository;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.filter.Filter;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Checks that the cards copied from the prototypes of the card factory are
+ * independent cards with their own ids.
+ */
+public class CardFactoryTest extends CardTestPlayerBase {
+
+    private static void collectIds(Card card, Set<UUID> ids) {
+        Assert.assertTrue("id used twice: " + card.getName(), ids.add(card.getId()));
+        for (Ability ability : card.getAbilities()) {
+            Assert.assertEquals("ability of other card: " + ability, card.getId(), ability.getSourceId());
+            Assert.assertTrue("ability id used twice: " + ability, ids.add(ability.getId()));
+            for (Effect effect : ability.getEffects()) {
+                Assert.assertTrue("effect id used twice: " + effect, ids.add(effect.getId()));
+            }
+        }
+    }
+
+    @Test
+    public void testCopiesHaveOwnIds() {
+        Set<UUID> ids = new HashSet<>();
+        for (String cardName : new String[]{"Lightning Bolt", "Glorious Anthem", "Grizzly Bears"}) {
+            collectIds(CardRepository.instance.findCard(cardName).getCard(), ids);
+            collectIds(CardRepository.instance.findCard(cardName).getCard(), ids);
+        }
+    }
+
+    @Test
+    public void testSplitCardHalvesHaveOwnIds() {
+        Set<UUID> ids = new HashSet<>();
+        for (int i = 0; i < 2; i++) {
+            Card card = CardRepository.instance.findCard("Fire // Ice").getCard();
+            Assert.assertTrue(card instanceof SplitCard);
+            SplitCard splitCard = (SplitCard) card;
+            Assert.assertTrue("id used twice: " + card.getName(), ids.add(splitCard.getId()));
+            collectIds(splitCard.getLeftHalfCard(), ids);
+            collectIds(splitCard.getRightHalfCard(), ids);
+        }
+    }
+
+    @Test
+    public void testMeldCardsHaveOwnIds() {
+        // the meld card from the card database has no halves
+        Set<UUID> ids = new HashSet<>();
+        for (int i = 0; i < 2; i++) {
+            Card card = CardRepository.instance.findCard("Brisela, Voice of Nightmares").getCard();
+            Assert.assertTrue(card instanceof MeldCard);
+            collectIds(card, ids);
+        }
+    }
+
+    @Test
+    public void testCastCopiesOfSameCard() {
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 6);
+        // Create two 1/1 white Soldier creature tokens.
+        addCard(Zone.HAND, playerA, "Raise the Alarm", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 2);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Raise the Alarm");
+        castSpell(1, PhaseStep.POSTCOMBAT_MAIN, playerA, "Raise the Alarm");
+
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertGraveyardCount(playerA, "Raise the Alarm", 2);
+        assertPermanentCount(playerA, "Soldier", 4);
+        assertPowerToughness(playerA, "Soldier", 3, 3, Filter.ComparisonScope.All);
+    }
+}
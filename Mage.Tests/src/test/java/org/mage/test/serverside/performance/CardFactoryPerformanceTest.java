@@ -0,0 +1,79 @@
+package org.mage.test.serverside.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+import mage.cards.Card;
+import mage.cards.CardImpl;
+import mage.cards.CardSetInfo;
+import mage.cards.repository.CardCriteria;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Measures the time to create the cards of a 60 card deck and of a 100 card
+ * commander deck with the card constructors (reflection) and with copies of
+ * the prototypes of the card factory.
+ */
+@Ignore
+public class CardFactoryPerformanceTest extends CardTestPlayerBase {
+
+    public void run() throws Exception {
+        init();
+        List<CardInfo> deck = new ArrayList<>();
+        for (String cardName : new String[]{"Mountain", "Forest"}) {
+            for (int i = 0; i < 12; i++) {
+                deck.add(CardRepository.instance.findCard(cardName));
+            }
+        }
+        for (String cardName : new String[]{"Lightning Bolt", "Grizzly Bears", "Giant Growth", "Silvercoat Lion",
+            "Glorious Anthem", "Raise the Alarm", "Blood Artist", "Mind Control", "Disenchant"}) {
+            for (int i = 0; i < 4; i++) {
+                deck.add(CardRepository.instance.findCard(cardName));
+            }
+        }
+        List<CardInfo> commanderDeck = CardRepository.instance.findCards(new CardCriteria().setCodes("M13").count(100L));
+
+        measure("60 card deck", deck);
+        measure("100 card commander deck", commanderDeck);
+    }
+
+    private void measure(String deckName, List<CardInfo> deck) {
+        int loads = 200;
+        long t1 = System.nanoTime();
+        createCards(deck); // builds the prototypes
+        long t2 = System.nanoTime();
+        for (int i = 0; i < loads; i++) {
+            createCards(deck);
+        }
+        long t3 = System.nanoTime();
+        for (int i = 0; i < loads; i++) {
+            for (CardInfo cardInfo : deck) {
+                Card card = CardImpl.createCard(cardInfo.getClassName(), new CardSetInfo(cardInfo.getName(), cardInfo.getSetCode(), cardInfo.getCardNumber(), cardInfo.getRarity()));
+                Assert.assertNotNull(card);
+            }
+        }
+        long t4 = System.nanoTime();
+        System.out.println(deckName + " (" + deck.size() + " cards), first load with prototypes: " + (t2 - t1) / 1000 + " microseconds");
+        System.out.println(deckName + ", card constructors: " + (t4 - t3) / loads / 1000 + " microseconds per load");
+        System.out.println(deckName + ", prototype copies: " + (t3 - t2) / loads / 1000 + " microseconds per load");
+    }
+
+    private static void createCards(List<CardInfo> deck) {
+        for (CardInfo cardInfo : deck) {
+            Assert.assertNotNull(cardInfo.getCard());
+        }
+    }
+
+    public static void main(String[] args) {
+        CardFactoryPerformanceTest test = new CardFactoryPerformanceTest();
+        try {
+            test.run();
+        } catch (Exception e) {
+            e.printStackTrace();
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.mage.test.serverside.performance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import mage.constants.CardType;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.filter.FilterPermanent;
+import mage.filter.StaticFilters;
+import mage.filter.common.FilterCreaturePermanent;
+import mage.filter.common.FilterLandPermanent;
+import mage.game.GameState;
+import mage.game.permanent.Permanent;
+import mage.util.CardTypeList;
+import mage.util.TypeNameList;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Measures filter matching and game state copies with the card types,
+ * subtypes and supertypes kept in masked lists, and compares contains checks of
+ * the masked lists with the array lists used before.
+ */
+@Ignore
+public class CharacteristicsPerformanceTest extends CardTestPlayerBase {
+
+    public void run() throws Exception {
+        init();
+        reset();
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 10);
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 10);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Plains", 10);
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion", 10);
+        addCard(Zone.BATTLEFIELD, playerB, "Honor of the Pure", 2);
+
+        setStopAt(2, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        List<Permanent> permanents = new ArrayList<>(currentGame.getBattlefield().getAllPermanents());
+        List<FilterPermanent> filters = Arrays.asList(new FilterCreaturePermanent(), new FilterLandPermanent(),
+                StaticFilters.FILTER_PERMANENT_ARTIFACT_OR_CREATURE, new FilterCreaturePermanent("Cat", "Cat creatures"));
+        int runs = 20000;
+
+        int matches = 0;
+        long t1 = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            for (FilterPermanent filter : filters) {
+                for (Permanent permanent : permanents) {
+                    if (filter.match(permanent, currentGame)) {
+                        matches++;
+                    }
+                }
+            }
+        }
+        long t2 = System.nanoTime();
+        System.out.println("filter match: " + (t2 - t1) / runs / filters.size() / permanents.size() + " ns per permanent");
+
+        GameState state = currentGame.getState();
+        int copies = 2000;
+        long t3 = System.nanoTime();
+        for (int i = 0; i < copies; i++) {
+            state.copy();
+        }
+        long t4 = System.nanoTime();
+        System.out.println("game state copy: " + (t4 - t3) / copies / 1000 + " microseconds");
+
+        List<CardType> arrayTypes = new ArrayList<>(Arrays.asList(CardType.ARTIFACT, CardType.CREATURE));
+        List<CardType> maskedTypes = new CardTypeList(arrayTypes);
+        List<String> arraySubtypes = new ArrayList<>(Arrays.asList("Human", "Soldier", "Ally"));
+        List<String> maskedSubtypes = new TypeNameList(arraySubtypes);
+        int lookups = 10000000;
+        System.out.println(lookups + " card type contains, ArrayList: " + containsTime(arrayTypes, CardType.LAND, lookups)
+                + " ms, CardTypeList: " + containsTime(maskedTypes, CardType.LAND, lookups) + " ms");
+        System.out.println(lookups + " subtype contains, ArrayList: " + containsTime(arraySubtypes, "Elf", lookups)
+                + " ms, TypeNameList: " + containsTime(maskedSubtypes, "Elf", lookups) + " ms");
+
+        Assert.assertTrue(matches > 0);
+    }
+
+    private static <T> long containsTime(List<T> list, T element, int lookups) {
+        int found = 0;
+        long t1 = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            if (list.contains(element)) {
+                found++;
+            }
+        }
+        long t2 = System.nanoTime();
+        Assert.assertEquals(0, found);
+        return (t2 - t1) / 1000000;
+    }
+
+    public static void main(String[] args) {
+        CharacteristicsPerformanceTest test = new CharacteristicsPerformanceTest();
+        try {
+            test.run();
+        } catch (Exception e) {
+            e.printStackTrace();
+            throw new RuntimeException(e);
+        }
+    }
+}
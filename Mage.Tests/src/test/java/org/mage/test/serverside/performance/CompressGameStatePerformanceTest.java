@@ -0,0 +1,69 @@
+package org.mage.test.serverside.performance;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.GameState;
+import mage.util.Copier;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Compares size and speed of the compressed (standard serialization) and the
+ * compact (class names and versions only) game state snapshots used for the game state
+ * history.
+ */
+@Ignore
+public class CompressGameStatePerformanceTest extends CardTestPlayerBase {
+
+    public void run() throws Exception {
+        init();
+        reset();
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 8);
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 4);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem");
+        addCard(Zone.BATTLEFIELD, playerB, "Mountain", 8);
+        addCard(Zone.BATTLEFIELD, playerB, "Blood Artist", 2);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 5);
+        addCard(Zone.GRAVEYARD, playerB, "Lightning Bolt", 5);
+
+        setStopAt(3, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        GameState state = currentGame.getState();
+        Copier<GameState> copier = new Copier<>();
+        int runs = 200;
+
+        byte[] compressed = null;
+        long t1 = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            compressed = copier.copyCompressed(state);
+            copier.uncompressCopy(compressed);
+        }
+        long t2 = System.nanoTime();
+
+        byte[] compact = null;
+        for (int i = 0; i < runs; i++) {
+            compact = copier.copyCompact(state);
+            copier.uncompactCopy(compact);
+        }
+        long t3 = System.nanoTime();
+
+        System.out.println("copyCompressed: " + compressed.length + " bytes, " + (t2 - t1) / runs / 1000 + " microseconds per round trip");
+        System.out.println("copyCompact:    " + compact.length + " bytes, " + (t3 - t2) / runs / 1000 + " microseconds per round trip");
+
+        GameState restored = copier.uncompactCopy(compact);
+        Assert.assertEquals(state.getBattlefield().getAllPermanents().size(), restored.getBattlefield().getAllPermanents().size());
+        Assert.assertEquals(state.getTurnNum(), restored.getTurnNum());
+    }
+
+    public static void main(String[] args) {
+        CompressGameStatePerformanceTest test = new CompressGameStatePerformanceTest();
+        try {
+            test.run();
+        } catch (Exception e) {
+            e.printStackTrace();
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.mage.test.serverside.performance;
+
+import java.util.HashMap;
+import java.util.Map;
+import mage.counters.Counter;
+import mage.counters.CounterType;
+import mage.counters.Counters;
+import org.junit.Assert;
+import org.junit.Ignore;
+
+/**
+ * Compares copies and counter type lookups of {@link Counters} with a hash
+ * map of the counters by name (as Counters was before): for permanents
+ * without counters, with a +1/+1 counter and for a player with poison and
+ * energy counters.
+ */
+@Ignore
+public class CountersPerformanceTest {
+
+    private static final int RUNS = 5000000;
+
+    public void run() {
+        Counters none = new Counters();
+        Counters boosted = new Counters();
+        boosted.addCounter(CounterType.P1P1.createInstance(2));
+        Counters player = new Counters();
+        player.addCounter(CounterType.POISON.createInstance(3));
+        player.addCounter(CounterType.ENERGY.createInstance(4));
+
+        for (int i = 0; i < 3; i++) { // warm up
+            measure("no counters", none, false);
+            measure("+1/+1 counters", boosted, false);
+            measure("poison and energy counters", player, false);
+        }
+        measure("no counters", none, true);
+        measure("+1/+1 counters", boosted, true);
+        measure("poison and energy counters", player, true);
+    }
+
+    private static void measure(String name, Counters counters, boolean print) {
+        HashMap<String, Counter> map = new HashMap<>(counters);
+
+        long sum = 0;
+        long t1 = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            sum += copy(map).size();
+        }
+        long t2 = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            sum += counters.copy().size();
+        }
+        long t3 = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            sum += getCount(map, CounterType.POISON) + getCount(map, CounterType.P1P1);
+        }
+        long t4 = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            sum += counters.getCount(CounterType.POISON) + counters.getCount(CounterType.P1P1);
+        }
+        long t5 = System.nanoTime();
+        Assert.assertTrue(sum >= 0);
+        if (print) {
+            System.out.println(name + ", copy: HashMap " + (t2 - t1) / RUNS + " ns, Counters " + (t3 - t2) / RUNS + " ns"
+                    + ", 2 lookups by type: HashMap " + (t4 - t3) / RUNS + " ns, Counters " + (t5 - t4) / RUNS + " ns");
+        }
+    }
+
+    private static HashMap<String, Counter> copy(HashMap<String, Counter> map) {
+        HashMap<String, Counter> copy = new HashMap<>();
+        for (Map.Entry<String, Counter> entry : map.entrySet()) {
+            copy.put(entry.getKey(), entry.getValue().copy());
+        }
+        return copy;
+    }
+
+    private static int getCount(HashMap<String, Counter> map, CounterType type) {
+        if (map.containsKey(type.getName())) {
+            return map.get(type.getName()).getCount();
+        }
+        return 0;
+    }
+
+    public static void main(String[] args) {
+        new CountersPerformanceTest().run();
+    }
+}
@@ -0,0 +1,62 @@
+package org.mage.test.serverside.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+import mage.game.Game;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Loads the same two decks into many games at once (as a server with many
+ * concurrent games does) and measures the heap used per game and per card.
+ *
+ * Only the predicate lists of filters are shared between the games, the
+ * abilities, effects, costs and targets of every card are still copied per
+ * game. For comparison: two 60 card decks of 13 different spells and Forests
+ * (card objects and one copy of each) used 680 KB per game with copied and 667
+ * KB per game with shared predicate lists (about 2% less).
+ */
+@Ignore
+public class GameHeapFootprintPerformanceTest extends CardTestPlayerBase {
+
+    public void run() throws Exception {
+        init();
+        createNewGameAndPlayers(); // loads the card classes and prototypes
+
+        int gameCount = 200;
+        List<Game> games = new ArrayList<>(gameCount);
+        long before = usedHeap();
+        long t1 = System.nanoTime();
+        for (int i = 0; i < gameCount; i++) {
+            games.add(createNewGameAndPlayers());
+        }
+        long t2 = System.nanoTime();
+        long after = usedHeap();
+
+        int cards = games.get(0).getCards().size();
+        long perGame = (after - before) / gameCount;
+        System.out.println(gameCount + " games loaded in " + (t2 - t1) / 1000000 + " ms");
+        System.out.println("heap per game: " + perGame / 1024 + " KB, per card: " + perGame / cards + " bytes (" + cards + " cards)");
+        Assert.assertEquals(gameCount, games.size());
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    public static void main(String[] args) {
+        GameHeapFootprintPerformanceTest test = new GameHeapFootprintPerformanceTest();
+        try {
+            test.run();
+        } catch (Exception e) {
+            e.printStackTrace();
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.mage.test.serverside.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+import mage.abilities.Ability;
+import mage.abilities.common.SimpleActivatedAbility;
+import mage.abilities.costs.common.TapSourceCost;
+import mage.abilities.costs.mana.GenericManaCost;
+import mage.abilities.effects.common.GainLifeEffect;
+import mage.constants.Zone;
+import mage.util.IdGenerator;
+import mage.util.IdUtil;
+import mage.util.ThreadLocalIdGenerator;
+import org.junit.Assert;
+import org.junit.Ignore;
+
+/**
+ * Creates and copies abilities in 16 threads at the same time, once with the
+ * ids created by {@link java.util.UUID#randomUUID()} and once with the ids
+ * created by a {@link ThreadLocalIdGenerator}.
+ */
+@Ignore
+public class IdGeneratorPerformanceTest {
+
+    private static final int THREADS = 16;
+    private static final int ABILITIES_PER_THREAD = 100000;
+
+    public void run() throws Exception {
+        IdGenerator defaultGenerator = IdUtil.getIdGenerator();
+        try {
+            // warm up
+            createAbilities(IdGenerator.RANDOM);
+            createAbilities(new ThreadLocalIdGenerator());
+
+            long random = createAbilities(IdGenerator.RANDOM);
+            long threadLocal = createAbilities(new ThreadLocalIdGenerator());
+            System.out.println(THREADS + " threads, " + ABILITIES_PER_THREAD + " abilities per thread");
+            System.out.println("UUID.randomUUID: " + random + " ms");
+            System.out.println("ThreadLocalIdGenerator: " + threadLocal + " ms");
+        } finally {
+            IdUtil.setIdGenerator(defaultGenerator);
+        }
+    }
+
+    private long createAbilities(IdGenerator idGenerator) throws InterruptedException {
+        IdUtil.setIdGenerator(idGenerator);
+        List<Thread> threads = new ArrayList<>();
+        int[] created = new int[THREADS];
+        for (int i = 0; i < THREADS; i++) {
+            int thread = i;
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < ABILITIES_PER_THREAD; j++) {
+                    Ability ability = new SimpleActivatedAbility(Zone.BATTLEFIELD, new GainLifeEffect(1), new GenericManaCost(1));
+                    ability.addCost(new TapSourceCost());
+                    ability = ability.copy();
+                    ability.newId();
+                    created[thread]++;
+                }
+            }));
+        }
+        long t1 = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long t2 = System.nanoTime();
+        for (int count : created) {
+            Assert.assertEquals(ABILITIES_PER_THREAD, count);
+        }
+        return (t2 - t1) / 1000000;
+    }
+
+    public static void main(String[] args) {
+        IdGeneratorPerformanceTest test = new IdGeneratorPerformanceTest();
+        try {
+            test.run();
+        } catch (Exception e) {
+            e.printStackTrace();
+            throw new RuntimeException(e);
+        }
+    }
+}
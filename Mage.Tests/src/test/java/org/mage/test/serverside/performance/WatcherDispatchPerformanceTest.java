@@ -0,0 +1,97 @@
+package org.mage.test.serverside.performance;
+
+import mage.constants.PhaseStep;
+import mage.constants.WatcherScope;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import mage.watchers.Watcher;
+import mage.watchers.Watchers;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Counts the watch calls of a few turns with combat and spells, compared to
+ * the calls that would be done if every watcher saw every event.
+ */
+@Ignore
+public class WatcherDispatchPerformanceTest extends CardTestPlayerBase {
+
+    // number of watched events, watch calls done and watch calls that would
+    // have been done without the event type index
+    private static long eventsWatched;
+    private static long watchCalls;
+    private static long watchCallsWithoutIndex;
+
+    public void run() throws Exception {
+        init();
+        reset();
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 4);
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Blood Artist");
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Soul Warden");
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 3);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", "Silvercoat Lion");
+        attack(1, playerA, "Grizzly Bears");
+        castSpell(3, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", "Soul Warden");
+        attack(3, playerA, "Grizzly Bears");
+        castSpell(5, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", playerB);
+
+        currentGame.getState().getWatchers().add(new CountingWatcher());
+
+        long t1 = System.nanoTime();
+        setStopAt(6, PhaseStep.END_TURN);
+        execute();
+        long t2 = System.nanoTime();
+
+        Watchers watchers = currentGame.getState().getWatchers();
+        System.out.println("watchers: " + watchers.size() + ", events: " + eventsWatched);
+        System.out.println("watch calls without index: " + watchCallsWithoutIndex);
+        System.out.println("watch calls with index:    " + watchCalls);
+        System.out.println("game: " + (t2 - t1) / 1000000 + " ms");
+
+        assertGraveyardCount(playerA, "Lightning Bolt", 3);
+        Assert.assertTrue(watchCalls <= watchCallsWithoutIndex);
+    }
+
+    /**
+     * Sees every event (no declared event types) and counts the watch calls
+     * done for it with and without the index
+     */
+    private static class CountingWatcher extends Watcher {
+
+        CountingWatcher() {
+            super("CountingWatcher", WatcherScope.GAME);
+        }
+
+        CountingWatcher(final CountingWatcher watcher) {
+            super(watcher);
+        }
+
+        @Override
+        public CountingWatcher copy() {
+            return new CountingWatcher(this);
+        }
+
+        @Override
+        public void watch(GameEvent event, Game game) {
+            Watchers watchers = game.getState().getWatchers();
+            eventsWatched++;
+            watchCalls += watchers.getWatcherCount(event.getType());
+            watchCallsWithoutIndex += watchers.size();
+        }
+    }
+
+    public static void main(String[] args) {
+        WatcherDispatchPerformanceTest test = new WatcherDispatchPerformanceTest();
+        try {
+            test.run();
+        } catch (Exception e) {
+            e.printStackTrace();
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.mage.test.token;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Tokens created together (for several players or with one amount) are put
+ * onto the battlefield at the same time with one application of the continuous
+ * effects, the enters the battlefield triggers and replacement effects still
+ * have to work for every single token.
+ */
+public class MassTokenCreationTest extends CardTestPlayerBase {
+
+    /**
+     * Death by Dragons: Each player other than target player creates a 5/5 red
+     * Dragon creature token with flying.
+     */
+    @Test
+    public void testTokensForSeveralPlayersWithTriggersAndReplacement() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 6);
+        addCard(Zone.HAND, playerA, "Death by Dragons");
+        // If an effect would create one or more tokens under your control, it creates twice that many of those tokens instead.
+        addCard(Zone.BATTLEFIELD, playerA, "Doubling Season");
+        // Whenever another creature enters the battlefield, you gain 1 life.
+        addCard(Zone.BATTLEFIELD, playerA, "Soul Warden");
+        addCard(Zone.BATTLEFIELD, playerB, "Soul Warden");
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Death by Dragons", playerB);
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        assertGraveyardCount(playerA, "Death by Dragons", 1);
+        assertPermanentCount(playerA, "Dragon", 2);
+        assertPermanentCount(playerB, "Dragon", 0);
+        assertPowerToughness(playerA, "Dragon", 5, 5);
+
+        assertLife(playerA, 22);
+        assertLife(playerB, 22);
+    }
+
+    /**
+     * Akroan Horse: At the beginning of combat on your turn, each opponent
+     * creates a 1/1 white Soldier creature token.
+     */
+    @Test
+    public void testTokensForOpponentsWithReplacement() {
+        addCard(Zone.BATTLEFIELD, playerA, "Akroan Horse");
+        addCard(Zone.BATTLEFIELD, playerA, "Soul Warden");
+        addCard(Zone.BATTLEFIELD, playerB, "Doubling Season");
+
+        setStopAt(1, PhaseStep.DECLARE_ATTACKERS);
+        execute();
+
+        assertPermanentCount(playerA, "Soldier", 0);
+        assertPermanentCount(playerB, "Soldier", 2);
+
+        assertLife(playerA, 22);
+    }
+
+    /**
+     * Kessig Cagebreakers: Whenever Kessig Cagebreakers attacks, create a 2/2
+     * green Wolf creature token that's tapped and attacking for each creature
+     * card in your graveyard.
+     */
+    @Test
+    public void testTokensCreatedWithOneAmountGetContinuousEffects() {
+        addCard(Zone.BATTLEFIELD, playerA, "Kessig Cagebreakers");
+        addCard(Zone.GRAVEYARD, playerA, "Grizzly Bears", 3);
+        // Creatures you control get +1/+1.
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem");
+        addCard(Zone.BATTLEFIELD, playerA, "Soul Warden");
+
+        attack(3, playerA, "Kessig Cagebreakers");
+
+        setStopAt(3, PhaseStep.END_COMBAT);
+        execute();
+
+        assertPermanentCount(playerA, "Wolf", 3);
+        assertPowerToughness(playerA, "Wolf", 3, 3);
+
+        // Kessig Cagebreakers 4 and 3 Wolves with 3 damage each
+        assertLife(playerB, 7);
+        assertLife(playerA, 23);
+    }
+}
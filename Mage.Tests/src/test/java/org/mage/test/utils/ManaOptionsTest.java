@@ -27,6 +27,7 @@
  */
 package org.mage.test.utils;
 
+import mage.Mana;
 import mage.abilities.mana.ManaOptions;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
@@ -354,6 +355,91 @@ public class ManaOptionsTest extends CardTestPlayerBase {
         Assert.assertEquals("{B}{B}", getManaOption(0, manaOptions));
     }
 
+    @Test
+    public void testManyDualLands() {
+        addCard(Zone.BATTLEFIELD, playerA, "Tundra", 20);
+
+        setStopAt(1, PhaseStep.UPKEEP);
+        execute();
+
+        ManaOptions manaOptions = playerA.getAvailableManaTest(currentGame);
+
+        Assert.assertEquals("mana variations don't fit", 21, manaOptions.size());
+        assertAllOptionsCount(20, manaOptions);
+    }
+
+    @Test
+    public void testManyTriLands() {
+        addCard(Zone.BATTLEFIELD, playerA, "Arcane Sanctum", 20);
+
+        setStopAt(1, PhaseStep.UPKEEP);
+        execute();
+
+        ManaOptions manaOptions = playerA.getAvailableManaTest(currentGame);
+
+        Assert.assertEquals("mana variations don't fit", 231, manaOptions.size());
+        assertAllOptionsCount(20, manaOptions);
+    }
+
+    @Test
+    public void testManyTriLandsOfAllColors() {
+        // 8281 combinations are possible, only the limit is kept
+        addCard(Zone.BATTLEFIELD, playerA, "Arcane Sanctum", 12);
+        addCard(Zone.BATTLEFIELD, playerA, "Jungle Shrine", 12);
+
+        setStopAt(1, PhaseStep.UPKEEP);
+        execute();
+
+        ManaOptions manaOptions = playerA.getAvailableManaTest(currentGame);
+
+        Assert.assertEquals("mana variations don't fit", ManaOptions.MAX_OPTIONS, manaOptions.size());
+        assertAllOptionsCount(24, manaOptions);
+    }
+
+    @Test
+    public void testCastSpellPayableOnlyWithCombinationOverLimit() {
+        // the combinations with eight green mana are not among the options with the most mana
+        addCard(Zone.BATTLEFIELD, playerA, "Arcane Sanctum", 12);
+        addCard(Zone.BATTLEFIELD, playerA, "Jungle Shrine", 12);
+        // Khalni Hydra costs {G} less to cast for each green creature you control.
+        addCard(Zone.HAND, playerA, "Khalni Hydra"); // {G}{G}{G}{G}{G}{G}{G}{G}
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Khalni Hydra");
+
+        setStopAt(1, PhaseStep.BEGIN_COMBAT);
+        execute();
+
+        assertPermanentCount(playerA, "Khalni Hydra", 1);
+    }
+
+    @Test
+    public void testAvailableManaChangesWithState() {
+        addCard(Zone.BATTLEFIELD, playerA, "Tundra", 3);
+
+        setStopAt(1, PhaseStep.UPKEEP);
+        execute();
+
+        ManaOptions manaOptions = playerA.getAvailableManaTest(currentGame);
+        Assert.assertEquals("mana variations don't fit", 4, manaOptions.size());
+        // the returned options can be changed without changing the next result
+        manaOptions.clear();
+        manaOptions = playerA.getAvailableManaTest(currentGame);
+        Assert.assertEquals("mana variations don't fit", 4, manaOptions.size());
+        assertAllOptionsCount(3, manaOptions);
+
+        getPermanent("Tundra", playerA).tap(currentGame);
+
+        manaOptions = playerA.getAvailableManaTest(currentGame);
+        Assert.assertEquals("mana variations don't fit", 3, manaOptions.size());
+        assertAllOptionsCount(2, manaOptions);
+    }
+
+    private void assertAllOptionsCount(int count, ManaOptions manaOptions) {
+        for (Mana mana : manaOptions) {
+            Assert.assertEquals("mana option " + mana, count, mana.count());
+        }
+    }
+
     // TODO
     // Test Calciform Pools combination mana lands
     private String getManaOption(int index, ManaOptions manaOptions) {
@@ -0,0 +1,65 @@
+package org.mage.test.utils;
+
+import java.util.List;
+import mage.abilities.Ability;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Checks that the playable abilities and cards of a player are reused within
+ * the same priority and checked again as soon as the game changes.
+ */
+public class PlayableCacheTest extends CardTestPlayerBase {
+
+    @Test
+    public void testPlayableInHandChangesWithState() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        Permanent mountain = getPermanent("Mountain", playerA);
+        Assert.assertEquals(1, playerA.getPlayableInHand(currentGame).size());
+        // the returned set can be changed without changing the next result
+        playerA.getPlayableInHand(currentGame).clear();
+        Assert.assertEquals(1, playerA.getPlayableInHand(currentGame).size());
+
+        mountain.tap(currentGame);
+        Assert.assertEquals("Lightning Bolt can't be cast without untapped Mountain", 0, playerA.getPlayableInHand(currentGame).size());
+
+        mountain.untap(currentGame);
+        Assert.assertEquals(1, playerA.getPlayableInHand(currentGame).size());
+    }
+
+    @Test
+    public void testPlayableChangesWithState() {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        List<Ability> playable = playerA.getPlayable(currentGame, true);
+        Assert.assertEquals(playable, playerA.getPlayable(currentGame, true));
+        Assert.assertNotSame(playable, playerA.getPlayable(currentGame, true));
+        Assert.assertTrue("Lightning Bolt has to be playable", containsAbilityOf("Lightning Bolt", playable));
+
+        getPermanent("Mountain", playerA).tap(currentGame);
+
+        Assert.assertFalse("Lightning Bolt can't be cast without untapped Mountain", containsAbilityOf("Lightning Bolt", playerA.getPlayable(currentGame, true)));
+    }
+
+    private boolean containsAbilityOf(String cardName, List<Ability> abilities) {
+        for (Ability ability : abilities) {
+            if (cardName.equals(currentGame.getObject(ability.getSourceId()).getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -27,7 +27,6 @@
  */
 package mage;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import mage.abilities.Abilities;
@@ -43,8 +42,11 @@ import mage.cards.FrameStyle;
 import mage.constants.CardType;
 import mage.game.Game;
 import mage.game.events.ZoneChangeEvent;
+import mage.util.CardTypeList;
 import mage.util.CardUtil;
 import mage.util.GameLog;
+import mage.util.IdUtil;
+import mage.util.TypeNameList;
 
 public abstract class MageObjectImpl implements MageObject {
 
@@ -55,9 +57,9 @@ public abstract class MageObjectImpl implements MageObject {
     protected ObjectColor color;
     protected ObjectColor frameColor;
     protected FrameStyle frameStyle;
-    protected List<CardType> cardType = new ArrayList<>();
-    protected List<String> subtype = new ArrayList<>();
-    protected List<String> supertype = new ArrayList<>();
+    protected List<CardType> cardType = new CardTypeList();
+    protected List<String> subtype = new TypeNameList();
+    protected List<String> supertype = new TypeNameList();
     protected Abilities<Ability> abilities;
     protected String text;
     protected MageInt power;
@@ -65,7 +67,7 @@ public abstract class MageObjectImpl implements MageObject {
     protected boolean copy;
 
     public MageObjectImpl() {
-        this(UUID.randomUUID());
+        this(IdUtil.newId());
     }
 
     public MageObjectImpl(UUID id) {
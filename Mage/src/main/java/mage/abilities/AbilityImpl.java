@@ -72,6 +72,7 @@ import mage.players.Player;
 import mage.target.Target;
 import mage.target.Targets;
 import mage.util.GameLog;
+import mage.util.IdUtil;
 import mage.util.ThreadLocalStringBuilder;
 import mage.watchers.Watcher;
 import org.apache.log4j.Logger;
@@ -113,7 +114,7 @@ public abstract class AbilityImpl implements Ability {
     protected boolean canFizzle = true;
 
     public AbilityImpl(AbilityType abilityType, Zone zone) {
-        this.id = UUID.randomUUID();
+        this.id = IdUtil.newId();
         this.originalId = id;
         this.abilityType = abilityType;
         this.zone = zone;
@@ -169,14 +170,14 @@ public abstract class AbilityImpl implements Ability {
     @Override
     public void newId() {
         if (!(this instanceof MageSingleton)) {
-            this.id = UUID.randomUUID();
+            this.id = IdUtil.newId();
         }
         getEffects().newId();
     }
 
     @Override
     public void newOriginalId() {
-        this.id = UUID.randomUUID();
+        this.id = IdUtil.newId();
         this.originalId = id;
         getEffects().newId();
     }
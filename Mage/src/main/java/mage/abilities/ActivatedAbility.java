@@ -63,5 +63,13 @@ public interface ActivatedAbility extends Ability {
      */
     void setCheckPlayableMode();
 
+    /**
+     * Sets or removes the flag, so the ability itself can be checked without
+     * creating a copy.
+     *
+     * @param checkPlayableMode
+     */
+    void setCheckPlayableMode(boolean checkPlayableMode);
+
     boolean isCheckPlayableMode();
 }
@@ -231,6 +231,10 @@ public abstract class ActivatedAbilityImpl extends AbilityImpl implements Activa
         return this.activatorId;
     }
 
+    public void setActivatorId(UUID activatorId) {
+        this.activatorId = activatorId;
+    }
+
     public TimingRule getTiming() {
         return timing;
     }
@@ -244,6 +248,11 @@ public abstract class ActivatedAbilityImpl extends AbilityImpl implements Activa
         checkPlayableMode = true;
     }
 
+    @Override
+    public void setCheckPlayableMode(boolean checkPlayableMode) {
+        this.checkPlayableMode = checkPlayableMode;
+    }
+
     @Override
     public boolean isCheckPlayableMode() {
         return checkPlayableMode;
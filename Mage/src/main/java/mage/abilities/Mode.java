@@ -31,6 +31,7 @@ import java.io.Serializable;
 import java.util.UUID;
 import mage.abilities.effects.Effects;
 import mage.target.Targets;
+import mage.util.IdUtil;
 
 /**
  *
@@ -43,7 +44,7 @@ public class Mode implements Serializable {
     protected Effects effects;
 
     public Mode() {
-        this.id = UUID.randomUUID();
+        this.id = IdUtil.newId();
         this.targets = new Targets();
         this.effects = new Effects();
     }
@@ -55,7 +56,7 @@ public class Mode implements Serializable {
     }
 
     public UUID setRandomId() {
-        return this.id = UUID.randomUUID();
+        return this.id = IdUtil.newId();
     }
 
     public Mode copy() {
@@ -40,6 +40,7 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.players.Player;
+import mage.util.IdUtil;
 
 /**
  *
@@ -160,7 +161,7 @@ public class SpellAbility extends ActivatedAbilityImpl {
 
     public SpellAbility copySpell() {
         SpellAbility spell = new SpellAbility(this);
-        spell.id = UUID.randomUUID();
+        spell.id = IdUtil.newId();
         return spell;
     }
 
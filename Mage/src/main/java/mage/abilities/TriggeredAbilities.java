@@ -29,11 +29,14 @@
 package mage.abilities;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import mage.MageObject;
@@ -42,6 +45,7 @@ import mage.constants.Zone;
 import mage.designations.Designation;
 import mage.game.Game;
 import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
 import mage.game.events.NumberOfTriggersEvent;
 import mage.game.permanent.Permanent;
 import mage.game.stack.Spell;
@@ -56,18 +60,119 @@ import mage.game.stack.Spell;
  */
 public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbility> {
 
+    /**
+     * Classes that declare the event types of their checkEventType method
+     * (getEventTypes is implemented by the same class that implements
+     * checkEventType or by a sub class of it)
+     */
+    private static final Map<Class<?>, Boolean> eventTypesDeclared = new ConcurrentHashMap<>();
+
     private final Map<String, List<UUID>> sources = new HashMap<>();
+    // the abilities by the event types they can trigger on (same keys as the map itself)
+    private final Map<EventType, Map<String, TriggeredAbility>> byEventType = new EnumMap<>(EventType.class);
+    // abilities that don't declare their event types, they are checked for every event
+    private final Map<String, TriggeredAbility> allEventTypes = new ConcurrentHashMap<>();
 
     public TriggeredAbilities() {
     }
 
     public TriggeredAbilities(final TriggeredAbilities abilities) {
         for (Map.Entry<String, TriggeredAbility> entry : abilities.entrySet()) {
-            this.put(entry.getKey(), entry.getValue().copy());
+            super.put(entry.getKey(), entry.getValue().copy());
         }
         for (Map.Entry<String, List<UUID>> entry : abilities.sources.entrySet()) {
             sources.put(entry.getKey(), entry.getValue());
         }
+        // the copied abilities have the same event types, so the index can be taken over by key
+        for (Map.Entry<EventType, Map<String, TriggeredAbility>> entry : abilities.byEventType.entrySet()) {
+            copyIndex(entry.getValue(), getEventTypeIndex(entry.getKey()));
+        }
+        copyIndex(abilities.allEventTypes, allEventTypes);
+    }
+
+    private void copyIndex(Map<String, TriggeredAbility> from, Map<String, TriggeredAbility> to) {
+        for (String key : from.keySet()) {
+            TriggeredAbility ability = this.get(key);
+            if (ability != null) {
+                to.put(key, ability);
+            }
+        }
+    }
+
+    @Override
+    public TriggeredAbility put(String key, TriggeredAbility ability) {
+        TriggeredAbility oldAbility = super.put(key, ability);
+        if (oldAbility != null) {
+            removeFromIndex(key, oldAbility);
+        }
+        addToIndex(key, ability);
+        return oldAbility;
+    }
+
+    @Override
+    public TriggeredAbility remove(Object key) {
+        TriggeredAbility oldAbility = super.remove(key);
+        if (oldAbility != null) {
+            removeFromIndex((String) key, oldAbility);
+        }
+        return oldAbility;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        byEventType.clear();
+        allEventTypes.clear();
+    }
+
+    private void addToIndex(String key, TriggeredAbility ability) {
+        Set<EventType> eventTypes = getDeclaredEventTypes(ability);
+        if (eventTypes == null) {
+            allEventTypes.put(key, ability);
+        } else {
+            for (EventType eventType : eventTypes) {
+                getEventTypeIndex(eventType).put(key, ability);
+            }
+        }
+    }
+
+    private void removeFromIndex(String key, TriggeredAbility ability) {
+        Set<EventType> eventTypes = getDeclaredEventTypes(ability);
+        if (eventTypes == null) {
+            allEventTypes.remove(key);
+        } else {
+            for (EventType eventType : eventTypes) {
+                Map<String, TriggeredAbility> index = byEventType.get(eventType);
+                if (index != null) {
+                    index.remove(key);
+                }
+            }
+        }
+    }
+
+    private Map<String, TriggeredAbility> getEventTypeIndex(EventType eventType) {
+        Map<String, TriggeredAbility> index = byEventType.get(eventType);
+        if (index == null) {
+            index = new ConcurrentHashMap<>();
+            byEventType.put(eventType, index);
+        }
+        return index;
+    }
+
+    private static Set<EventType> getDeclaredEventTypes(TriggeredAbility ability) {
+        Class<?> abilityClass = ability.getClass();
+        Boolean declared = eventTypesDeclared.get(abilityClass);
+        if (declared == null) {
+            try {
+                Class<?> checkClass = abilityClass.getMethod("checkEventType", GameEvent.class, Game.class).getDeclaringClass();
+                Class<?> declareClass = abilityClass.getMethod("getEventTypes").getDeclaringClass();
+                declared = checkClass.isAssignableFrom(declareClass);
+            } catch (NoSuchMethodException ex) {
+                declared = false;
+            }
+            eventTypesDeclared.put(abilityClass, declared);
+        }
+        return declared ? ability.getEventTypes() : null;
     }
 
     public void checkStateTriggers(Game game) {
@@ -80,7 +185,15 @@ public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbili
     }
 
     public void checkTriggers(GameEvent event, Game game) {
-        for (Iterator<TriggeredAbility> it = this.values().iterator(); it.hasNext();) {
+        Map<String, TriggeredAbility> index = byEventType.get(event.getType());
+        if (index != null) {
+            checkTriggers(index.values(), event, game);
+        }
+        checkTriggers(allEventTypes.values(), event, game);
+    }
+
+    private void checkTriggers(Collection<TriggeredAbility> abilities, GameEvent event, Game game) {
+        for (Iterator<TriggeredAbility> it = abilities.iterator(); it.hasNext();) {
             TriggeredAbility ability = it.next();
             if (ability.checkEventType(event, game)) {
                 checkTrigger(ability, event, game);
@@ -102,7 +215,7 @@ public class TriggeredAbilities extends ConcurrentHashMap<String, TriggeredAbili
                             //                            && ((ZoneChangeEvent) event).getFromZone().equals(Zone.BATTLEFIELD))
                             //                            || event.getType().equals(EventType.DESTROYED_PERMANENT)
                             //                            || event.getType().equals(EventType.SACRIFICED_PERMANENT))
-                            && game.getLKI().get(Zone.BATTLEFIELD) != null && game.getLKI().get(Zone.BATTLEFIELD).containsKey(ability.getSourceId())) {
+                            && game.getLKI().contains(ability.getSourceId(), Zone.BATTLEFIELD)) {
                         // need to check if object was face down for dies and destroy events because the ability triggers in the new zone, zone counter -1 is used
                         Permanent permanent = (Permanent) game.getLastKnownInformation(ability.getSourceId(), Zone.BATTLEFIELD, ability.getSourceObjectZoneChangeCounter() - 1);
                         if (permanent != null) {
@@ -27,9 +27,11 @@
  */
 package mage.abilities;
 
+import java.util.Set;
 import java.util.UUID;
 import mage.game.Game;
 import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
 
 /**
  *
@@ -50,6 +52,15 @@ public interface TriggeredAbility extends Ability {
      */
     boolean checkEventType(GameEvent event, Game game);
 
+    /**
+     * Returns all event types checkEventType can return true for. This is
+     * used to check the triggered ability only for events of these types.
+     * Abilities that return null are checked for every event.
+     *
+     * @return the event types or null if not known
+     */
+    Set<EventType> getEventTypes();
+
     boolean checkTrigger(GameEvent event, Game game);
 
     boolean checkInterveningIfClause(Game game);
@@ -28,6 +28,8 @@
 
 package mage.abilities.abilityword;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.CardType;
@@ -62,6 +64,11 @@ public class ConstellationAbility extends TriggeredAbilityImpl {
         return new ConstellationAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ENTERS_THE_BATTLEFIELD;
@@ -28,6 +28,8 @@
 
 package mage.abilities.abilityword;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.Mode;
 import mage.abilities.TriggeredAbilityImpl;
@@ -75,6 +77,11 @@ public class KinshipAbility extends TriggeredAbilityImpl {
         return new KinshipAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.UPKEEP_STEP_PRE);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.UPKEEP_STEP_PRE;
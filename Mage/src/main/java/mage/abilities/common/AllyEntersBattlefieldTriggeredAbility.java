@@ -27,6 +27,8 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.Zone;
@@ -48,6 +50,11 @@ public class AllyEntersBattlefieldTriggeredAbility extends TriggeredAbilityImpl
         super(ability);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ENTERS_THE_BATTLEFIELD;
@@ -27,6 +27,8 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
@@ -67,6 +69,11 @@ public class AttackedByCreatureTriggeredAbility extends TriggeredAbilityImpl {
         this.setTargetPointer = ability.setTargetPointer;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ATTACKER_DECLARED);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ATTACKER_DECLARED;
@@ -27,6 +27,8 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
@@ -78,6 +80,11 @@ public class AttacksAllTriggeredAbility extends TriggeredAbilityImpl {
         this.controller = ability.controller;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ATTACKER_DECLARED);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ATTACKER_DECLARED;
@@ -27,6 +27,8 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
@@ -55,6 +57,11 @@ public class AttacksAloneTriggeredAbility extends TriggeredAbilityImpl {
         return new AttacksAloneTriggeredAbility(this);
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.DECLARED_ATTACKERS);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == EventType.DECLARED_ATTACKERS;
@@ -28,6 +28,8 @@
 
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.Zone;
@@ -65,6 +67,11 @@ public class AttacksAndIsNotBlockedTriggeredAbility extends TriggeredAbilityImpl
         return new AttacksAndIsNotBlockedTriggeredAbility(this);
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.DECLARED_BLOCKERS);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == EventType.DECLARED_BLOCKERS;
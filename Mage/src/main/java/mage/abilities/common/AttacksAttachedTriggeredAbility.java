@@ -27,6 +27,8 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.AttachmentType;
@@ -67,6 +69,11 @@ public class AttacksAttachedTriggeredAbility extends TriggeredAbilityImpl {
         return new AttacksAttachedTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ATTACKER_DECLARED);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ATTACKER_DECLARED;
@@ -2,6 +2,8 @@
 
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.Zone;
@@ -24,6 +26,11 @@ public class AttacksOrBlocksEnchantedTriggeredAbility extends TriggeredAbilityIm
         return new AttacksOrBlocksEnchantedTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ATTACKER_DECLARED, GameEvent.EventType.BLOCKER_DECLARED);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ATTACKER_DECLARED || event.getType() == GameEvent.EventType.BLOCKER_DECLARED;
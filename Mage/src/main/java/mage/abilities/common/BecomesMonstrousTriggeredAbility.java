@@ -5,6 +5,8 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.Zone;
@@ -35,6 +37,11 @@ public class BecomesMonstrousTriggeredAbility extends TriggeredAbilityImpl {
         return new BecomesMonstrousTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BECOMES_MONSTROUS);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.BECOMES_MONSTROUS;
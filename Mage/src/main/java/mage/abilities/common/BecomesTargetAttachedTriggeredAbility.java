@@ -27,6 +27,8 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.Zone;
@@ -62,6 +64,11 @@ public class BecomesTargetAttachedTriggeredAbility extends TriggeredAbilityImpl
         return new BecomesTargetAttachedTriggeredAbility(this);
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.TARGETED);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == EventType.TARGETED;
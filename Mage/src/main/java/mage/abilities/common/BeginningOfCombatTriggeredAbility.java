@@ -1,5 +1,7 @@
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.TargetController;
@@ -34,6 +36,11 @@ public class BeginningOfCombatTriggeredAbility extends TriggeredAbilityImpl {
         return new BeginningOfCombatTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BEGIN_COMBAT_STEP_PRE);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.BEGIN_COMBAT_STEP_PRE;
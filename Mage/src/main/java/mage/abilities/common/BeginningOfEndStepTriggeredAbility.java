@@ -27,6 +27,8 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.condition.Condition;
 import mage.abilities.effects.Effect;
@@ -64,6 +66,11 @@ public class BeginningOfEndStepTriggeredAbility extends TriggeredAbilityImpl {
         return new BeginningOfEndStepTriggeredAbility(this);
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.END_TURN_STEP_PRE);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == EventType.END_TURN_STEP_PRE;
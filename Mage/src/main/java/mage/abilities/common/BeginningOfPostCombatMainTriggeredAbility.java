@@ -5,6 +5,8 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.TargetController;
@@ -47,6 +49,11 @@ public class BeginningOfPostCombatMainTriggeredAbility extends TriggeredAbilityI
         return new BeginningOfPostCombatMainTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.POSTCOMBAT_MAIN_PHASE_PRE);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.POSTCOMBAT_MAIN_PHASE_PRE;
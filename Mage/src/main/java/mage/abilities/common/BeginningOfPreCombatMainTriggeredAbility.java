@@ -4,6 +4,8 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.TargetController;
@@ -43,6 +45,11 @@ public class BeginningOfPreCombatMainTriggeredAbility extends TriggeredAbilityIm
         return new BeginningOfPreCombatMainTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.PRECOMBAT_MAIN_PHASE_PRE);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.PRECOMBAT_MAIN_PHASE_PRE;
@@ -1,5 +1,7 @@
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.Zone;
@@ -25,6 +27,11 @@ public class BeginningOfYourEndStepTriggeredAbility extends TriggeredAbilityImpl
         return new BeginningOfYourEndStepTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.END_TURN_STEP_PRE);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.END_TURN_STEP_PRE;
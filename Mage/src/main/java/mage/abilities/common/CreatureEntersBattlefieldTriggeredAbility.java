@@ -27,6 +27,8 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.constants.Zone;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
@@ -111,6 +113,11 @@ public class CreatureEntersBattlefieldTriggeredAbility extends TriggeredAbilityI
         this.filter = ability.filter;
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == EventType.ENTERS_THE_BATTLEFIELD;
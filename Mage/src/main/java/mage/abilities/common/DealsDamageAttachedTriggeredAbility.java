@@ -5,6 +5,8 @@
  */
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.Zone;
@@ -32,6 +34,11 @@ public class DealsDamageAttachedTriggeredAbility extends TriggeredAbilityImpl {
         return new DealsDamageAttachedTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_CREATURE, GameEvent.EventType.DAMAGED_PLAYER, GameEvent.EventType.DAMAGED_PLANESWALKER);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType().equals(GameEvent.EventType.DAMAGED_CREATURE)
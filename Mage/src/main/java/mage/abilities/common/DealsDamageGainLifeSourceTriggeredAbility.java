@@ -28,6 +28,8 @@
 
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
@@ -57,6 +59,11 @@ public class DealsDamageGainLifeSourceTriggeredAbility extends TriggeredAbilityI
     public DealsDamageGainLifeSourceTriggeredAbility copy() {
         return new DealsDamageGainLifeSourceTriggeredAbility(this);
     }
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_CREATURE, GameEvent.EventType.DAMAGED_PLAYER, GameEvent.EventType.DAMAGED_PLANESWALKER);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.DAMAGED_CREATURE
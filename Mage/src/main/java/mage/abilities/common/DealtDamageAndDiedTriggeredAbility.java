@@ -1,5 +1,7 @@
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.MageObjectReference;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
@@ -29,6 +31,11 @@ public class DealtDamageAndDiedTriggeredAbility extends TriggeredAbilityImpl {
         return new DealtDamageAndDiedTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
@@ -52,6 +52,7 @@ import mage.game.permanent.Permanent;
 import mage.target.Target;
 import mage.target.common.TargetCreaturePermanent;
 import mage.target.targetpointer.FixedTarget;
+import mage.util.IdUtil;
 
 /**
  *
@@ -99,7 +100,7 @@ class LicidEffect extends OneShotEffect {
     public boolean apply(Game game, Ability source) {
         Permanent licid = (Permanent) source.getSourceObjectIfItStillExists(game);
         if (licid != null) {
-            UUID messageId = UUID.randomUUID();
+            UUID messageId = IdUtil.newId();
             LicidContinuousEffect effect = new LicidContinuousEffect(messageId);
             effect.setTargetPointer(new FixedTarget(licid.getId()));
             game.addEffect(effect, source);
@@ -6,6 +6,8 @@
 
 package mage.abilities.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.effects.Effect;
 import mage.constants.Zone;
@@ -48,6 +50,11 @@ public class TurnedFaceUpSourceTriggeredAbility extends TriggeredAbilityImpl {
         return new TurnedFaceUpSourceTriggeredAbility(this);
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.TURNEDFACEUP);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == EventType.TURNEDFACEUP;
@@ -1,5 +1,7 @@
 package mage.abilities.common.delayed;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.DelayedTriggeredAbility;
 import mage.abilities.effects.Effect;
 import mage.game.Game;
@@ -19,6 +21,11 @@ public class AtTheBeginOfCombatDelayedTriggeredAbility extends DelayedTriggeredA
         return new AtTheBeginOfCombatDelayedTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.COMBAT_PHASE_PRE);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.COMBAT_PHASE_PRE;
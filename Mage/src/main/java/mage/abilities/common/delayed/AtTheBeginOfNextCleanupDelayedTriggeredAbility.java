@@ -6,6 +6,8 @@
 
 package mage.abilities.common.delayed;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.DelayedTriggeredAbility;
 import mage.abilities.effects.Effect;
 import mage.constants.Duration;
@@ -36,6 +38,11 @@ public class AtTheBeginOfNextCleanupDelayedTriggeredAbility extends DelayedTrigg
         return new AtTheBeginOfNextCleanupDelayedTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CLEANUP_STEP_PRE);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.CLEANUP_STEP_PRE;
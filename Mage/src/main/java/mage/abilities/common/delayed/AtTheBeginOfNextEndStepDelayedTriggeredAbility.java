@@ -27,6 +27,8 @@
  */
 package mage.abilities.common.delayed;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.DelayedTriggeredAbility;
 import mage.abilities.effects.Effect;
 import mage.constants.TargetController;
@@ -62,6 +64,11 @@ public class AtTheBeginOfNextEndStepDelayedTriggeredAbility extends DelayedTrigg
         this.targetController = ability.targetController;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.END_TURN_STEP_PRE);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.END_TURN_STEP_PRE;
@@ -27,6 +27,8 @@
  */
 package mage.abilities.common.delayed;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.DelayedTriggeredAbility;
 import mage.abilities.effects.Effect;
 import mage.constants.Duration;
@@ -57,6 +59,11 @@ public class AtTheBeginOfNextUpkeepDelayedTriggeredAbility extends DelayedTrigge
         return new AtTheBeginOfNextUpkeepDelayedTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.UPKEEP_STEP_PRE);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.UPKEEP_STEP_PRE;
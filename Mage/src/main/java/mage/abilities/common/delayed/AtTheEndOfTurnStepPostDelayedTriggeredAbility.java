@@ -27,6 +27,8 @@
  */
 package mage.abilities.common.delayed;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.DelayedTriggeredAbility;
 import mage.abilities.effects.Effect;
 import mage.game.Game;
@@ -56,6 +58,11 @@ public class AtTheEndOfTurnStepPostDelayedTriggeredAbility extends DelayedTrigge
         return new AtTheEndOfTurnStepPostDelayedTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.END_TURN_STEP_POST);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.END_TURN_STEP_POST;
@@ -27,7 +27,9 @@
  */
 package mage.abilities.common.delayed;
 
+import java.util.EnumSet;
 import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObject;
 import mage.abilities.Ability;
@@ -68,6 +70,11 @@ public class OnLeaveReturnExiledToBattlefieldAbility extends DelayedTriggeredAbi
         return new OnLeaveReturnExiledToBattlefieldAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
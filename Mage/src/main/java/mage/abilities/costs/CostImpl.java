@@ -32,6 +32,7 @@ import mage.abilities.Ability;
 import mage.game.Game;
 import mage.target.Target;
 import mage.target.Targets;
+import mage.util.IdUtil;
 
 public abstract class CostImpl implements Cost {
 
@@ -41,7 +42,7 @@ public abstract class CostImpl implements Cost {
     protected Targets targets;
 
     public CostImpl() {
-        id = UUID.randomUUID();
+        id = IdUtil.newId();
         paid = false;
         targets = new Targets();
     }
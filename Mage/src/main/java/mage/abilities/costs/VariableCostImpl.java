@@ -33,6 +33,7 @@ import mage.game.Game;
 import mage.players.Player;
 import mage.target.Target;
 import mage.target.Targets;
+import mage.util.IdUtil;
 
 /**
  *
@@ -59,7 +60,7 @@ public abstract class VariableCostImpl implements Cost, VariableCost {
      * from your graveyard")
      */
     public VariableCostImpl(String xText, String actionText) {
-        id = UUID.randomUUID();
+        id = IdUtil.newId();
         paid = false;
         targets = new Targets();
         amountPaid = 0;
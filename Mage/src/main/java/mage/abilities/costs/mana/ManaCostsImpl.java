@@ -28,10 +28,11 @@
 package mage.abilities.costs.mana;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import mage.Mana;
 import mage.abilities.Ability;
 import mage.abilities.costs.Cost;
@@ -43,6 +44,7 @@ import mage.game.Game;
 import mage.players.ManaPool;
 import mage.players.Player;
 import mage.target.Targets;
+import mage.util.IdUtil;
 import mage.util.ManaUtil;
 
 /**
@@ -54,14 +56,15 @@ public class ManaCostsImpl<T extends ManaCost> extends ArrayList<T> implements M
     protected UUID id;
     protected String text = null;
 
-    private static Map<String, ManaCosts> costs = new HashMap<>();
+    // parsed costs of the mana cost strings, shared by all games
+    private static final Map<String, List<ManaCost>> costs = new ConcurrentHashMap<>();
 
     public ManaCostsImpl() {
-        this.id = UUID.randomUUID();
+        this.id = IdUtil.newId();
     }
 
     public ManaCostsImpl(String mana) {
-        this.id = UUID.randomUUID();
+        this.id = IdUtil.newId();
         load(mana);
     }
 
@@ -314,52 +317,61 @@ public class ManaCostsImpl<T extends ManaCost> extends ArrayList<T> implements M
     @Override
     public final void load(String mana) {
         this.clear();
-        if (costs.containsKey(mana)) {
-            ManaCosts<ManaCost> savedCosts = costs.get(mana);
-            for (ManaCost cost : savedCosts) {
-                this.add(cost.copy());
-            }
-        } else {
-            if (mana == null || mana.isEmpty()) {
-                return;
-            }
-            String[] symbols = mana.split("^\\{|\\}\\{|\\}$");
-            int modifierForX = 0;
-            for (String symbol : symbols) {
-                if (symbol.length() > 0) {
-                    if (symbol.length() == 1 || isNumeric(symbol)) {
-                        if (Character.isDigit(symbol.charAt(0))) {
-                            this.add(new GenericManaCost(Integer.valueOf(symbol)));
-                        } else if (symbol.equals("S")) {
-                            this.add(new SnowManaCost());
-                        } else if (symbol.equals("C")) {
-                            this.add(new ColorlessManaCost(1));
-                        } else if (!symbol.equals("X")) {
-                            this.add(new ColoredManaCost(ColoredManaSymbol.lookup(symbol.charAt(0))));
-                        } else // check X wasn't added before
-                        if (modifierForX == 0) {
-                            // count X occurence
-                            for (String s : symbols) {
-                                if (s.equals("X")) {
-                                    modifierForX++;
-                                }
+        if (mana == null || mana.isEmpty()) {
+            return;
+        }
+        List<ManaCost> parsedCosts = costs.computeIfAbsent(mana, ManaCostsImpl::parse);
+        this.ensureCapacity(parsedCosts.size());
+        for (ManaCost cost : parsedCosts) {
+            this.add(cost.copy());
+        }
+    }
+
+    /**
+     * Parses the mana symbols of a mana cost string. The returned costs are
+     * shared by all games, so they must never be changed, only copied.
+     *
+     * @param mana
+     * @return
+     */
+    private static List<ManaCost> parse(String mana) {
+        List<ManaCost> parsedCosts = new ArrayList<>();
+        String[] symbols = mana.split("^\\{|\\}\\{|\\}$");
+        int modifierForX = 0;
+        for (String symbol : symbols) {
+            if (symbol.length() > 0) {
+                if (symbol.length() == 1 || isNumeric(symbol)) {
+                    if (Character.isDigit(symbol.charAt(0))) {
+                        parsedCosts.add(new GenericManaCost(Integer.valueOf(symbol)));
+                    } else if (symbol.equals("S")) {
+                        parsedCosts.add(new SnowManaCost());
+                    } else if (symbol.equals("C")) {
+                        parsedCosts.add(new ColorlessManaCost(1));
+                    } else if (!symbol.equals("X")) {
+                        parsedCosts.add(new ColoredManaCost(ColoredManaSymbol.lookup(symbol.charAt(0))));
+                    } else // check X wasn't added before
+                    if (modifierForX == 0) {
+                        // count X occurence
+                        for (String s : symbols) {
+                            if (s.equals("X")) {
+                                modifierForX++;
                             }
-                            this.add(new VariableManaCost(modifierForX));
-                        } //TODO: handle multiple {X} and/or {Y} symbols
-                    } else if (Character.isDigit(symbol.charAt(0))) {
-                        this.add(new MonoHybridManaCost(ColoredManaSymbol.lookup(symbol.charAt(2))));
-                    } else if (symbol.contains("P")) {
-                        this.add(new PhyrexianManaCost(ColoredManaSymbol.lookup(symbol.charAt(0))));
-                    } else {
-                        this.add(new HybridManaCost(ColoredManaSymbol.lookup(symbol.charAt(0)), ColoredManaSymbol.lookup(symbol.charAt(2))));
-                    }
+                        }
+                        parsedCosts.add(new VariableManaCost(modifierForX));
+                    } //TODO: handle multiple {X} and/or {Y} symbols
+                } else if (Character.isDigit(symbol.charAt(0))) {
+                    parsedCosts.add(new MonoHybridManaCost(ColoredManaSymbol.lookup(symbol.charAt(2))));
+                } else if (symbol.contains("P")) {
+                    parsedCosts.add(new PhyrexianManaCost(ColoredManaSymbol.lookup(symbol.charAt(0))));
+                } else {
+                    parsedCosts.add(new HybridManaCost(ColoredManaSymbol.lookup(symbol.charAt(0)), ColoredManaSymbol.lookup(symbol.charAt(2))));
                 }
             }
-            costs.put(mana, this.copy());
         }
+        return Collections.unmodifiableList(parsedCosts);
     }
 
-    private boolean isNumeric(String symbol) {
+    private static boolean isNumeric(String symbol) {
         try {
             Integer.parseInt(symbol);
             return true;
@@ -28,6 +28,8 @@
 
 package mage.abilities.effects;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.MageObject;
 import mage.abilities.Ability;
 import mage.abilities.Mode;
@@ -62,6 +64,11 @@ public class AsTurnedFaceUpEffect extends ReplacementEffectImpl {
         baseEffects.add(effect);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TURNFACEUP);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.TURNFACEUP;
@@ -27,6 +27,8 @@
  */
 package mage.abilities.effects;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObject;
 import mage.abilities.Ability;
@@ -197,6 +199,11 @@ public class AuraReplacementEffect extends ReplacementEffectImpl {
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
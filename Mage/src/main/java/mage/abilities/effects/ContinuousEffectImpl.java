@@ -49,6 +49,7 @@ import mage.constants.Outcome;
 import mage.constants.SubLayer;
 import mage.game.Game;
 import mage.players.Player;
+import mage.util.IdUtil;
 
 /**
  *
@@ -139,7 +140,7 @@ public abstract class ContinuousEffectImpl extends EffectImpl implements Continu
     @Override
     public void newId() {
         if (!(this instanceof MageSingleton)) {
-            this.id = UUID.randomUUID();
+            this.id = IdUtil.newId();
         }
     }
 
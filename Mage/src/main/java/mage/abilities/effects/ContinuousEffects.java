@@ -38,7 +38,6 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
 import mage.MageObject;
@@ -111,6 +110,10 @@ public class ContinuousEffects implements Serializable {
 
     private final ContinuousEffectSorter sorter = new ContinuousEffectSorter();
 
+    // dependencies of the effects of a layer, cleared if layered effects are added or removed
+    private final Map<Layer, LayerDependencies> layerDependencies = new EnumMap<>(Layer.class);
+    private long layerDependenciesVersion = -1;
+
     public ContinuousEffects() {
         applyCounters = new ApplyCountersEffect();
         planeswalkerRedirectionEffect = new PlaneswalkerRedirectionEffect();
@@ -138,6 +141,8 @@ public class ContinuousEffects implements Serializable {
         temporaryEffects.putAll(effect.temporaryEffects);
         collectAllEffects();
         order = effect.order;
+        layerDependencies.putAll(effect.layerDependencies);
+        layerDependenciesVersion = effect.layerDependenciesVersion;
     }
 
     private void collectAllEffects() {
@@ -210,28 +215,40 @@ public class ContinuousEffects implements Serializable {
         spliceCardEffects.removeInactiveEffects(game);
     }
 
+    /**
+     * Returns a number that is changed by every change of the effects (added
+     * or removed effects or connected abilities). Copies have the same
+     * version.
+     *
+     * @return
+     */
+    public long getVersion() {
+        long version = 0;
+        for (ContinuousEffectsList<?> effectsList : allEffectsLists) {
+            version += effectsList.getVersion();
+        }
+        return version;
+    }
+
+    /**
+     * @return true if an effect was discarded and not yet removed
+     */
+    public boolean hasDiscardedEffects() {
+        for (ContinuousEffectsList<?> effectsList : allEffectsLists) {
+            for (ContinuousEffect effect : effectsList) {
+                if (effect.isDiscarded()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     public List<ContinuousEffect> getLayeredEffects(Game game) {
         List<ContinuousEffect> layerEffects = new ArrayList<>();
         for (ContinuousEffect effect : layeredEffects) {
-            switch (effect.getDuration()) {
-                case WhileOnBattlefield:
-                case WhileOnStack:
-                case WhileInGraveyard:
-                    HashSet<Ability> abilities = layeredEffects.getAbility(effect.getId());
-                    if (abilities != null) {
-                        for (Ability ability : abilities) {
-                            // If e.g. triggerd abilities (non static) created the effect, the ability must not be in usable zone (e.g. Unearth giving Haste effect)
-                            if (!(ability instanceof StaticAbility) || ability.isInUseableZone(game, null, null)) {
-                                layerEffects.add(effect);
-                                break;
-                            }
-                        }
-                    } else {
-                        logger.error("No abilities for continuous effect: " + effect.toString());
-                    }
-                    break;
-                default:
-                    layerEffects.add(effect);
+            if (isActive(effect, game)) {
+                layerEffects.add(effect);
             }
         }
 
@@ -241,6 +258,28 @@ public class ContinuousEffects implements Serializable {
         return layerEffects;
     }
 
+    private boolean isActive(ContinuousEffect effect, Game game) {
+        switch (effect.getDuration()) {
+            case WhileOnBattlefield:
+            case WhileOnStack:
+            case WhileInGraveyard:
+                HashSet<Ability> abilities = layeredEffects.getAbility(effect.getId());
+                if (abilities != null) {
+                    for (Ability ability : abilities) {
+                        // If e.g. triggerd abilities (non static) created the effect, the ability must not be in usable zone (e.g. Unearth giving Haste effect)
+                        if (!(ability instanceof StaticAbility) || ability.isInUseableZone(game, null, null)) {
+                            return true;
+                        }
+                    }
+                } else {
+                    logger.error("No abilities for continuous effect: " + effect.toString());
+                }
+                return false;
+            default:
+                return true;
+        }
+    }
+
     /**
      * Initially effect timestamp is set when game starts in game.loadCard
      * method. After that timestamp should be updated whenever effect becomes
@@ -265,14 +304,39 @@ public class ContinuousEffects implements Serializable {
         effect.setOrder(order++);
     }
 
-    private List<ContinuousEffect> filterLayeredEffects(List<ContinuousEffect> effects, Layer layer) {
-        List<ContinuousEffect> layerEffects = new ArrayList<>();
+    /**
+     * Sorts the effects into one bucket per layer (keeping the timestamp
+     * order), so the effects are only checked once for all layers.
+     *
+     * @param effects
+     * @return
+     */
+    private Map<Layer, List<ContinuousEffect>> getEffectsByLayer(List<ContinuousEffect> effects) {
+        Map<Layer, List<ContinuousEffect>> effectsByLayer = new EnumMap<>(Layer.class);
+        for (Layer layer : Layer.values()) {
+            effectsByLayer.put(layer, new ArrayList<>());
+        }
         for (ContinuousEffect effect : effects) {
-            if (effect.hasLayer(layer)) {
-                layerEffects.add(effect);
+            for (Map.Entry<Layer, List<ContinuousEffect>> entry : effectsByLayer.entrySet()) {
+                if (effect.hasLayer(entry.getKey())) {
+                    entry.getValue().add(effect);
+                }
             }
         }
-        return layerEffects;
+        return effectsByLayer;
+    }
+
+    private LayerDependencies getLayerDependencies(Layer layer, List<ContinuousEffect> effects, boolean checkDependencies) {
+        if (layerDependenciesVersion != layeredEffects.getVersion()) {
+            layerDependencies.clear();
+            layerDependenciesVersion = layeredEffects.getVersion();
+        }
+        LayerDependencies dependencies = layerDependencies.get(layer);
+        if (dependencies == null || !dependencies.isFor(effects)) {
+            dependencies = new LayerDependencies(effects, checkDependencies);
+            layerDependencies.put(layer, dependencies);
+        }
+        return dependencies;
     }
 
     public HashMap<RequirementEffect, HashSet<Ability>> getApplicableRequirementEffects(Permanent permanent, Game game) {
@@ -333,7 +397,7 @@ public class ContinuousEffects implements Serializable {
     }
 
     public boolean checkIfThereArePayCostToAttackBlockEffects(GameEvent event, Game game) {
-        for (ReplacementEffect effect : replacementEffects) {
+        for (ReplacementEffect effect : replacementEffects.getEffects(event.getType())) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -374,7 +438,7 @@ public class ContinuousEffects implements Serializable {
         }
         // boolean checkLKI = event.getType().equals(EventType.ZONE_CHANGE) || event.getType().equals(EventType.DESTROYED_PERMANENT);
         //get all applicable transient Replacement effects
-        for (ReplacementEffect effect : replacementEffects) {
+        for (ReplacementEffect effect : replacementEffects.getEffects(event.getType())) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -403,7 +467,7 @@ public class ContinuousEffects implements Serializable {
                 replaceEffects.put(effect, applicableAbilities);
             }
         }
-        for (PreventionEffect effect : preventionEffects) {
+        for (PreventionEffect effect : preventionEffects.getEffects(event.getType())) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -603,6 +667,27 @@ public class ContinuousEffects implements Serializable {
         return asThoughEffectsList;
     }
 
+    /**
+     * Checks if any {@link CostModificationEffect cost modification effect}
+     * applies to the ability, without changing the ability.
+     *
+     * @param abilityToModify
+     * @param game
+     * @return false if
+     * {@link #costModification(mage.abilities.Ability, mage.game.Game)} would
+     * not change the costs of the ability
+     */
+    public boolean hasCostModification(Ability abilityToModify, Game game) {
+        for (CostModificationEffect effect : getApplicableCostModificationEffects(game)) {
+            for (Ability ability : costModificationEffects.getAbility(effect.getId())) {
+                if (effect.applies(abilityToModify, ability, game)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * 601.2e The player determines the total cost of the spell. Usually this is
      * just the mana cost. Some spells have additional or alternative costs.
@@ -734,7 +819,7 @@ public class ContinuousEffects implements Serializable {
      * @return
      */
     public boolean preventedByRuleModification(GameEvent event, Ability targetAbility, Game game, boolean checkPlayableMode) {
-        for (ContinuousRuleModifyingEffect effect : continuousRuleModifyingEffects) {
+        for (ContinuousRuleModifyingEffect effect : continuousRuleModifyingEffects.getEffects(event.getType())) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -890,8 +975,9 @@ public class ContinuousEffects implements Serializable {
     public void apply(Game game) {
         removeInactiveEffects(game);
         List<ContinuousEffect> activeLayerEffects = getLayeredEffects(game);
+        Map<Layer, List<ContinuousEffect>> effectsByLayer = getEffectsByLayer(activeLayerEffects);
 
-        List<ContinuousEffect> layer = filterLayeredEffects(activeLayerEffects, Layer.CopyEffects_1);
+        List<ContinuousEffect> layer = effectsByLayer.get(Layer.CopyEffects_1);
         for (ContinuousEffect effect : layer) {
             HashSet<Ability> abilities = layeredEffects.getAbility(effect.getId());
             for (Ability ability : abilities) {
@@ -901,9 +987,10 @@ public class ContinuousEffects implements Serializable {
         //Reload layerEffect if copy effects were applied
         if (layer.size() > 0) {
             activeLayerEffects = getLayeredEffects(game);
+            effectsByLayer = getEffectsByLayer(activeLayerEffects);
         }
 
-        layer = filterLayeredEffects(activeLayerEffects, Layer.ControlChangingEffects_2);
+        layer = effectsByLayer.get(Layer.ControlChangingEffects_2);
         // apply control changing effects multiple times if it's needed
         // for cases when control over permanents with change control abilities is changed
         // e.g. Mind Control is controlled by Steal Enchantment
@@ -922,20 +1009,30 @@ public class ContinuousEffects implements Serializable {
             game.getBattlefield().resetPermanentsControl();
         }
 
-        applyLayer(activeLayerEffects, Layer.TextChangingEffects_3, game);
-        applyLayer(activeLayerEffects, Layer.TypeChangingEffects_4, game);
-        applyLayer(activeLayerEffects, Layer.ColorChangingEffects_5, game);
+        applyLayer(effectsByLayer.get(Layer.TextChangingEffects_3), Layer.TextChangingEffects_3, game);
+        applyLayer(effectsByLayer.get(Layer.TypeChangingEffects_4), Layer.TypeChangingEffects_4, game);
+        applyLayer(effectsByLayer.get(Layer.ColorChangingEffects_5), Layer.ColorChangingEffects_5, game);
 
         Map<ContinuousEffect, List<Ability>> appliedEffectAbilities = new HashMap<>();
         boolean done = false;
+        // the active effects must be checked again after each applied effect (eg. if "Turn to Frog" removes abilities)
+        // and reloaded for the next round
+        boolean effectApplied = false;
         Map<ContinuousEffect, Set<UUID>> waitingEffects = new LinkedHashMap<>();
         Set<UUID> appliedEffects = new HashSet<>();
         while (!done) { // loop needed if a added effect adds again an effect (e.g. Level 5- of Joraga Treespeaker)
             done = true;
-            layer = filterLayeredEffects(activeLayerEffects, Layer.AbilityAddingRemovingEffects_6);
-            for (ContinuousEffect effect : layer) {
-                if (activeLayerEffects.contains(effect) && !appliedEffects.contains(effect.getId())) { // Effect does still exist and was not applied yet
-                    Set<UUID> dependentTo = effect.isDependentTo(layer);
+            if (effectApplied) {
+                activeLayerEffects = getLayeredEffects(game);
+                effectsByLayer = getEffectsByLayer(activeLayerEffects);
+                effectApplied = false;
+            }
+            layer = effectsByLayer.get(Layer.AbilityAddingRemovingEffects_6);
+            LayerDependencies dependencies = getLayerDependencies(Layer.AbilityAddingRemovingEffects_6, layer, true);
+            for (int i = 0; i < layer.size(); i++) {
+                ContinuousEffect effect = layer.get(i);
+                if ((!effectApplied || isActive(effect, game)) && !appliedEffects.contains(effect.getId())) { // Effect does still exist and was not applied yet
+                    Set<UUID> dependentTo = dependencies.getDependentTo(i);
                     if (dependentTo != null && !appliedEffects.containsAll(dependentTo)) {
                         waitingEffects.put(effect, dependentTo);
                         continue;
@@ -951,8 +1048,7 @@ public class ContinuousEffects implements Serializable {
                             appliedAbilities.add(ability);
                             effect.apply(Layer.AbilityAddingRemovingEffects_6, SubLayer.NA, ability, game);
                             done = false;
-                            // list must be updated after each applied effect (eg. if "Turn to Frog" removes abilities)
-                            activeLayerEffects = getLayeredEffects(game);
+                            effectApplied = true;
                         }
                     }
                     appliedEffects.add(effect.getId());
@@ -973,8 +1069,7 @@ public class ContinuousEffects implements Serializable {
                                         appliedAbilities.add(ability);
                                         entry.getKey().apply(Layer.AbilityAddingRemovingEffects_6, SubLayer.NA, ability, game);
                                         done = false;
-                                        // list must be updated after each applied effect (eg. if "Turn to Frog" removes abilities)
-                                        activeLayerEffects = getLayeredEffects(game);
+                                        effectApplied = true;
                                     }
                                 }
                                 appliedEffects.add(entry.getKey().getId());
@@ -986,7 +1081,7 @@ public class ContinuousEffects implements Serializable {
             }
         }
 
-        layer = filterLayeredEffects(activeLayerEffects, Layer.PTChangingEffects_7);
+        layer = effectsByLayer.get(Layer.PTChangingEffects_7);
         for (ContinuousEffect effect : layer) {
             HashSet<Ability> abilities = layeredEffects.getAbility(effect.getId());
             for (Ability ability : abilities) {
@@ -1014,14 +1109,14 @@ public class ContinuousEffects implements Serializable {
                 effect.apply(Layer.PTChangingEffects_7, SubLayer.SwitchPT_e, ability, game);
             }
         }
-        layer = filterLayeredEffects(activeLayerEffects, Layer.PlayerEffects);
+        layer = effectsByLayer.get(Layer.PlayerEffects);
         for (ContinuousEffect effect : layer) {
             HashSet<Ability> abilities = layeredEffects.getAbility(effect.getId());
             for (Ability ability : abilities) {
                 effect.apply(Layer.PlayerEffects, SubLayer.NA, ability, game);
             }
         }
-        layer = filterLayeredEffects(activeLayerEffects, Layer.RulesEffects);
+        layer = effectsByLayer.get(Layer.RulesEffects);
         for (ContinuousEffect effect : layer) {
             HashSet<Ability> abilities = layeredEffects.getAbility(effect.getId());
             for (Ability ability : abilities) {
@@ -1030,31 +1125,12 @@ public class ContinuousEffects implements Serializable {
         }
     }
 
-    private void applyLayer(List<ContinuousEffect> activeLayerEffects, Layer currentLayer, Game game) {
-        List<ContinuousEffect> layer = filterLayeredEffects(activeLayerEffects, currentLayer);
+    private void applyLayer(List<ContinuousEffect> layer, Layer currentLayer, Game game) {
         if (!layer.isEmpty()) {
-            int numberOfEffects = layer.size();
-            Set<UUID> appliedEffects = new HashSet<>();
-            Map<ContinuousEffect, Set<UUID>> waitingEffects = new LinkedHashMap<>();
-            for (ContinuousEffect effect : layer) {
-                if (numberOfEffects > 1) { // If an effect is dependent to not applied effects yet of this layer, so wait to apply this effect
-                    Set<UUID> dependentTo = effect.isDependentTo(layer);
-                    if (dependentTo != null && !appliedEffects.containsAll(dependentTo)) {
-                        waitingEffects.put(effect, dependentTo);
-                        continue;
-                    }
-                }
-                applyContinuousEffect(effect, currentLayer, game);
-                appliedEffects.add(effect.getId());
-                if (!waitingEffects.isEmpty()) {
-                    // check if waiting effects can be applied now
-                    for (Entry<ContinuousEffect, Set<UUID>> entry : waitingEffects.entrySet()) {
-                        if (appliedEffects.containsAll(entry.getValue())) { // all dependent to effects are applied now so apply the effect itself
-                            applyContinuousEffect(entry.getKey(), currentLayer, game);
-                            appliedEffects.add(entry.getKey().getId());
-                        }
-                    }
-                }
+            // If an effect is dependent to not applied effects yet of this layer, it waits until they are applied
+            LayerDependencies dependencies = getLayerDependencies(currentLayer, layer, layer.size() > 1);
+            for (int index : dependencies.getApplyOrder()) {
+                applyContinuousEffect(layer.get(index), currentLayer, game);
             }
         }
     }
@@ -28,16 +28,21 @@
 package mage.abilities.effects;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import mage.abilities.Ability;
 import mage.abilities.MageSingleton;
 import mage.constants.Duration;
 import mage.game.Game;
+import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
 import org.apache.log4j.Logger;
 
 /**
@@ -49,8 +54,21 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
 
     private static final Logger logger = Logger.getLogger(ContinuousEffectsList.class);
 
+    /**
+     * Effect classes that declare the event types of their checksEventType
+     * method (getEventTypes is implemented by the same class that implements
+     * checksEventType or by a sub class of it)
+     */
+    private static final Map<Class<?>, Boolean> eventTypesDeclared = new ConcurrentHashMap<>();
+
     // the effectAbilityMap holds for each effect all abilities that are connected (used) with this effect
     private final Map<UUID, HashSet<Ability>> effectAbilityMap = new HashMap<>();
+    // changes of the connected abilities (together with modCount the version of the list)
+    private long abilityChanges;
+    // the effects by the event types they check, rebuilt if effects were added or removed
+    private transient Map<EventType, List<T>> eventTypeIndex;
+    private transient List<T> allEventTypes;
+    private transient int indexModCount;
 
     public ContinuousEffectsList() {
     }
@@ -67,6 +85,7 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
             }
             effectAbilityMap.put(entry.getKey(), newSet);
         }
+        this.abilityChanges = effects.getVersion() - modCount;
     }
 
     public ContinuousEffectsList<T> copy() {
@@ -114,10 +133,12 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
             Ability ability = it.next();
             if (ability == null) {
                 it.remove();
+                abilityChanges++;
             } else if (ability instanceof MageSingleton) {
                 return false;
             } else if (effect.isDiscarded()) {
                 it.remove();
+                abilityChanges++;
             } else {
                 switch (effect.getDuration()) {
                     case WhileOnBattlefield:
@@ -125,17 +146,20 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
                     case WhileOnStack:
                         if (ability.getSourceId() != null && game.getObject(ability.getSourceId()) == null) { // Commander effects have no sourceId
                             it.remove(); // if the related source object does no longer exist in game - the effect has to be removed
+                            abilityChanges++;
                         }
                         break;
                     case OneUse:
                         if (effect.isUsed()) {
                             it.remove();
+                            abilityChanges++;
                         }
                         break;
                     case Custom:
                     case UntilYourNextTurn:
                         if (effect.isInactive(ability, game)) {
                             it.remove();
+                            abilityChanges++;
                         }
                 }
             }
@@ -160,6 +184,7 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
                 }
             }
             set.add(source);
+            abilityChanges++;
             return;
         }
         HashSet<Ability> set = new HashSet<>();
@@ -168,6 +193,75 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
         this.add(effect);
     }
 
+    /**
+     * Returns the effects of the list whose checksEventType can return true
+     * for the event type (only usable for lists of replacement, prevention
+     * and rule modifying effects). The effects are in the order of the list.
+     * The returned list must not be changed.
+     *
+     * @param eventType
+     * @return
+     */
+    public List<T> getEffects(EventType eventType) {
+        if (eventTypeIndex == null || indexModCount != modCount) {
+            buildEventTypeIndex();
+        }
+        List<T> effects = eventTypeIndex.get(eventType);
+        return effects != null ? effects : allEventTypes;
+    }
+
+    private void buildEventTypeIndex() {
+        eventTypeIndex = new EnumMap<>(EventType.class);
+        allEventTypes = new ArrayList<>();
+        for (T effect : this) {
+            Set<EventType> eventTypes = getDeclaredEventTypes(effect);
+            if (eventTypes == null) {
+                // effects without declaration are part of every event type's list
+                allEventTypes.add(effect);
+                for (List<T> effects : eventTypeIndex.values()) {
+                    effects.add(effect);
+                }
+            } else {
+                for (EventType eventType : eventTypes) {
+                    List<T> effects = eventTypeIndex.get(eventType);
+                    if (effects == null) {
+                        effects = new ArrayList<>(allEventTypes);
+                        eventTypeIndex.put(eventType, effects);
+                    }
+                    effects.add(effect);
+                }
+            }
+        }
+        indexModCount = modCount;
+    }
+
+    private static Set<EventType> getDeclaredEventTypes(ContinuousEffect effect) {
+        Set<EventType> eventTypes;
+        if (effect instanceof ReplacementEffect) {
+            eventTypes = ((ReplacementEffect) effect).getEventTypes();
+        } else if (effect instanceof ContinuousRuleModifyingEffect) {
+            eventTypes = ((ContinuousRuleModifyingEffect) effect).getEventTypes();
+        } else {
+            return null;
+        }
+        if (eventTypes == null) {
+            return null;
+        }
+        Class<?> effectClass = effect.getClass();
+        Boolean declared = eventTypesDeclared.get(effectClass);
+        if (declared == null) {
+            try {
+                Class<?> checkClass = effectClass.getMethod("checksEventType", GameEvent.class, Game.class).getDeclaringClass();
+                Class<?> declareClass = effectClass.getMethod("getEventTypes").getDeclaringClass();
+                declared = checkClass.isAssignableFrom(declareClass);
+            } catch (NoSuchMethodException ex) {
+                declared = false;
+            }
+            eventTypesDeclared.put(effectClass, declared);
+        }
+        return declared ? eventTypes : null;
+    }
+
     public HashSet<Ability> getAbility(UUID effectId) {
         return effectAbilityMap.get(effectId);
     }
@@ -175,7 +269,9 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
     public void removeEffects(UUID effectIdToRemove, Set<Ability> abilitiesToRemove) {
         HashSet<Ability> abilities = effectAbilityMap.get(effectIdToRemove);
         if (abilitiesToRemove != null && abilities != null) {
-            abilities.removeAll(abilitiesToRemove);
+            if (abilities.removeAll(abilitiesToRemove)) {
+                abilityChanges++;
+            }
         }
         if (abilities == null || abilities.isEmpty()) {
             for (Iterator<T> iterator = this.iterator(); iterator.hasNext();) {
@@ -189,6 +285,17 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
         }
     }
 
+    /**
+     * Returns a number that is changed by every change of the effects of the
+     * list or of their connected abilities. Copies of the list have the same
+     * version as the list.
+     *
+     * @return
+     */
+    public long getVersion() {
+        return modCount + abilityChanges;
+    }
+
     @Override
     public void clear() {
         super.clear();
@@ -28,9 +28,11 @@
 
 package mage.abilities.effects;
 
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.game.Game;
 import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
 
 /**
  *
@@ -47,6 +49,14 @@ public interface ContinuousRuleModifyingEffect extends ContinuousEffect {
      */
     boolean checksEventType(GameEvent event, Game game);
 
+    /**
+     * Returns all event types checksEventType can return true for. Effects
+     * that return null are checked for every event.
+     *
+     * @return the event types or null if not known
+     */
+    Set<EventType> getEventTypes();
+
     /**
      * 
      * @param event the event to check if it may happen
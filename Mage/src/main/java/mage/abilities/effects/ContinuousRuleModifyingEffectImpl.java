@@ -27,6 +27,7 @@
  */
 package mage.abilities.effects;
 
+import java.util.Set;
 import mage.MageObject;
 import mage.abilities.Ability;
 import mage.constants.Duration;
@@ -34,6 +35,7 @@ import mage.constants.EffectType;
 import mage.constants.Outcome;
 import mage.game.Game;
 import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
 
 /**
  *
@@ -102,6 +104,11 @@ public abstract class ContinuousRuleModifyingEffectImpl extends ContinuousEffect
         return true;
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return null;
+    }
+
     @Override
     public boolean apply(Game game, Ability source) {
         return true;
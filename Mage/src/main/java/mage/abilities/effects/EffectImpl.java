@@ -34,6 +34,7 @@ import mage.abilities.MageSingleton;
 import mage.abilities.Mode;
 import mage.target.targetpointer.FirstTargetPointer;
 import mage.target.targetpointer.TargetPointer;
+import mage.util.IdUtil;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -54,7 +55,7 @@ public abstract class EffectImpl implements Effect {
     protected boolean applyEffectsAfter = false;
 
     public EffectImpl(Outcome outcome) {
-        this.id = UUID.randomUUID();
+        this.id = IdUtil.newId();
         this.outcome = outcome;
     }
 
@@ -117,7 +118,7 @@ public abstract class EffectImpl implements Effect {
     @Override
     public void newId() {
         if (!(this instanceof MageSingleton)) {
-            this.id = UUID.randomUUID();
+            this.id = IdUtil.newId();
         }
     }
 
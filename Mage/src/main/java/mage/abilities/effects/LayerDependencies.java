@@ -0,0 +1,106 @@
+package mage.abilities.effects;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Dependencies (613.7) between the effects of one layer and the resulting
+ * order to apply them.
+ *
+ * The dependencies of an effect only depend on the other effects of the layer,
+ * so the graph can be reused as long as the same effects (in the same
+ * timestamp order) are active in the layer. Instances are immutable and can be
+ * shared between copies of the game state.
+ */
+final class LayerDependencies implements Serializable {
+
+    private final List<UUID> effectIds;
+    private final List<Set<UUID>> dependentTo;
+    private final int[] applyOrder;
+
+    /**
+     *
+     * @param effects effects of the layer in timestamp order
+     * @param checkDependencies if false, the effects are applied in timestamp
+     * order
+     */
+    LayerDependencies(List<ContinuousEffect> effects, boolean checkDependencies) {
+        this.effectIds = new ArrayList<>(effects.size());
+        this.dependentTo = new ArrayList<>(effects.size());
+        for (ContinuousEffect effect : effects) {
+            effectIds.add(effect.getId());
+            Set<UUID> dependencies = checkDependencies ? effect.isDependentTo(effects) : null;
+            dependentTo.add(dependencies == null ? null : Collections.unmodifiableSet(dependencies));
+        }
+        this.applyOrder = sort();
+    }
+
+    /**
+     * @param effects effects of the layer in timestamp order
+     * @return true if the graph was built for exactly these effects
+     */
+    boolean isFor(List<ContinuousEffect> effects) {
+        if (effects.size() != effectIds.size()) {
+            return false;
+        }
+        for (int i = 0; i < effects.size(); i++) {
+            if (!effects.get(i).getId().equals(effectIds.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param index position of the effect in the layer
+     * @return ids of the effects the effect is dependent to or null
+     */
+    Set<UUID> getDependentTo(int index) {
+        return dependentTo.get(index);
+    }
+
+    /**
+     * Positions of the effects in the order they have to be applied. Effects
+     * are applied in timestamp order, an effect that is dependent to other
+     * effects waits until all of them are applied. Effects that wait for each
+     * other are not applied at all.
+     *
+     * @return
+     */
+    int[] getApplyOrder() {
+        return applyOrder;
+    }
+
+    private int[] sort() {
+        int[] order = new int[effectIds.size()];
+        int count = 0;
+        Set<UUID> applied = new HashSet<>();
+        List<Integer> waiting = new ArrayList<>();
+        for (int i = 0; i < effectIds.size(); i++) {
+            Set<UUID> dependencies = dependentTo.get(i);
+            if (dependencies != null && !applied.containsAll(dependencies)) {
+                waiting.add(i);
+                continue;
+            }
+            order[count++] = i;
+            applied.add(effectIds.get(i));
+            // check if waiting effects can be applied now
+            for (Iterator<Integer> iterator = waiting.iterator(); iterator.hasNext();) {
+                int waitingIndex = iterator.next();
+                if (applied.containsAll(dependentTo.get(waitingIndex))) {
+                    order[count++] = waitingIndex;
+                    applied.add(effectIds.get(waitingIndex));
+                    iterator.remove();
+                }
+            }
+        }
+        return Arrays.copyOf(order, count);
+    }
+}
@@ -27,6 +27,8 @@
  */
 package mage.abilities.effects;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.dynamicvalue.DynamicValue;
 import mage.constants.Duration;
@@ -35,6 +37,7 @@ import mage.constants.Outcome;
 import mage.game.Game;
 import mage.game.events.DamageEvent;
 import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
 
 /**
  *
@@ -119,6 +122,11 @@ public abstract class PreventionEffectImpl extends ReplacementEffectImpl impleme
         return false;
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.DAMAGE_CREATURE, EventType.DAMAGE_PLAYER, EventType.DAMAGE_PLANESWALKER);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         switch (event.getType()) {
@@ -28,9 +28,11 @@
 
 package mage.abilities.effects;
 
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.game.Game;
 import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
 
 /**
  *
@@ -48,6 +50,16 @@ public interface ReplacementEffect extends ContinuousEffect {
      * @return
      */
     boolean checksEventType(GameEvent event, Game game);
+
+    /**
+     * Returns all event types checksEventType can return true for. This is
+     * used to check the effect only for events of these types. Effects that
+     * return null are checked for every event.
+     *
+     * @return the event types or null if not known
+     */
+    Set<EventType> getEventTypes();
+
     boolean applies(GameEvent event, Ability source, Game game);
 
     boolean hasSelfScope();
@@ -27,11 +27,13 @@
  */
 package mage.abilities.effects;
 
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.constants.Duration;
 import mage.constants.EffectType;
 import mage.constants.Outcome;
 import mage.game.Game;
+import mage.game.events.GameEvent.EventType;
 
 /**
  *
@@ -78,6 +80,11 @@ public abstract class ReplacementEffectImpl extends ContinuousEffectImpl impleme
         return selfScope;
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return null;
+    }
+
     @Override
     public boolean apply(Game game, Ability source) {
         throw new UnsupportedOperationException("Not used for replacemnt effect.");
@@ -27,6 +27,8 @@
  */
 package mage.abilities.effects.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.abilities.DelayedTriggeredAbility;
@@ -97,6 +99,11 @@ class DelayedAddMainPhaseAbility extends DelayedTriggeredAbility {
         return new DelayedAddMainPhaseAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.PHASE_CHANGED, GameEvent.EventType.COMBAT_PHASE_PRE);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.PHASE_CHANGED || event.getType() == GameEvent.EventType.COMBAT_PHASE_PRE;
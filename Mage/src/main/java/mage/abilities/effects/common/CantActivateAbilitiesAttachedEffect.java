@@ -27,6 +27,8 @@
  */
 package mage.abilities.effects.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.effects.ContinuousRuleModifyingEffectImpl;
 import mage.constants.Duration;
@@ -61,6 +63,11 @@ public class CantActivateAbilitiesAttachedEffect extends ContinuousRuleModifying
         return true;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ACTIVATE_ABILITY);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ACTIVATE_ABILITY;
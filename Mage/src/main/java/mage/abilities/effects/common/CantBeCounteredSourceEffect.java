@@ -28,6 +28,8 @@
 
 package mage.abilities.effects.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.MageObject;
 import mage.abilities.Ability;
 import mage.abilities.effects.ContinuousRuleModifyingEffectImpl;
@@ -74,6 +76,11 @@ public class CantBeCounteredSourceEffect extends ContinuousRuleModifyingEffectIm
         return staticText;
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.COUNTER);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == EventType.COUNTER;
@@ -27,6 +27,8 @@
  */
 package mage.abilities.effects.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.Mode;
 import mage.abilities.effects.ContinuousRuleModifyingEffectImpl;
@@ -60,6 +62,11 @@ public class CantBeRegeneratedTargetEffect extends ContinuousRuleModifyingEffect
         return true;
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.REGENERATE);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == EventType.REGENERATE;
@@ -28,6 +28,8 @@
 
 package mage.abilities.effects.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.Mode;
 import mage.abilities.effects.ContinuousRuleModifyingEffectImpl;
@@ -75,6 +77,11 @@ public class DontUntapInControllersUntapStepAllEffect extends ContinuousRuleModi
         return false;
     }
     
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.UNTAP);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == EventType.UNTAP;
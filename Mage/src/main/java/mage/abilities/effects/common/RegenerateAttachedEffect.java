@@ -28,6 +28,8 @@
 
 package mage.abilities.effects.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 import mage.constants.AttachmentType;
@@ -82,6 +84,11 @@ public class RegenerateAttachedEffect extends ReplacementEffectImpl {
         return apply(game, source);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DESTROY_PERMANENT);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.DESTROY_PERMANENT;
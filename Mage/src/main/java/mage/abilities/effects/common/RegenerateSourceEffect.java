@@ -28,6 +28,8 @@
 
 package mage.abilities.effects.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.constants.Duration;
 import mage.constants.Outcome;
 import mage.abilities.Ability;
@@ -71,6 +73,11 @@ public class RegenerateSourceEffect extends ReplacementEffectImpl {
     public boolean replaceEvent(GameEvent event, Ability source, Game game) {
         return apply(game, source);
     }
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DESTROY_PERMANENT);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.DESTROY_PERMANENT;
@@ -27,6 +27,8 @@
  */
 package mage.abilities.effects.common.continuous;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.Mode;
 import mage.abilities.effects.ContinuousRuleModifyingEffectImpl;
@@ -66,6 +68,11 @@ public class CantCastMoreThanOneSpellEffect extends ContinuousRuleModifyingEffec
         return true;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CAST_SPELL);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.CAST_SPELL;
@@ -27,6 +27,8 @@
  */
 package mage.abilities.effects.common.continuous;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.Mana;
 import mage.abilities.Ability;
@@ -114,6 +116,11 @@ public class CommanderManaReplacementEffect extends ReplacementEffectImpl {
         return false;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ADD_MANA);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ADD_MANA;
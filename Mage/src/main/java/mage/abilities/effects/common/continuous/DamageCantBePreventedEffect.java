@@ -1,5 +1,7 @@
 package mage.abilities.effects.common.continuous;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.effects.ContinuousRuleModifyingEffectImpl;
 import mage.constants.Duration;
@@ -27,6 +29,11 @@ public class DamageCantBePreventedEffect extends ContinuousRuleModifyingEffectIm
         return true;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.PREVENT_DAMAGE);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType().equals(GameEvent.EventType.PREVENT_DAMAGE);
@@ -27,9 +27,7 @@
  */
 package mage.abilities.effects.common.continuous;
 
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.UUID;
 import mage.MageObject;
 import mage.MageObjectReference;
 import mage.abilities.Ability;
@@ -129,14 +127,11 @@ public class GainAbilityAllEffect extends ContinuousEffectImpl {
                 }
             }
             // still as long as the prev. permanent is known to the LKI (e.g. Mikaeus, the Unhallowed) so gained dies triggered ability will trigger
-            HashMap<UUID, MageObject> LKIBattlefield = game.getLKI().get(Zone.BATTLEFIELD);
-            if (LKIBattlefield != null) {
-                for (MageObject mageObject : LKIBattlefield.values()) {
-                    Permanent perm = (Permanent) mageObject;
-                    if (!(excludeSource && perm.getId().equals(source.getSourceId())) && selectedByRuntimeData(perm, source, game)) {
-                        if (filter.match(perm, source.getSourceId(), source.getControllerId(), game)) {
-                            perm.addAbility(ability, source.getSourceId(), game, false);
-                        }
+            for (MageObject mageObject : game.getLKI().getObjects(Zone.BATTLEFIELD)) {
+                Permanent perm = (Permanent) mageObject;
+                if (!(excludeSource && perm.getId().equals(source.getSourceId())) && selectedByRuntimeData(perm, source, game)) {
+                    if (filter.match(perm, source.getSourceId(), source.getControllerId(), game)) {
+                        perm.addAbility(ability, source.getSourceId(), game, false);
                     }
                 }
             }
@@ -28,9 +28,7 @@
 
 package mage.abilities.effects.common.continuous;
 
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.UUID;
 import mage.MageObject;
 import mage.MageObjectReference;
 import mage.abilities.Ability;
@@ -131,15 +129,12 @@ public class GainAbilityControlledEffect extends ContinuousEffectImpl {
                 }
             }
             // still as long as the prev. permanent is known to the LKI (e.g. Mikaeus, the Unhallowed) so gained dies triggered ability will trigger
-            HashMap<UUID, MageObject> LKIBattlefield = game.getLKI().get(Zone.BATTLEFIELD);
-            if (LKIBattlefield != null) {
-                for (MageObject mageObject: LKIBattlefield.values()) {
-                    Permanent perm = (Permanent) mageObject;
-                    if (!(excludeSource && perm.getId().equals(source.getSourceId()))) {
-                        if (filter.match(perm, source.getSourceId(), source.getControllerId(), game)) {
-                            for (Ability abilityToAdd : ability) {
-                                perm.addAbility(abilityToAdd, source.getSourceId(), game, false);
-                            }
+            for (MageObject mageObject : game.getLKI().getObjects(Zone.BATTLEFIELD)) {
+                Permanent perm = (Permanent) mageObject;
+                if (!(excludeSource && perm.getId().equals(source.getSourceId()))) {
+                    if (filter.match(perm, source.getSourceId(), source.getControllerId(), game)) {
+                        for (Ability abilityToAdd : ability) {
+                            perm.addAbility(abilityToAdd, source.getSourceId(), game, false);
                         }
                     }
                 }
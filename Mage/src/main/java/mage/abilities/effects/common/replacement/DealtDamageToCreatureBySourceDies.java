@@ -27,6 +27,8 @@
  */
 package mage.abilities.effects.common.replacement;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.effects.ReplacementEffectImpl;
 import mage.cards.Card;
@@ -81,6 +83,11 @@ public class DealtDamageToCreatureBySourceDies extends ReplacementEffectImpl {
         return false;
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == EventType.ZONE_CHANGE;
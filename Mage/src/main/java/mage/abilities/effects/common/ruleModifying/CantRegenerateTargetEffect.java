@@ -28,6 +28,8 @@
 
 package mage.abilities.effects.common.ruleModifying;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.abilities.effects.ContinuousRuleModifyingEffectImpl;
@@ -63,6 +65,11 @@ public class CantRegenerateTargetEffect extends ContinuousRuleModifyingEffectImp
         return true;
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.REGENERATE);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == EventType.REGENERATE;
@@ -27,6 +27,8 @@
  */
 package mage.abilities.effects.common.ruleModifying;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.effects.ContinuousRuleModifyingEffectImpl;
 import mage.constants.Duration;
@@ -50,6 +52,11 @@ public class CastOnlyIfYouHaveCastAnotherSpellEffect extends ContinuousRuleModif
         super(effect);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CAST_SPELL);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.CAST_SPELL;
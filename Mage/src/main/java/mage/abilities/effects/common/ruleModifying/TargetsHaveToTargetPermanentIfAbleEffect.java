@@ -5,7 +5,9 @@
  */
 package mage.abilities.effects.common.ruleModifying;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObject;
 import mage.abilities.Ability;
@@ -48,6 +50,11 @@ public class TargetsHaveToTargetPermanentIfAbleEffect extends ContinuousRuleModi
         return new TargetsHaveToTargetPermanentIfAbleEffect(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TARGETS_VALID);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.TARGETS_VALID;
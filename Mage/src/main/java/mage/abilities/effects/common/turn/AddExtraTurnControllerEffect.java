@@ -27,6 +27,8 @@
  */
 package mage.abilities.effects.common.turn;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.abilities.DelayedTriggeredAbility;
@@ -105,6 +107,11 @@ class LoseGameDelayedTriggeredAbility extends DelayedTriggeredAbility {
         return new LoseGameDelayedTriggeredAbility(this);
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.END_TURN_STEP_PRE);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == EventType.END_TURN_STEP_PRE;
@@ -27,6 +27,8 @@
  */
 package mage.abilities.keyword;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.abilities.TriggeredAbilityImpl;
@@ -68,6 +70,11 @@ public class AnnihilatorAbility extends TriggeredAbilityImpl {
         this.count = ability.count;
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.ATTACKER_DECLARED);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == EventType.ATTACKER_DECLARED;
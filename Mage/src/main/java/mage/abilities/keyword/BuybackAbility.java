@@ -27,7 +27,9 @@
  */
 package mage.abilities.keyword;
 
+import java.util.EnumSet;
 import java.util.Iterator;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.SpellAbility;
 import mage.abilities.StaticAbility;
@@ -177,6 +179,11 @@ class BuybackEffect extends ReplacementEffectImpl {
         return new BuybackEffect(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
@@ -27,6 +27,8 @@
  */
 package mage.abilities.keyword;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.common.SimpleStaticAbility;
 import mage.abilities.effects.ReplacementEffectImpl;
@@ -111,6 +113,11 @@ class DredgeEffect extends ReplacementEffectImpl {
         return false;
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.DRAW_CARD);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == EventType.DRAW_CARD;
@@ -28,6 +28,8 @@
 
 package mage.abilities.keyword;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 import mage.constants.Zone;
@@ -65,6 +67,11 @@ public class ExtortAbility extends TriggeredAbilityImpl {
         super(ability);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.SPELL_CAST;
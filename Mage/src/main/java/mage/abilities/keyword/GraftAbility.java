@@ -27,7 +27,9 @@
  */
 package mage.abilities.keyword;
 
+import java.util.EnumSet;
 import java.util.Locale;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.StaticAbility;
 import mage.abilities.TriggeredAbilityImpl;
@@ -83,6 +85,11 @@ public class GraftAbility extends TriggeredAbilityImpl {
         this.cardtype = ability.cardtype;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.ENTERS_THE_BATTLEFIELD;
@@ -1,6 +1,8 @@
 package mage.abilities.keyword;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.abilities.Ability;
 import mage.abilities.StaticAbility;
@@ -153,6 +155,11 @@ class MadnessTriggeredAbility extends TriggeredAbilityImpl {
         return new MadnessTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.MADNESS_CARD_EXILED);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.MADNESS_CARD_EXILED;
@@ -27,6 +27,7 @@
  */
 package mage.abilities.keyword;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Set;
@@ -82,6 +83,11 @@ class MeleeWatcher extends Watcher {
         this.playersAttacked.putAll(watcher.playersAttacked);
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.BEGIN_COMBAT_STEP_PRE, EventType.ATTACKER_DECLARED);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == EventType.BEGIN_COMBAT_STEP_PRE) {
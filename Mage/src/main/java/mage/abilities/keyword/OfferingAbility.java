@@ -51,6 +51,7 @@ import mage.players.Player;
 import mage.target.Target;
 import mage.target.common.TargetControlledCreaturePermanent;
 import mage.util.CardUtil;
+import mage.util.IdUtil;
 
 /**
  *
@@ -168,7 +169,7 @@ class OfferingAsThoughEffect extends AsThoughEffectImpl {
                     game.getState().setValue("offering_" + card.getId(), true);
                     Permanent offer = game.getPermanent(target.getFirstTarget());
                     if (offer != null) {
-                        UUID activationId = UUID.randomUUID();
+                        UUID activationId = IdUtil.newId();
                         OfferingCostReductionEffect effect = new OfferingCostReductionEffect(spellToCast.getSpellAbility().getId(), offer.getSpellAbility().getManaCosts(), activationId);
                         game.addEffect(effect, source);
                         offer.sacrifice(source.getSourceId(), game);
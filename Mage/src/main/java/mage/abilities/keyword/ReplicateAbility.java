@@ -27,7 +27,9 @@
  */
 package mage.abilities.keyword;
 
+import java.util.EnumSet;
 import java.util.Iterator;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.SpellAbility;
 import mage.abilities.StaticAbility;
@@ -182,6 +184,11 @@ class ReplicateTriggeredAbility extends TriggeredAbilityImpl {
         return new ReplicateTriggeredAbility(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.SPELL_CAST;
@@ -1,5 +1,7 @@
 package mage.abilities.keyword;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.abilities.Ability;
 import mage.abilities.common.SimpleStaticAbility;
 import mage.abilities.effects.ContinuousRuleModifyingEffectImpl;
@@ -55,6 +57,11 @@ class SplitSecondEffect extends ContinuousRuleModifyingEffectImpl {
         return "You can't cast spells or activate abilities that aren't mana abilities (Split second).";
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.CAST_SPELL, GameEvent.EventType.ACTIVATE_ABILITY);
+    }
+
     @Override
     public boolean checksEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.CAST_SPELL || event.getType() == GameEvent.EventType.ACTIVATE_ABILITY;
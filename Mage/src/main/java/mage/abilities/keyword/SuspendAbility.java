@@ -28,7 +28,9 @@
 package mage.abilities.keyword;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObject;
 import mage.abilities.Ability;
@@ -59,6 +61,7 @@ import mage.game.events.GameEvent;
 import mage.game.permanent.Permanent;
 import mage.players.Player;
 import mage.target.targetpointer.FixedTarget;
+import mage.util.IdUtil;
 
 /**
  *
@@ -222,7 +225,7 @@ public class SuspendAbility extends SpecialAction {
     public static UUID getSuspendExileId(UUID controllerId, Game game) {
         UUID exileId = (UUID) game.getState().getValue("SuspendExileId" + controllerId.toString());
         if (exileId == null) {
-            exileId = UUID.randomUUID();
+            exileId = IdUtil.newId();
             game.getState().setValue("SuspendExileId" + controllerId.toString(), exileId);
         }
         return exileId;
@@ -315,6 +318,11 @@ class SuspendPlayCardAbility extends TriggeredAbilityImpl {
         super(ability);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.COUNTER_REMOVED);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.COUNTER_REMOVED;
@@ -28,7 +28,12 @@
 package mage.abilities.mana;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import mage.Mana;
 import mage.game.Game;
 
@@ -43,6 +48,12 @@ import mage.game.Game;
  */
 public class ManaOptions extends ArrayList<Mana> {
 
+    /**
+     * Maximal number of options, if more combinations are possible only the
+     * options with the most mana are kept
+     */
+    public static final int MAX_OPTIONS = 1000;
+
     public ManaOptions() {
     }
 
@@ -67,42 +78,34 @@ public class ManaOptions extends ArrayList<Mana> {
                 } else {
                     List<Mana> copy = copy();
                     this.clear();
+                    Set<Mana> values = new HashSet<>();
                     for (Mana netMana : netManas) {
                         for (Mana mana : copy) {
                             Mana newMana = new Mana();
                             newMana.add(mana);
                             newMana.add(netMana);
-                            this.add(newMana);
+                            addUniqueOption(newMana, values);
                         }
                     }
+                    limitOptions();
                 }
 
             } else if (abilities.size() > 1) {
                 //perform a union of all existing options and the new options
                 List<Mana> copy = copy();
                 this.clear();
+                Set<Mana> values = new HashSet<>();
                 for (ActivatedManaAbilityImpl ability : abilities) {
                     for (Mana netMana : ability.getNetMana(game)) {
-                        SkipAddMana:
                         for (Mana mana : copy) {
                             Mana newMana = new Mana();
                             newMana.add(mana);
                             newMana.add(netMana);
-                            for (Mana existingMana : this) {
-                                if (existingMana.equalManaValue(newMana)) {
-                                    continue SkipAddMana;
-                                }
-                                Mana moreValuable = Mana.getMoreValuableMana(newMana, existingMana);
-                                if (moreValuable != null) {
-                                    // only keep the more valuable mana
-                                    existingMana.setToMana(moreValuable);
-                                    continue SkipAddMana;
-                                }
-                            }
-                            this.add(newMana);
+                            addUniqueOption(newMana, values);
                         }
                     }
                 }
+                limitOptions();
             }
         }
     }
@@ -123,14 +126,16 @@ public class ManaOptions extends ArrayList<Mana> {
                     } else {
                         List<Mana> copy = copy();
                         this.clear();
+                        Set<Mana> values = new HashSet<>();
                         for (Mana netMana : netManas) {
                             for (Mana mana : copy) {
                                 Mana newMana = new Mana();
                                 newMana.add(mana);
                                 newMana.add(netMana);
-                                this.add(newMana);
+                                addUniqueOption(newMana, values);
                             }
                         }
+                        limitOptions();
                     }
                 } else // the ability has mana costs
                 if (netManas.size() == 1) {
@@ -151,6 +156,7 @@ public class ManaOptions extends ArrayList<Mana> {
                 //perform a union of all existing options and the new options
                 List<Mana> copy = copy();
                 this.clear();
+                Set<Mana> values = new HashSet<>();
                 for (ActivatedManaAbilityImpl ability : abilities) {
 
                     List<Mana> netManas = ability.getNetMana(game);
@@ -161,28 +167,18 @@ public class ManaOptions extends ArrayList<Mana> {
                                 Mana newMana = new Mana();
                                 newMana.add(mana);
                                 newMana.add(netMana);
-                                this.add(newMana);
+                                addUniqueOption(newMana, values);
                             }
                         }
                     } else {
                         for (Mana netMana : netManas) {
                             for (Mana previousMana : copy) {
-                                CombineWithExisting:
                                 for (Mana manaOption : ability.getManaCosts().getManaOptions()) {
                                     Mana newMana = new Mana(previousMana);
                                     if (previousMana.includesMana(manaOption)) { // costs can be paid
                                         newMana.subtractCost(manaOption);
                                         newMana.add(netMana);
-                                        // if the new mana is in all colors more than another already existing than replace
-                                        for (Mana existingMana : this) {
-                                            Mana moreValuable = Mana.getMoreValuableMana(newMana, existingMana);
-                                            if (moreValuable != null) {
-                                                existingMana.setToMana(moreValuable);
-                                                continue CombineWithExisting;
-                                            }
-                                        }
-                                        // no existing Mana includes this new mana so add
-                                        this.add(newMana);
+                                        addUniqueOption(newMana, values);
                                     }
                                 }
                             }
@@ -190,6 +186,7 @@ public class ManaOptions extends ArrayList<Mana> {
                     }
 
                 }
+                limitOptions();
             }
         }
     }
@@ -215,14 +212,16 @@ public class ManaOptions extends ArrayList<Mana> {
                 //perform a union of all existing options and the new options
                 List<Mana> copy = copy();
                 this.clear();
+                Set<Mana> values = new HashSet<>();
                 for (Mana addMana : options) {
                     for (Mana mana : copy) {
                         Mana newMana = new Mana();
                         newMana.add(mana);
                         newMana.add(addMana);
-                        this.add(newMana);
+                        addUniqueOption(newMana, values);
                     }
                 }
+                limitOptions();
             }
         }
     }
@@ -231,6 +230,64 @@ public class ManaOptions extends ArrayList<Mana> {
         return new ManaOptions(this);
     }
 
+    /**
+     * Adds the mana as a new option if no existing option has the same or more
+     * mana in all colors. If the new mana is more valuable than an existing
+     * option, the existing option is replaced.
+     *
+     * @param newMana
+     * @param values values of all options of this list, used to skip
+     * duplicates without comparing with all options
+     */
+    private void addUniqueOption(Mana newMana, Set<Mana> values) {
+        if (values.contains(newMana)) {
+            return;
+        }
+        for (Mana existingMana : this) {
+            if (existingMana.equalManaValue(newMana)) {
+                return;
+            }
+            Mana moreValuable = Mana.getMoreValuableMana(newMana, existingMana);
+            if (moreValuable != null) {
+                // only keep the more valuable mana
+                if (moreValuable != existingMana) {
+                    values.remove(existingMana);
+                    existingMana.setToMana(moreValuable);
+                    values.add(existingMana);
+                }
+                return;
+            }
+        }
+        this.add(newMana);
+        values.add(newMana);
+    }
+
+    /**
+     * Limits the options to {@link #MAX_OPTIONS}, so the number of combinations
+     * doesn't grow exponentially with the number of mana sources. The options
+     * with the most mana are kept, all others are folded into one option with
+     * as much mana of any type as the biggest of them. That option can pay
+     * everything the folded options can pay (it may also pay color
+     * combinations none of them could pay), so no payable cost gets lost.
+     */
+    private void limitOptions() {
+        if (size() <= MAX_OPTIONS) {
+            return;
+        }
+        List<Mana> options = new ArrayList<>(this);
+        options.sort(Comparator.comparingInt((Mana mana) -> mana.count()).thenComparingInt(Mana::countColored).reversed());
+        Set<Mana> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        kept.addAll(options.subList(0, MAX_OPTIONS - 1));
+        int foldedCount = 0;
+        for (Mana mana : options.subList(MAX_OPTIONS - 1, options.size())) {
+            foldedCount = Math.max(foldedCount, mana.count());
+        }
+        this.removeIf(mana -> !kept.contains(mana));
+        Mana folded = new Mana();
+        folded.setAny(foldedCount);
+        this.add(folded);
+    }
+
     public void subtractCostAddMana(Mana cost, Mana addMana, boolean onlyManaCosts) {
         if (isEmpty()) {
             this.add(new Mana());
@@ -0,0 +1,52 @@
+package mage.cards;
+
+import java.lang.ref.SoftReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import mage.constants.Rarity;
+
+/**
+ * Creates the cards of the decks. The first card of a card class and set is
+ * created by its constructor and kept as prototype, all further cards are
+ * copies of the prototype with new ids. So the abilities of a card are only
+ * built once and not for every card of every deck of every game.
+ *
+ * The prototypes are only copied, never changed or given out, so they can be
+ * shared by all threads. They are softly referenced and can be collected if
+ * memory gets short.
+ */
+public final class CardFactory {
+
+    private static final Map<String, SoftReference<Card>> prototypes = new ConcurrentHashMap<>();
+
+    private CardFactory() {
+    }
+
+    /**
+     *
+     * @param className
+     * @param setInfo
+     * @return a new card with new ids or null if the card class can't be
+     * loaded
+     */
+    public static Card createCard(String className, CardSetInfo setInfo) {
+        if (setInfo.getGraphicInfo() != null && !Rarity.LAND.equals(setInfo.getRarity())) {
+            // the graphic info is not part of the key, only the default one can be used for prototypes
+            return CardImpl.createCard(className, setInfo);
+        }
+        String key = className + '|' + setInfo.getExpansionSetCode() + '|' + setInfo.getCardNumber() + '|' + setInfo.getName() + '|' + setInfo.getRarity();
+        SoftReference<Card> reference = prototypes.get(key);
+        Card prototype = reference != null ? reference.get() : null;
+        if (prototype == null) {
+            // created outside of the map, card constructors can create other cards (e.g. the other side of double faced cards)
+            prototype = CardImpl.createCard(className, setInfo);
+            if (prototype == null) {
+                return null;
+            }
+            prototypes.put(key, new SoftReference<>(prototype));
+        }
+        Card card = prototype.copy();
+        card.assignNewId();
+        return card;
+    }
+}
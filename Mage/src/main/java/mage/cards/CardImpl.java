@@ -129,6 +129,8 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
     }
 
     protected CardImpl(UUID ownerId, String name) {
+        // card ids are visible to the opponents, so they must not tell the order the cards were created in
+        super(UUID.randomUUID());
         this.ownerId = ownerId;
         this.name = name;
     }
@@ -57,6 +57,14 @@ public interface Cards extends Set<UUID>, Serializable {
 
     String getValue(Game game);
 
+    /**
+     * Hash of the same values getValue uses (names of the cards in any order)
+     *
+     * @param game
+     * @return
+     */
+    long getValueHash(Game game);
+
     Collection<Card> getUniqueCards(Game game);
 
     Card getRandom(Game game);
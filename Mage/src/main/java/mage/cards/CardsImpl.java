@@ -41,6 +41,7 @@ import java.util.UUID;
 import mage.filter.FilterCard;
 import mage.game.Game;
 import mage.util.RandomUtil;
+import mage.util.StateHash;
 import mage.util.ThreadLocalStringBuilder;
 
 /**
@@ -211,6 +212,16 @@ public class CardsImpl extends LinkedHashSet<UUID> implements Cards, Serializabl
         return sb.toString();
     }
 
+    @Override
+    public long getValueHash(Game game) {
+        long hash = size();
+        for (UUID cardId : this) {
+            Card card = game.getCard(cardId);
+            hash += StateHash.mix(card.getName().hashCode());
+        }
+        return hash;
+    }
+
     @Override
     public void addAll(List<Card> cards) {
         for (Card card : cards) {
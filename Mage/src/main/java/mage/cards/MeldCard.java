@@ -112,8 +112,13 @@ public abstract class MeldCard extends CardImpl {
     @Override
     public void assignNewId() {
         super.assignNewId();
-        topHalfCard.assignNewId();
-        bottomHalfCard.assignNewId();
+        // the halves are only set if the meld card is created by melding (not for cards from the card database)
+        if (topHalfCard != null) {
+            topHalfCard.assignNewId();
+        }
+        if (bottomHalfCard != null) {
+            bottomHalfCard.assignNewId();
+        }
     }
 
     @Override
@@ -35,7 +35,7 @@ import mage.abilities.Ability;
 import mage.abilities.SpellAbility;
 import mage.abilities.common.PlanswalkerEntersWithLoyalityCountersAbility;
 import mage.cards.Card;
-import mage.cards.CardImpl;
+import mage.cards.CardFactory;
 import mage.cards.CardSetInfo;
 import mage.cards.FrameStyle;
 import mage.cards.mock.MockCard;
@@ -205,7 +205,7 @@ public class CardInfo {
     }
 
     public Card getCard() {
-        return CardImpl.createCard(className, new CardSetInfo(name, setCode, cardNumber, rarity));
+        return CardFactory.createCard(className, new CardSetInfo(name, setCode, cardNumber, rarity));
     }
 
     public Card getMockCard() {
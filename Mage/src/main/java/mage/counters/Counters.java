@@ -28,22 +28,62 @@
 package mage.counters;
 
 import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 /**
+ * Counters of a permanent, card or player by counter name.
+ *
+ * Objects have only a few kinds of counters, so the counters of the
+ * {@link CounterType}s are kept in two small arrays (types and counters) that
+ * are searched by identity of the type. Checks like getCount(CounterType.POISON)
+ * need no hashing and copies need no map entries. Counters with other names
+ * are kept in an additional map that is only created if needed.
+ *
  * @author BetaSteward_at_googlemail.com
  */
-public class Counters extends HashMap<String, Counter> implements Serializable {
+public class Counters extends AbstractMap<String, Counter> implements Serializable {
+
+    private static final CounterType[] NO_TYPES = new CounterType[0];
+    private static final Counter[] NO_COUNTERS = new Counter[0];
+    private static final Map<String, CounterType> counterTypesByName = new HashMap<>();
+
+    static {
+        for (CounterType counterType : CounterType.values()) {
+            counterTypesByName.put(counterType.getName(), counterType);
+        }
+    }
+
+    private CounterType[] types = NO_TYPES;
+    private Counter[] typeCounters = NO_COUNTERS; // counters of the types at the same index
+    private int typeCount;
+    private Map<String, Counter> otherCounters; // null if there are none
 
     public Counters() {
     }
 
     public Counters(final Counters counters) {
-        for (Map.Entry<String, Counter> entry : counters.entrySet()) {
-            this.put(entry.getKey(), entry.getValue().copy());
+        this.typeCount = counters.typeCount;
+        if (typeCount > 0) {
+            this.types = Arrays.copyOf(counters.types, typeCount);
+            this.typeCounters = new Counter[typeCount];
+            for (int i = 0; i < typeCount; i++) {
+                this.typeCounters[i] = counters.typeCounters[i].copy();
+            }
+        }
+        if (counters.otherCounters != null && !counters.otherCounters.isEmpty()) {
+            this.otherCounters = new HashMap<>();
+            for (Map.Entry<String, Counter> entry : counters.otherCounters.entrySet()) {
+                this.otherCounters.put(entry.getKey(), entry.getValue().copy());
+            }
         }
     }
 
@@ -51,6 +91,179 @@ public class Counters extends HashMap<String, Counter> implements Serializable {
         return new Counters(this);
     }
 
+    private int indexOf(CounterType counterType) {
+        for (int i = 0; i < typeCount; i++) {
+            if (types[i] == counterType) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Counter removeAt(int index) {
+        Counter old = typeCounters[index];
+        typeCount--;
+        System.arraycopy(types, index + 1, types, index, typeCount - index);
+        System.arraycopy(typeCounters, index + 1, typeCounters, index, typeCount - index);
+        types[typeCount] = null;
+        typeCounters[typeCount] = null;
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return typeCount + (otherCounters == null ? 0 : otherCounters.size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object name) {
+        return get(name) != null;
+    }
+
+    @Override
+    public Counter get(Object name) {
+        CounterType counterType = counterTypesByName.get(name);
+        if (counterType != null) {
+            int index = indexOf(counterType);
+            return index < 0 ? null : typeCounters[index];
+        }
+        return otherCounters == null ? null : otherCounters.get(name);
+    }
+
+    @Override
+    public Counter put(String name, Counter counter) {
+        if (counter == null) {
+            // the counters are never null, so a null counter is the same as no counter
+            return remove(name);
+        }
+        CounterType counterType = counterTypesByName.get(name);
+        if (counterType == null) {
+            if (otherCounters == null) {
+                otherCounters = new HashMap<>();
+            }
+            return otherCounters.put(name, counter);
+        }
+        int index = indexOf(counterType);
+        if (index >= 0) {
+            Counter old = typeCounters[index];
+            typeCounters[index] = counter;
+            return old;
+        }
+        if (typeCount == types.length) {
+            int length = Math.max(2, typeCount * 2);
+            types = Arrays.copyOf(types, length);
+            typeCounters = Arrays.copyOf(typeCounters, length);
+        }
+        types[typeCount] = counterType;
+        typeCounters[typeCount] = counter;
+        typeCount++;
+        return null;
+    }
+
+    @Override
+    public Counter remove(Object name) {
+        CounterType counterType = counterTypesByName.get(name);
+        if (counterType != null) {
+            int index = indexOf(counterType);
+            return index < 0 ? null : removeAt(index);
+        }
+        return otherCounters == null ? null : otherCounters.remove(name);
+    }
+
+    @Override
+    public void clear() {
+        types = NO_TYPES;
+        typeCounters = NO_COUNTERS;
+        typeCount = 0;
+        otherCounters = null;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Counter>> entrySet() {
+        return new AbstractSet<Map.Entry<String, Counter>>() {
+            @Override
+            public Iterator<Map.Entry<String, Counter>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return Counters.this.size();
+            }
+        };
+    }
+
+    /**
+     * Goes through the counters of the counter types first, then through the
+     * other counters.
+     */
+    private class EntryIterator implements Iterator<Map.Entry<String, Counter>> {
+
+        private int nextType;
+        private Iterator<Map.Entry<String, Counter>> otherIterator;
+        private boolean lastType;
+        private boolean lastOther;
+
+        @Override
+        public boolean hasNext() {
+            if (nextType < typeCount) {
+                return true;
+            }
+            if (otherIterator == null && otherCounters != null) {
+                otherIterator = otherCounters.entrySet().iterator();
+            }
+            return otherIterator != null && otherIterator.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, Counter> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (nextType < typeCount) {
+                lastType = true;
+                lastOther = false;
+                Counter counter = typeCounters[nextType];
+                return new Entry(types[nextType++].getName(), counter);
+            }
+            Map.Entry<String, Counter> entry = otherIterator.next();
+            lastType = false;
+            lastOther = true;
+            return new Entry(entry.getKey(), entry.getValue());
+        }
+
+        @Override
+        public void remove() {
+            if (lastType) {
+                removeAt(--nextType);
+            } else if (lastOther) {
+                otherIterator.remove();
+            } else {
+                throw new IllegalStateException();
+            }
+            lastType = false;
+            lastOther = false;
+        }
+    }
+
+    private class Entry extends AbstractMap.SimpleEntry<String, Counter> {
+
+        Entry(String name, Counter counter) {
+            super(name, counter);
+        }
+
+        @Override
+        public Counter setValue(Counter counter) {
+            put(getKey(), counter);
+            return super.setValue(counter);
+        }
+    }
+
     public void addCounter(String name, int amount) {
         putIfAbsent(name, new Counter(name));
         this.get(name).add(amount);
@@ -102,8 +315,9 @@ public class Counters extends HashMap<String, Counter> implements Serializable {
     }
 
     public int getCount(String name) {
-        if (this.containsKey(name)) {
-            return this.get(name).getCount();
+        Counter counter = get(name);
+        if (counter != null) {
+            return counter.getCount();
         }
         return 0;
     }
@@ -113,8 +327,9 @@ public class Counters extends HashMap<String, Counter> implements Serializable {
     }
 
     public int getCount(CounterType type) {
-        if (this.containsKey(type.getName())) {
-            return this.get(type.getName()).getCount();
+        int index = indexOf(type);
+        if (index >= 0) {
+            return typeCounters[index].getCount();
         }
         return 0;
     }
@@ -22,6 +22,7 @@ import mage.constants.CardType;
 import mage.game.Game;
 import mage.game.events.ZoneChangeEvent;
 import mage.util.GameLog;
+import mage.util.IdUtil;
 
 /**
  *
@@ -41,7 +42,7 @@ public abstract class Designation implements MageObject {
 
     public Designation(String name, String expansionSetCode) {
         this.name = name;
-        this.id = UUID.randomUUID();
+        this.id = IdUtil.newId();
         this.frameStyle = FrameStyle.M15_NORMAL;
         this.expansionSetCodeForImage = expansionSetCode;
     }
@@ -61,7 +62,7 @@ public abstract class Designation implements MageObject {
     }
 
     public void assignNewId() {
-        this.id = UUID.randomUUID();
+        this.id = IdUtil.newId();
     }
 
     @Override
@@ -27,6 +27,8 @@
  */
 package mage.designations;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObject;
 import mage.abilities.TriggeredAbilityImpl;
@@ -114,6 +116,11 @@ class MonarchDealsCombatDamageToAPlayerTriggeredAbility extends TriggeredAbility
         super(ability);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public boolean checkEventType(GameEvent event, Game game) {
         return event.getType() == GameEvent.EventType.DAMAGED_PLAYER;
@@ -27,7 +27,7 @@
  */
 package mage.filter;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -37,6 +37,7 @@ import mage.cards.SplitCard;
 import mage.filter.predicate.ObjectPlayer;
 import mage.filter.predicate.ObjectPlayerPredicate;
 import mage.filter.predicate.ObjectSourcePlayer;
+import mage.filter.predicate.Predicate;
 import mage.filter.predicate.Predicates;
 import mage.game.Game;
 
@@ -48,7 +49,8 @@ import mage.game.Game;
 public class FilterCard extends FilterObject<Card> {
 
     private static final long serialVersionUID = 1L;
-    protected List<ObjectPlayerPredicate<ObjectPlayer<Card>>> extraPredicates = new ArrayList<>();
+    protected List<ObjectPlayerPredicate<ObjectPlayer<Card>>> extraPredicates = Collections.emptyList();
+    private transient Predicate<ObjectPlayer<Card>> compiledExtraPredicates;
 
     public FilterCard() {
         super("card");
@@ -60,7 +62,8 @@ public class FilterCard extends FilterObject<Card> {
 
     public FilterCard(FilterCard filter) {
         super(filter);
-        this.extraPredicates = new ArrayList<>(filter.extraPredicates);
+        this.extraPredicates = filter.extraPredicates;
+        this.compiledExtraPredicates = filter.compiledExtraPredicates;
     }
 
     //20130711 708.6c
@@ -90,18 +93,28 @@ public class FilterCard extends FilterObject<Card> {
             return false;
         }
 
-        return Predicates.and(extraPredicates).apply(new ObjectPlayer(card, playerId), game);
+        return getCompiledExtraPredicates().apply(new ObjectPlayer(card, playerId), game);
     }
 
     public boolean match(Card card, UUID sourceId, UUID playerId, Game game) {
         if (!this.match(card, game)) {
             return false;
         }
-        return Predicates.and(extraPredicates).apply(new ObjectSourcePlayer(card, sourceId, playerId), game);
+        return getCompiledExtraPredicates().apply(new ObjectSourcePlayer(card, sourceId, playerId), game);
     }
 
     public void add(ObjectPlayerPredicate predicate) {
-        extraPredicates.add(predicate);
+        extraPredicates = copyWith(extraPredicates, predicate);
+        compiledExtraPredicates = null;
+    }
+
+    private Predicate<ObjectPlayer<Card>> getCompiledExtraPredicates() {
+        Predicate<ObjectPlayer<Card>> compiled = compiledExtraPredicates;
+        if (compiled == null) {
+            compiled = Predicates.compile(extraPredicates);
+            compiledExtraPredicates = compiled;
+        }
+        return compiled;
     }
 
     public Set<Card> filter(Set<Card> cards, Game game) {
@@ -28,6 +28,7 @@
 package mage.filter;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import mage.filter.predicate.Predicate;
 import mage.filter.predicate.Predicates;
@@ -41,8 +42,11 @@ import mage.game.Game;
  */
 public abstract class FilterImpl<E> implements Filter<E> {
 
-    protected List<Predicate<Object>> predicates = new ArrayList<>();
+    // never changed in place (see add), so copies of the filter can share the list
+    protected List<Predicate<Object>> predicates = Collections.emptyList();
     protected String message;
+    // compiled on first match, so static filters are only compiled once
+    private transient Predicate<Object> compiledPredicates;
 
     @Override
     public abstract FilterImpl<E> copy();
@@ -53,20 +57,49 @@ public abstract class FilterImpl<E> implements Filter<E> {
 
     public FilterImpl(FilterImpl<E> filter) {
         this.message = filter.message;
-        this.predicates = new ArrayList<>(filter.predicates);
+        this.predicates = filter.predicates;
+        this.compiledPredicates = filter.compiledPredicates;
     }
 
     @Override
     public boolean match(E e, Game game) {
         if (checkObjectClass(e)) {
-            return Predicates.and(predicates).apply(e, game);
+            return getCompiledPredicates().apply(e, game);
         }
         return false;
     }
 
     @Override
     public final void add(Predicate predicate) {
-        predicates.add(predicate);
+        predicates = copyWith(predicates, predicate);
+        compiledPredicates = null;
+    }
+
+    /**
+     * Filters are copied with every ability, target and effect, but their
+     * predicates are only added while the filter is built. So the predicate
+     * lists of a filter are replaced instead of changed and the copies share
+     * the lists of the original filter.
+     *
+     * @param <T>
+     * @param list
+     * @param element
+     * @return a new list with the elements of the list and the element
+     */
+    static <T> List<T> copyWith(List<T> list, T element) {
+        List<T> newList = new ArrayList<>(list.size() + 1);
+        newList.addAll(list);
+        newList.add(element);
+        return newList;
+    }
+
+    protected Predicate<Object> getCompiledPredicates() {
+        Predicate<Object> compiled = compiledPredicates;
+        if (compiled == null) {
+            compiled = Predicates.compile(predicates);
+            compiledPredicates = compiled;
+        }
+        return compiled;
     }
 
     @Override
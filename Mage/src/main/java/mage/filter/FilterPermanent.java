@@ -28,13 +28,17 @@
 package mage.filter;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import mage.constants.TargetController;
 import mage.filter.predicate.ObjectPlayer;
 import mage.filter.predicate.ObjectPlayerPredicate;
 import mage.filter.predicate.ObjectSourcePlayer;
+import mage.filter.predicate.Predicate;
 import mage.filter.predicate.Predicates;
 import mage.filter.predicate.mageobject.SubtypePredicate;
+import mage.filter.predicate.permanent.ControllerPredicate;
 import mage.game.Game;
 import mage.game.permanent.Permanent;
 
@@ -44,7 +48,8 @@ import mage.game.permanent.Permanent;
  */
 public class FilterPermanent extends FilterObject<Permanent> implements FilterInPlay<Permanent> {
 
-    protected List<ObjectPlayerPredicate<ObjectPlayer<Permanent>>> extraPredicates = new ArrayList<>();
+    protected List<ObjectPlayerPredicate<ObjectPlayer<Permanent>>> extraPredicates = Collections.emptyList();
+    private transient CompiledExtraPredicates compiledExtraPredicates;
 
     public FilterPermanent() {
         super("permanent");
@@ -52,7 +57,8 @@ public class FilterPermanent extends FilterObject<Permanent> implements FilterIn
 
     public FilterPermanent(final FilterPermanent filter) {
         super(filter);
-        this.extraPredicates = new ArrayList<>(filter.extraPredicates);
+        this.extraPredicates = filter.extraPredicates;
+        this.compiledExtraPredicates = filter.compiledExtraPredicates;
     }
 
     public FilterPermanent(String name) {
@@ -71,15 +77,47 @@ public class FilterPermanent extends FilterObject<Permanent> implements FilterIn
 
     @Override
     public boolean match(Permanent permanent, UUID sourceId, UUID playerId, Game game) {
+        CompiledExtraPredicates compiled = getCompiledExtraPredicates();
+        ObjectSourcePlayer<Permanent> input = new ObjectSourcePlayer<>(permanent, sourceId, playerId);
+        if (permanent != null && !compiled.controllerChecks.apply(input, game)) {
+            return false;
+        }
         if (!this.match(permanent, game)) {
             return false;
         }
 
-        return Predicates.and(extraPredicates).apply(new ObjectSourcePlayer(permanent, sourceId, playerId), game);
+        return compiled.others.apply(input, game);
     }
 
     public void add(ObjectPlayerPredicate predicate) {
-        extraPredicates.add(predicate);
+        extraPredicates = copyWith(extraPredicates, predicate);
+        compiledExtraPredicates = null;
+    }
+
+    private CompiledExtraPredicates getCompiledExtraPredicates() {
+        CompiledExtraPredicates compiled = compiledExtraPredicates;
+        if (compiled == null) {
+            List<ObjectPlayerPredicate<ObjectPlayer<Permanent>>> controllerChecks = new ArrayList<>();
+            List<ObjectPlayerPredicate<ObjectPlayer<Permanent>>> others = new ArrayList<>();
+            for (ObjectPlayerPredicate<ObjectPlayer<Permanent>> predicate : extraPredicates) {
+                if (isControllerCheck(predicate)) {
+                    controllerChecks.add(predicate);
+                } else {
+                    others.add(predicate);
+                }
+            }
+            compiled = new CompiledExtraPredicates(Predicates.compile(controllerChecks), Predicates.compile(others));
+            compiledExtraPredicates = compiled;
+        }
+        return compiled;
+    }
+
+    private static boolean isControllerCheck(Object predicate) {
+        if (predicate.getClass() == ControllerPredicate.class) {
+            TargetController controller = ((ControllerPredicate) predicate).getController();
+            return controller == TargetController.YOU || controller == TargetController.NOT_YOU;
+        }
+        return false;
     }
 
     @Override
@@ -87,4 +125,18 @@ public class FilterPermanent extends FilterObject<Permanent> implements FilterIn
         return new FilterPermanent(this);
     }
 
+    /**
+     * The "you control" checks of the extra predicates are done before all
+     * other predicates, the other extra predicates after them.
+     */
+    private static final class CompiledExtraPredicates {
+
+        private final Predicate<ObjectPlayer<Permanent>> controllerChecks;
+        private final Predicate<ObjectPlayer<Permanent>> others;
+
+        private CompiledExtraPredicates(Predicate<ObjectPlayer<Permanent>> controllerChecks, Predicate<ObjectPlayer<Permanent>> others) {
+            this.controllerChecks = controllerChecks;
+            this.others = others;
+        }
+    }
 }
@@ -27,12 +27,13 @@
  */
 package mage.filter;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import mage.filter.predicate.ObjectPlayer;
 import mage.filter.predicate.ObjectPlayerPredicate;
 import mage.filter.predicate.ObjectSourcePlayer;
+import mage.filter.predicate.Predicate;
 import mage.filter.predicate.Predicates;
 import mage.game.Game;
 import mage.players.Player;
@@ -44,7 +45,8 @@ import mage.players.Player;
  */
 public class FilterPlayer extends FilterImpl<Player> {
 
-    protected List<ObjectPlayerPredicate<ObjectPlayer<Player>>> extraPredicates = new ArrayList<>();
+    protected List<ObjectPlayerPredicate<ObjectPlayer<Player>>> extraPredicates = Collections.emptyList();
+    private transient Predicate<ObjectPlayer<Player>> compiledExtraPredicates;
 
     public FilterPlayer() {
         this("player");
@@ -56,11 +58,22 @@ public class FilterPlayer extends FilterImpl<Player> {
 
     public FilterPlayer(final FilterPlayer filter) {
         super(filter);
-        this.extraPredicates = new ArrayList<>(filter.extraPredicates);
+        this.extraPredicates = filter.extraPredicates;
+        this.compiledExtraPredicates = filter.compiledExtraPredicates;
     }
 
     public void add(ObjectPlayerPredicate predicate) {
-        extraPredicates.add(predicate);
+        extraPredicates = copyWith(extraPredicates, predicate);
+        compiledExtraPredicates = null;
+    }
+
+    private Predicate<ObjectPlayer<Player>> getCompiledExtraPredicates() {
+        Predicate<ObjectPlayer<Player>> compiled = compiledExtraPredicates;
+        if (compiled == null) {
+            compiled = Predicates.compile(extraPredicates);
+            compiledExtraPredicates = compiled;
+        }
+        return compiled;
     }
 
     @Override
@@ -73,7 +86,7 @@ public class FilterPlayer extends FilterImpl<Player> {
             return false;
         }
 
-        return Predicates.and(extraPredicates).apply(new ObjectSourcePlayer(player, sourceId, playerId), game);
+        return getCompiledExtraPredicates().apply(new ObjectSourcePlayer(player, sourceId, playerId), game);
     }
 
     @Override
@@ -27,12 +27,13 @@
  */
 package mage.filter;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import mage.filter.predicate.ObjectPlayer;
 import mage.filter.predicate.ObjectPlayerPredicate;
 import mage.filter.predicate.ObjectSourcePlayer;
+import mage.filter.predicate.Predicate;
 import mage.filter.predicate.Predicates;
 import mage.game.Game;
 import mage.game.permanent.Permanent;
@@ -44,7 +45,8 @@ import mage.game.stack.StackObject;
  */
 public class FilterStackObject extends FilterObject<StackObject> {
 
-    protected List<ObjectPlayerPredicate<ObjectPlayer<Permanent>>> extraPredicates = new ArrayList<>();
+    protected List<ObjectPlayerPredicate<ObjectPlayer<Permanent>>> extraPredicates = Collections.emptyList();
+    private transient Predicate<ObjectPlayer<Permanent>> compiledExtraPredicates;
 
     public FilterStackObject() {
         super("spell or ability");
@@ -56,7 +58,8 @@ public class FilterStackObject extends FilterObject<StackObject> {
 
     public FilterStackObject(final FilterStackObject filter) {
         super(filter);
-        this.extraPredicates = new ArrayList<>(filter.extraPredicates);
+        this.extraPredicates = filter.extraPredicates;
+        this.compiledExtraPredicates = filter.compiledExtraPredicates;
     }
 
     public boolean match(StackObject stackObject, UUID sourceId, UUID playerId, Game game) {
@@ -64,11 +67,21 @@ public class FilterStackObject extends FilterObject<StackObject> {
             return false;
         }
 
-        return Predicates.and(extraPredicates).apply(new ObjectSourcePlayer(stackObject, sourceId, playerId), game);
+        return getCompiledExtraPredicates().apply(new ObjectSourcePlayer(stackObject, sourceId, playerId), game);
     }
 
     public void add(ObjectPlayerPredicate predicate) {
-        extraPredicates.add(predicate);
+        extraPredicates = copyWith(extraPredicates, predicate);
+        compiledExtraPredicates = null;
+    }
+
+    private Predicate<ObjectPlayer<Permanent>> getCompiledExtraPredicates() {
+        Predicate<ObjectPlayer<Permanent>> compiled = compiledExtraPredicates;
+        if (compiled == null) {
+            compiled = Predicates.compile(extraPredicates);
+            compiledExtraPredicates = compiled;
+        }
+        return compiled;
     }
 
     @Override
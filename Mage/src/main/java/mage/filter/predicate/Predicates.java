@@ -27,7 +27,12 @@
  */
 package mage.filter.predicate;
 
+import mage.MageObject;
+import mage.constants.CardType;
+import mage.filter.predicate.mageobject.CardTypePredicate;
+import mage.filter.predicate.mageobject.ColorPredicate;
 import mage.game.Game;
+import mage.util.CardTypeList;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -132,6 +137,20 @@ public final class Predicates {
         return new OrPredicate<>(Predicates.<T>asList(first, second));
     }
 
+    /**
+     * Returns a predicate that evaluates to {@code true} if each of its components evaluates to {@code true}, like
+     * {@link #and(Iterable)}, but prepared for repeated evaluation. Nested and predicates are flattened. Card type
+     * checks (also negated ones and or predicates of only card types) are combined into one bit mask check that is
+     * done first, followed by the color checks. The other components are evaluated in the given order afterwards.
+     * The components must not be changed after compiling.
+     * @param <T>
+     * @param components
+     * @return
+     */
+    public static <T> Predicate<T> compile(Iterable<? extends Predicate<? super T>> components) {
+        return new CompiledPredicate<>(components);
+    }
+
     /**
      * @see Predicates#not(Predicate)
      */
@@ -211,6 +230,129 @@ public final class Predicates {
         private static final long serialVersionUID = 0;
     }
 
+    /**
+     * @see Predicates#compile(Iterable)
+     */
+    private static class CompiledPredicate<T> implements Predicate<T> {
+
+        private final int requiredTypes;
+        private final int excludedTypes;
+        private final int[] anyOfTypes;
+        private final List<Predicate<? super T>> colorChecks = new ArrayList<>();
+        private final List<Predicate<? super T>> components = new ArrayList<>();
+
+        private CompiledPredicate(Iterable<? extends Predicate<? super T>> predicates) {
+            List<Predicate<? super T>> flattened = new ArrayList<>();
+            flatten(predicates, flattened);
+            int required = 0;
+            int excluded = 0;
+            List<Integer> anyOf = new ArrayList<>();
+            for (Predicate<? super T> predicate : flattened) {
+                if (isCardTypeCheck(predicate)) {
+                    required |= typeMask((CardTypePredicate) predicate);
+                } else if (predicate instanceof NotPredicate && isCardTypeCheck(((NotPredicate) predicate).predicate)) {
+                    excluded |= typeMask((CardTypePredicate) ((NotPredicate) predicate).predicate);
+                } else if (isCardTypeChoice(predicate)) {
+                    int mask = 0;
+                    for (Object component : ((OrPredicate) predicate).components) {
+                        mask |= typeMask((CardTypePredicate) component);
+                    }
+                    anyOf.add(mask);
+                } else if (isColorCheck(predicate)
+                        || predicate instanceof NotPredicate && isColorCheck(((NotPredicate) predicate).predicate)) {
+                    colorChecks.add(predicate);
+                } else {
+                    components.add(predicate);
+                }
+            }
+            this.requiredTypes = required;
+            this.excludedTypes = excluded;
+            this.anyOfTypes = new int[anyOf.size()];
+            for (int i = 0; i < anyOfTypes.length; i++) {
+                anyOfTypes[i] = anyOf.get(i);
+            }
+        }
+
+        private static <T> void flatten(Iterable<? extends Predicate<? super T>> predicates, List<Predicate<? super T>> flattened) {
+            for (Predicate<? super T> predicate : predicates) {
+                if (predicate instanceof AndPredicate) {
+                    flatten(((AndPredicate<T>) predicate).components, flattened);
+                } else {
+                    flattened.add(checkNotNull(predicate));
+                }
+            }
+        }
+
+        private static boolean isCardTypeCheck(Object predicate) {
+            return predicate.getClass() == CardTypePredicate.class;
+        }
+
+        private static boolean isCardTypeChoice(Object predicate) {
+            if (!(predicate instanceof OrPredicate) || ((OrPredicate) predicate).components.isEmpty()) {
+                return false;
+            }
+            for (Object component : ((OrPredicate) predicate).components) {
+                if (!isCardTypeCheck(component)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isColorCheck(Object predicate) {
+            return predicate.getClass() == ColorPredicate.class;
+        }
+
+        private static int typeMask(CardTypePredicate predicate) {
+            return (int) CardTypeList.bitOf(predicate.getCardType());
+        }
+
+        private static int typeMask(MageObject object) {
+            List<CardType> cardTypes = object.getCardType();
+            if (cardTypes instanceof CardTypeList) {
+                return (int) ((CardTypeList) cardTypes).getMask();
+            }
+            int mask = 0;
+            for (CardType cardType : cardTypes) {
+                mask |= CardTypeList.bitOf(cardType);
+            }
+            return mask;
+        }
+
+        @Override
+        public boolean apply(T t, Game game) {
+            if (requiredTypes != 0 || excludedTypes != 0 || anyOfTypes.length > 0) {
+                int types = typeMask((MageObject) t);
+                if ((types & requiredTypes) != requiredTypes || (types & excludedTypes) != 0) {
+                    return false;
+                }
+                for (int anyOf : anyOfTypes) {
+                    if ((types & anyOf) == 0) {
+                        return false;
+                    }
+                }
+            }
+            for (Predicate<? super T> component : colorChecks) {
+                if (!component.apply(t, game)) {
+                    return false;
+                }
+            }
+            for (Predicate<? super T> component : components) {
+                if (!component.apply(t, game)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "Compiled(" + Integer.toBinaryString(requiredTypes) + ", " + Integer.toBinaryString(excludedTypes)
+                    + ", " + Arrays.toString(anyOfTypes) + ", " + colorChecks + ", " + components + ")";
+        }
+        private static final long serialVersionUID = 0;
+    }
+
     @SuppressWarnings("unchecked")
     private static <T> List<Predicate<? super T>> asList(Predicate<? super T> first, Predicate<? super T> second) {
         return Arrays.<Predicate<? super T>>asList(first, second);
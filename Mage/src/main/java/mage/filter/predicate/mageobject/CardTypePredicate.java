@@ -44,6 +44,10 @@ public class CardTypePredicate implements Predicate<MageObject> {
         this.cardType = cardType;
     }
 
+    public CardType getCardType() {
+        return cardType;
+    }
+
     @Override
     public boolean apply(MageObject input, Game game) {
         return input.getCardType().contains(cardType);
@@ -47,6 +47,10 @@ public class ControllerPredicate implements ObjectPlayerPredicate<ObjectPlayer<C
         this.controller = controller;
     }
 
+    public TargetController getController() {
+        return controller;
+    }
+
     @Override
     public boolean apply(ObjectPlayer<Controllable> input, Game game) {
         Controllable object = input.getObject();
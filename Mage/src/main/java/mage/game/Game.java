@@ -30,7 +30,6 @@ package mage.game;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -124,7 +123,7 @@ public interface Game extends MageItem, Serializable {
 
     Map<UUID, Permanent> getPermanentsEntering();
 
-    Map<Zone, HashMap<UUID, MageObject>> getLKI();
+    LastKnownInformation getLKI();
 
     Card getCard(UUID cardId);
 
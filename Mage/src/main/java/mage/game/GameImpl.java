@@ -32,7 +32,6 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
-import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -174,10 +173,9 @@ public abstract class GameImpl implements Game, Serializable {
     protected Map<UUID, Card> gameCards = new HashMap<>();
     protected Map<UUID, MeldCard> meldCards = new HashMap<>(0);
 
-    protected Map<Zone, HashMap<UUID, MageObject>> lki = new EnumMap<>(Zone.class);
-    protected Map<UUID, Map<Integer, MageObject>> lkiExtended = new HashMap<>();
-    // Used to check if an object was moved by the current effect in resolution (so Wrath like effect can be handled correctly)
-    protected Map<Zone, Set<UUID>> shortLivingLKI = new EnumMap<>(Zone.class);
+    protected LastKnownInformation lki = new LastKnownInformation();
+    // not copied, what a check of the state-based actions found is only reused by the same game
+    private final StateBasedActionsTracker stateBasedActions = new StateBasedActionsTracker();
 
     // Permanents entering the Battlefield while handling replacement effects before they are added to the battlefield
     protected Map<UUID, Permanent> permanentsEntering = new HashMap<>();
@@ -247,9 +245,7 @@ public abstract class GameImpl implements Game, Serializable {
         this.gameCards = game.gameCards;
         this.simulation = game.simulation;
         this.gameOptions = game.gameOptions;
-        this.lki.putAll(game.lki);
-        this.lkiExtended.putAll(game.lkiExtended);
-        this.shortLivingLKI.putAll(game.shortLivingLKI);
+        this.lki = game.lki.copy();
         this.permanentsEntering.putAll(game.permanentsEntering);
         if (logger.isDebugEnabled()) {
             copyCount++;
@@ -363,26 +359,18 @@ public abstract class GameImpl implements Game, Serializable {
         if (objectId == null) {
             return null;
         }
-        MageObject object;
-        if (state.getBattlefield().containsPermanent(objectId)) {
-            object = state.getBattlefield().getPermanent(objectId);
-            state.setZone(objectId, Zone.BATTLEFIELD); // why is this neccessary?
+        // the zones keep their objects by id, so each lookup is a single map access
+        MageObject object = state.getBattlefield().getPermanent(objectId);
+        if (object != null) {
             return object;
         }
-        for (StackObject item : state.getStack()) {
-            if (item.getId().equals(objectId)) {
-                state.setZone(objectId, Zone.STACK); // why is this neccessary?
-                return item;
-            }
-            if (item.getSourceId().equals(objectId) && item instanceof Spell) {
-                return item;
-            }
+        object = state.getStack().getObject(objectId);
+        if (object != null) {
+            return object;
         }
-
-        for (CommandObject commandObject : state.getCommand()) {
-            if (commandObject.getId().equals(objectId)) {
-                return commandObject;
-            }
+        object = state.getCommand().getCommandObject(objectId);
+        if (object != null) {
+            return object;
         }
 
         object = getCard(objectId);
@@ -421,18 +409,13 @@ public abstract class GameImpl implements Game, Serializable {
         if (object != null) {
             return object;
         }
-        for (CommandObject commandObject : state.getCommand()) {
-            if (commandObject instanceof Commander && commandObject.getId().equals(objectId)) {
-                return commandObject;
-            }
+        CommandObject commandObject = state.getCommand().getCommandObject(objectId);
+        if (commandObject instanceof Commander) {
+            return commandObject;
         }
         object = getCard(objectId);
         if (object == null) {
-            for (CommandObject commandObject : state.getCommand()) {
-                if (commandObject.getId().equals(objectId)) {
-                    return commandObject;
-                }
-            }
+            return commandObject;
         }
         return object;
     }
@@ -442,12 +425,7 @@ public abstract class GameImpl implements Game, Serializable {
         if (objectId == null) {
             return null;
         }
-        for (CommandObject commandObject : state.getCommand()) {
-            if (commandObject.getId().equals(objectId)) {
-                return commandObject;
-            }
-        }
-        return null;
+        return state.getCommand().getCommandObject(objectId);
     }
 
     @Override
@@ -575,7 +553,7 @@ public abstract class GameImpl implements Game, Serializable {
     public void saveState(boolean bookmark) {
         if (!simulation && gameStates != null) {
             if (bookmark || saveGame) {
-                gameStates.save(state);
+                gameStates.save(state, bookmark);
             }
         }
     }
@@ -681,6 +659,8 @@ public abstract class GameImpl implements Game, Serializable {
                 if (restore != null) {
                     state.restore(restore);
                     playerList.setCurrent(state.getPlayerByOrderId());
+                } else {
+                    logger.error("Undo not possible, saved state " + stateNum + " of bookmark " + (bookmark - 1) + " does not exist, context: " + context);
                 }
             }
         }
@@ -1728,202 +1708,286 @@ public abstract class GameImpl implements Game, Serializable {
         List<Permanent> planeswalkers = new ArrayList<>();
         List<Permanent> legendary = new ArrayList<>();
         List<Permanent> worldEnchantment = new ArrayList<>();
-        for (Permanent perm : getBattlefield().getAllActivePermanents()) {
-            if (perm.getCardType().contains(CardType.CREATURE)) {
-                //20091005 - 704.5f
-                if (perm.getToughness().getValue() <= 0) {
-                    if (movePermanentToGraveyardWithInfo(perm)) {
-                        somethingHappened = true;
-                        continue;
-                    }
-                } //20091005 - 704.5g/704.5h
-                else if (perm.getToughness().getValue() <= perm.getDamage() || perm.isDeathtouched()) {
-                    if (perm.destroy(null, this, false)) {
-                        somethingHappened = true;
-                        continue;
-                    }
+        boolean incremental = getOptions().incrementalStateBasedActions;
+        boolean verify = incremental && getOptions().verifyIncrementalStateBasedActions;
+        long version = state.getVersion();
+        boolean unchanged = incremental && stateBasedActions.isUnchanged(version);
+        if (unchanged && !verify) {
+            // nothing has changed since the last check that found nothing to do
+            return somethingHappened;
+        }
+        List<Permanent> permanents = getBattlefield().getAllActivePermanents();
+        for (Permanent perm : permanents) {
+            StateBasedActionsTracker.Checked checked = incremental ? stateBasedActions.getChecked(perm, this) : null;
+            if (checked != null && !verify) {
+                // nothing to do for the permanent as long as its characteristics stay the same
+                if (checked.isPlaneswalker()) {
+                    planeswalkers.add(perm);
                 }
-                if (perm.getPairedCard() != null) {
-                    //702.93e.: ...another player gains control
-                    // ...or the creature it's paired with leaves the battlefield.
-                    Permanent paired = perm.getPairedCard().getPermanent(this);
-                    if (paired == null || !perm.getControllerId().equals(paired.getControllerId()) || paired.getPairedCard() == null) {
-                        perm.setPairedCard(null);
-                        if (paired != null) {
-                            paired.setPairedCard(null);
-                        }
-                        somethingHappened = true;
-                    }
+                if (checked.isWorld()) {
+                    worldEnchantment.add(perm);
                 }
-            } else if (perm.getPairedCard() != null) {
-                //702.93e.: ...stops being a creature
-                Permanent paired = perm.getPairedCard().getPermanent(this);
-                perm.setPairedCard(null);
-                if (paired != null) {
-                    paired.setPairedCard(null);
+                if (this.getState().isLegendaryRuleActive() && checked.isLegendary()) {
+                    legendary.add(perm);
                 }
+                continue;
+            }
+            StateBasedActionsTracker.Checked before = incremental ? StateBasedActionsTracker.snapshot(perm, this) : null;
+            long permanentVersion = state.getVersion();
+            boolean changed = checkStateBasedActions(perm, planeswalkers, legendary, worldEnchantment);
+            if (changed) {
                 somethingHappened = true;
             }
-            if (perm.getCardType().contains(CardType.PLANESWALKER)) {
-                //20091005 - 704.5i
-                if (perm.getCounters(this).getCount(CounterType.LOYALTY) == 0) {
+            if (!incremental) {
+                continue;
+            }
+            boolean nothingToDo = !changed
+                    && getBattlefield().containsPermanent(perm.getId())
+                    && (before == null || before.matches(perm, this));
+            if ((checked != null || unchanged) && (!nothingToDo || state.getVersion() != permanentVersion)) {
+                logger.error("Incremental check of state-based actions missed " + perm.getLogName());
+                throw new IllegalStateException("Incremental check of state-based actions missed " + perm.getLogName());
+            }
+            if (nothingToDo && before != null) {
+                stateBasedActions.setChecked(perm, before);
+            } else {
+                stateBasedActions.remove(perm.getId());
+            }
+        }
+        if (checkStateBasedActions(planeswalkers, legendary, worldEnchantment)) {
+            somethingHappened = true;
+        }
+        if (incremental) {
+            if (unchanged && (somethingHappened || state.getVersion() != version)) {
+                logger.error("Incremental check of state-based actions missed rules of several permanents");
+                throw new IllegalStateException("Incremental check of state-based actions missed rules of several permanents");
+            }
+            stateBasedActions.retain(permanents);
+            if (!somethingHappened && state.getVersion() == version) {
+                stateBasedActions.setCheckedVersion(version);
+            }
+        }
+        //TODO: implement the rest
+
+        return somethingHappened;
+    }
+
+    /**
+     * Checks the state-based actions of a single permanent (everything except
+     * the rules that compare several permanents).
+     *
+     * @param perm
+     * @param planeswalkers the permanent is added if it is a planeswalker
+     * @param legendary the permanent is added if the legend rule applies to it
+     * @param worldEnchantment the permanent is added if it is a world
+     * enchantment
+     * @return true if the permanent was moved, destroyed or changed
+     */
+    private boolean checkStateBasedActions(Permanent perm, List<Permanent> planeswalkers, List<Permanent> legendary, List<Permanent> worldEnchantment) {
+        boolean somethingHappened = false;
+        if (perm.getCardType().contains(CardType.CREATURE)) {
+            //20091005 - 704.5f
+            if (perm.getToughness().getValue() <= 0) {
+                if (movePermanentToGraveyardWithInfo(perm)) {
+                    return true;
+                }
+            } //20091005 - 704.5g/704.5h
+            else if (perm.getToughness().getValue() <= perm.getDamage() || perm.isDeathtouched()) {
+                if (perm.destroy(null, this, false)) {
+                    return true;
+                }
+            }
+            if (perm.getPairedCard() != null) {
+                //702.93e.: ...another player gains control
+                // ...or the creature it's paired with leaves the battlefield.
+                Permanent paired = perm.getPairedCard().getPermanent(this);
+                if (paired == null || !perm.getControllerId().equals(paired.getControllerId()) || paired.getPairedCard() == null) {
+                    perm.setPairedCard(null);
+                    if (paired != null) {
+                        paired.setPairedCard(null);
+                    }
+                    somethingHappened = true;
+                }
+            }
+        } else if (perm.getPairedCard() != null) {
+            //702.93e.: ...stops being a creature
+            Permanent paired = perm.getPairedCard().getPermanent(this);
+            perm.setPairedCard(null);
+            if (paired != null) {
+                paired.setPairedCard(null);
+            }
+            somethingHappened = true;
+        }
+        if (perm.getCardType().contains(CardType.PLANESWALKER)) {
+            //20091005 - 704.5i
+            if (perm.getCounters(this).getCount(CounterType.LOYALTY) == 0) {
+                if (movePermanentToGraveyardWithInfo(perm)) {
+                    return true;
+                }
+            }
+            planeswalkers.add(perm);
+        }
+        if (perm.getSupertype().contains("World")) {
+            worldEnchantment.add(perm);
+        }
+        if (FILTER_AURA.match(perm, this)) {
+            //20091005 - 704.5n, 702.14c
+            if (perm.getAttachedTo() == null) {
+                Card card = this.getCard(perm.getId());
+                if (card != null && !card.getCardType().contains(CardType.CREATURE)) { // no bestow creature
                     if (movePermanentToGraveyardWithInfo(perm)) {
                         somethingHappened = true;
-                        continue;
                     }
                 }
-                planeswalkers.add(perm);
-            }
-            if (perm.getSupertype().contains("World")) {
-                worldEnchantment.add(perm);
-            }
-            if (FILTER_AURA.match(perm, this)) {
-                //20091005 - 704.5n, 702.14c
-                if (perm.getAttachedTo() == null) {
-                    Card card = this.getCard(perm.getId());
-                    if (card != null && !card.getCardType().contains(CardType.CREATURE)) { // no bestow creature
-                        if (movePermanentToGraveyardWithInfo(perm)) {
-                            somethingHappened = true;
+            } else {
+                SpellAbility spellAbility = perm.getSpellAbility();
+                if (spellAbility.getTargets().isEmpty()) {
+                    for (Ability ability : perm.getAbilities(this)) {
+                        if ((ability instanceof SpellAbility)
+                                && SpellAbilityType.BASE_ALTERNATE.equals(((SpellAbility) ability).getSpellAbilityType())
+                                && !ability.getTargets().isEmpty()) {
+                            spellAbility = (SpellAbility) ability;
+                            break;
                         }
                     }
+                }
+                if (spellAbility.getTargets().isEmpty()) {
+                    Permanent enchanted = this.getPermanent(perm.getAttachedTo());
+                    logger.error("Aura without target: " + perm.getName() + " attached to " + (enchanted == null ? " null" : enchanted.getName()));
                 } else {
-                    SpellAbility spellAbility = perm.getSpellAbility();
-                    if (spellAbility.getTargets().isEmpty()) {
-                        for (Ability ability : perm.getAbilities(this)) {
-                            if ((ability instanceof SpellAbility)
-                                    && SpellAbilityType.BASE_ALTERNATE.equals(((SpellAbility) ability).getSpellAbilityType())
-                                    && !ability.getTargets().isEmpty()) {
-                                spellAbility = (SpellAbility) ability;
-                                break;
+                    Target target = spellAbility.getTargets().get(0);
+                    if (target instanceof TargetPermanent) {
+                        Permanent attachedTo = getPermanent(perm.getAttachedTo());
+                        if (attachedTo == null || !attachedTo.getAttachments().contains(perm.getId())) {
+                            // handle bestow unattachment
+                            Card card = this.getCard(perm.getId());
+                            if (card != null && card.getCardType().contains(CardType.CREATURE)) {
+                                UUID wasAttachedTo = perm.getAttachedTo();
+                                perm.attachTo(null, this);
+                                BestowAbility.becomeCreature(perm, this);
+                                fireEvent(new GameEvent(GameEvent.EventType.UNATTACHED, wasAttachedTo, perm.getId(), perm.getControllerId()));
+                            } else if (movePermanentToGraveyardWithInfo(perm)) {
+                                somethingHappened = true;
                             }
-                        }
-                    }
-                    if (spellAbility.getTargets().isEmpty()) {
-                        Permanent enchanted = this.getPermanent(perm.getAttachedTo());
-                        logger.error("Aura without target: " + perm.getName() + " attached to " + (enchanted == null ? " null" : enchanted.getName()));
-                    } else {
-                        Target target = spellAbility.getTargets().get(0);
-                        if (target instanceof TargetPermanent) {
-                            Permanent attachedTo = getPermanent(perm.getAttachedTo());
-                            if (attachedTo == null || !attachedTo.getAttachments().contains(perm.getId())) {
+                        } else {
+                            Filter auraFilter = spellAbility.getTargets().get(0).getFilter();
+                            if (auraFilter instanceof FilterControlledCreaturePermanent) {
+                                if (!((FilterControlledCreaturePermanent) auraFilter).match(attachedTo, perm.getId(), perm.getControllerId(), this)
+                                        || attachedTo.cantBeAttachedBy(perm, this)) {
+                                    if (movePermanentToGraveyardWithInfo(perm)) {
+                                        somethingHappened = true;
+                                    }
+                                }
+                            } else if (!auraFilter.match(attachedTo, this) || attachedTo.cantBeAttachedBy(perm, this)) {
                                 // handle bestow unattachment
                                 Card card = this.getCard(perm.getId());
                                 if (card != null && card.getCardType().contains(CardType.CREATURE)) {
                                     UUID wasAttachedTo = perm.getAttachedTo();
                                     perm.attachTo(null, this);
-                                    BestowAbility.becomeCreature(perm, this);
                                     fireEvent(new GameEvent(GameEvent.EventType.UNATTACHED, wasAttachedTo, perm.getId(), perm.getControllerId()));
                                 } else if (movePermanentToGraveyardWithInfo(perm)) {
                                     somethingHappened = true;
                                 }
-                            } else {
-                                Filter auraFilter = spellAbility.getTargets().get(0).getFilter();
-                                if (auraFilter instanceof FilterControlledCreaturePermanent) {
-                                    if (!((FilterControlledCreaturePermanent) auraFilter).match(attachedTo, perm.getId(), perm.getControllerId(), this)
-                                            || attachedTo.cantBeAttachedBy(perm, this)) {
-                                        if (movePermanentToGraveyardWithInfo(perm)) {
-                                            somethingHappened = true;
-                                        }
-                                    }
-                                } else if (!auraFilter.match(attachedTo, this) || attachedTo.cantBeAttachedBy(perm, this)) {
-                                    // handle bestow unattachment
-                                    Card card = this.getCard(perm.getId());
-                                    if (card != null && card.getCardType().contains(CardType.CREATURE)) {
-                                        UUID wasAttachedTo = perm.getAttachedTo();
-                                        perm.attachTo(null, this);
-                                        fireEvent(new GameEvent(GameEvent.EventType.UNATTACHED, wasAttachedTo, perm.getId(), perm.getControllerId()));
-                                    } else if (movePermanentToGraveyardWithInfo(perm)) {
-                                        somethingHappened = true;
-                                    }
-                                }
                             }
-                        } else if (target instanceof TargetPlayer) {
-                            Player attachedToPlayer = getPlayer(perm.getAttachedTo());
-                            if (attachedToPlayer == null || attachedToPlayer.hasLost()) {
+                        }
+                    } else if (target instanceof TargetPlayer) {
+                        Player attachedToPlayer = getPlayer(perm.getAttachedTo());
+                        if (attachedToPlayer == null || attachedToPlayer.hasLost()) {
+                            if (movePermanentToGraveyardWithInfo(perm)) {
+                                somethingHappened = true;
+                            }
+                        } else {
+                            Filter auraFilter = spellAbility.getTargets().get(0).getFilter();
+                            if (!auraFilter.match(attachedToPlayer, this) || attachedToPlayer.hasProtectionFrom(perm, this)) {
                                 if (movePermanentToGraveyardWithInfo(perm)) {
                                     somethingHappened = true;
                                 }
-                            } else {
-                                Filter auraFilter = spellAbility.getTargets().get(0).getFilter();
-                                if (!auraFilter.match(attachedToPlayer, this) || attachedToPlayer.hasProtectionFrom(perm, this)) {
-                                    if (movePermanentToGraveyardWithInfo(perm)) {
-                                        somethingHappened = true;
-                                    }
-                                }
                             }
                         }
                     }
                 }
             }
-            if (this.getState().isLegendaryRuleActive() && FILTER_LEGENDARY.match(perm, this)) {
-                legendary.add(perm);
-            }
-            if (FILTER_EQUIPMENT.match(perm, this)) {
-                //20091005 - 704.5p, 702.14d
-                if (perm.getAttachedTo() != null) {
-                    Permanent attachedTo = getPermanent(perm.getAttachedTo());
-                    if (attachedTo != null) {
-                        for (Ability ability : perm.getAbilities(this)) {
-                            if (ability instanceof AttachableToRestrictedAbility) {
-                                if (!((AttachableToRestrictedAbility) ability).canEquip(attachedTo, null, this)) {
-                                    attachedTo = null;
-                                    break;
-                                }
+        }
+        if (this.getState().isLegendaryRuleActive() && FILTER_LEGENDARY.match(perm, this)) {
+            legendary.add(perm);
+        }
+        if (FILTER_EQUIPMENT.match(perm, this)) {
+            //20091005 - 704.5p, 702.14d
+            if (perm.getAttachedTo() != null) {
+                Permanent attachedTo = getPermanent(perm.getAttachedTo());
+                if (attachedTo != null) {
+                    for (Ability ability : perm.getAbilities(this)) {
+                        if (ability instanceof AttachableToRestrictedAbility) {
+                            if (!((AttachableToRestrictedAbility) ability).canEquip(attachedTo, null, this)) {
+                                attachedTo = null;
+                                break;
                             }
                         }
                     }
-                    if (attachedTo == null || !attachedTo.getAttachments().contains(perm.getId())) {
-                        UUID wasAttachedTo = perm.getAttachedTo();
-                        perm.attachTo(null, this);
-                        fireEvent(new GameEvent(GameEvent.EventType.UNATTACHED, wasAttachedTo, perm.getId(), perm.getControllerId()));
-                    } else if (!attachedTo.getCardType().contains(CardType.CREATURE) || attachedTo.hasProtectionFrom(perm, this)) {
-                        if (attachedTo.removeAttachment(perm.getId(), this)) {
-                            somethingHappened = true;
-                        }
+                }
+                if (attachedTo == null || !attachedTo.getAttachments().contains(perm.getId())) {
+                    UUID wasAttachedTo = perm.getAttachedTo();
+                    perm.attachTo(null, this);
+                    fireEvent(new GameEvent(GameEvent.EventType.UNATTACHED, wasAttachedTo, perm.getId(), perm.getControllerId()));
+                } else if (!attachedTo.getCardType().contains(CardType.CREATURE) || attachedTo.hasProtectionFrom(perm, this)) {
+                    if (attachedTo.removeAttachment(perm.getId(), this)) {
+                        somethingHappened = true;
                     }
                 }
             }
-            if (FILTER_FORTIFICATION.match(perm, this)) {
-                if (perm.getAttachedTo() != null) {
-                    Permanent land = getPermanent(perm.getAttachedTo());
-                    if (land == null || !land.getAttachments().contains(perm.getId())) {
-                        perm.attachTo(null, this);
-                    } else if (!land.getCardType().contains(CardType.LAND) || land.hasProtectionFrom(perm, this)) {
-                        if (land.removeAttachment(perm.getId(), this)) {
-                            somethingHappened = true;
-                        }
+        }
+        if (FILTER_FORTIFICATION.match(perm, this)) {
+            if (perm.getAttachedTo() != null) {
+                Permanent land = getPermanent(perm.getAttachedTo());
+                if (land == null || !land.getAttachments().contains(perm.getId())) {
+                    perm.attachTo(null, this);
+                } else if (!land.getCardType().contains(CardType.LAND) || land.hasProtectionFrom(perm, this)) {
+                    if (land.removeAttachment(perm.getId(), this)) {
+                        somethingHappened = true;
                     }
                 }
             }
-            //20091005 - 704.5q If a creature is attached to an object or player, it becomes unattached and remains on the battlefield.
-            // Similarly, if a permanent thats neither an Aura, an Equipment, nor a Fortification is attached to an object or player,
-            // it becomes unattached and remains on the battlefield.
-            if (perm.getAttachments().size() > 0) {
-                for (UUID attachmentId : perm.getAttachments()) {
-                    Permanent attachment = getPermanent(attachmentId);
-                    if (attachment != null
-                            && (attachment.getCardType().contains(CardType.CREATURE)
-                            || !(attachment.getSubtype(this).contains("Aura")
-                            || attachment.getSubtype(this).contains("Equipment")
-                            || attachment.getSubtype(this).contains("Fortification")))) {
-                        if (perm.removeAttachment(attachment.getId(), this)) {
-                            somethingHappened = true;
-                            break;
-                        }
+        }
+        //20091005 - 704.5q If a creature is attached to an object or player, it becomes unattached and remains on the battlefield.
+        // Similarly, if a permanent thats neither an Aura, an Equipment, nor a Fortification is attached to an object or player,
+        // it becomes unattached and remains on the battlefield.
+        if (perm.getAttachments().size() > 0) {
+            for (UUID attachmentId : perm.getAttachments()) {
+                Permanent attachment = getPermanent(attachmentId);
+                if (attachment != null
+                        && (attachment.getCardType().contains(CardType.CREATURE)
+                        || !(attachment.getSubtype(this).contains("Aura")
+                        || attachment.getSubtype(this).contains("Equipment")
+                        || attachment.getSubtype(this).contains("Fortification")))) {
+                    if (perm.removeAttachment(attachment.getId(), this)) {
+                        somethingHappened = true;
+                        break;
                     }
                 }
             }
+        }
 
-            //20110501 - 704.5r
-            if (perm.getCounters(this).containsKey(CounterType.P1P1) && perm.getCounters(this).containsKey(CounterType.M1M1)) {
-                int p1p1 = perm.getCounters(this).getCount(CounterType.P1P1);
-                int m1m1 = perm.getCounters(this).getCount(CounterType.M1M1);
-                int min = Math.min(p1p1, m1m1);
-                perm.getCounters(this).removeCounter(CounterType.P1P1, min);
-                perm.getCounters(this).removeCounter(CounterType.M1M1, min);
-            }
-
+        //20110501 - 704.5r
+        if (perm.getCounters(this).containsKey(CounterType.P1P1) && perm.getCounters(this).containsKey(CounterType.M1M1)) {
+            int p1p1 = perm.getCounters(this).getCount(CounterType.P1P1);
+            int m1m1 = perm.getCounters(this).getCount(CounterType.M1M1);
+            int min = Math.min(p1p1, m1m1);
+            perm.getCounters(this).removeCounter(CounterType.P1P1, min);
+            perm.getCounters(this).removeCounter(CounterType.M1M1, min);
         }
+        return somethingHappened;
+    }
+
+    /**
+     * Checks the state-based actions that compare several permanents.
+     *
+     * @param planeswalkers
+     * @param legendary
+     * @param worldEnchantment
+     * @return
+     */
+    private boolean checkStateBasedActions(List<Permanent> planeswalkers, List<Permanent> legendary, List<Permanent> worldEnchantment) {
+        boolean somethingHappened = false;
         //201300713 - 704.5j
         // If a player controls two or more planeswalkers that share a planeswalker type, that player
         // chooses one of them, and the rest are put into their owners' graveyards.
@@ -2002,8 +2066,6 @@ public abstract class GameImpl implements Game, Serializable {
                 }
             }
         }
-        //TODO: implement the rest
-
         return somethingHappened;
     }
 
@@ -2512,37 +2574,19 @@ public abstract class GameImpl implements Game, Serializable {
      */
     @Override
     public MageObject getLastKnownInformation(UUID objectId, Zone zone) {
-        /*if (!lki.containsKey(objectId)) {
-         return getCard(objectId);
-         }*/
-        Map<UUID, MageObject> lkiMap = lki.get(zone);
-        if (lkiMap != null) {
-            MageObject object = lkiMap.get(objectId);
-            if (object != null) {
-                return object.copy();
-            }
-            for (MageObject mageObject : lkiMap.values()) {
-                if (mageObject instanceof Spell) {
-                    if (((Spell) mageObject).getCard().getId().equals(objectId)) {
-                        return mageObject;
-                    }
-                }
-
-            }
+        MageObject object = lki.get(objectId, zone);
+        if (object != null) {
+            return object.copy();
         }
-        return null;
+        return lki.getSpell(objectId, zone);
     }
 
     @Override
     public MageObject getLastKnownInformation(UUID objectId, Zone zone, int zoneChangeCounter) {
-        if (zone.equals(Zone.BATTLEFIELD)) {
-            Map<Integer, MageObject> lkiMapExtended = lkiExtended.get(objectId);
-
-            if (lkiMapExtended != null) {
-                MageObject object = lkiMapExtended.get(zoneChangeCounter);
-                if (object != null) {
-                    return object.copy();
-                }
+        if (zone == Zone.BATTLEFIELD) {
+            MageObject object = lki.getPermanent(objectId, zoneChangeCounter);
+            if (object != null) {
+                return object.copy();
             }
         }
 
@@ -2551,11 +2595,7 @@ public abstract class GameImpl implements Game, Serializable {
 
     @Override
     public boolean getShortLivingLKI(UUID objectId, Zone zone) {
-        Set<UUID> idSet = shortLivingLKI.get(zone);
-        if (idSet != null) {
-            return idSet.contains(objectId);
-        }
-        return false;
+        return lki.isShortLiving(objectId, zone);
     }
 
     /**
@@ -2568,35 +2608,10 @@ public abstract class GameImpl implements Game, Serializable {
     @Override
     public void rememberLKI(UUID objectId, Zone zone, MageObject object) {
         if (object instanceof Permanent || object instanceof StackObject) {
-            MageObject copy = object.copy();
-
-            Map<UUID, MageObject> lkiMap = lki.get(zone);
-            if (lkiMap != null) {
-                lkiMap.put(objectId, copy);
-            } else {
-                HashMap<UUID, MageObject> newMap = new HashMap<>();
-                newMap.put(objectId, copy);
-                lki.put(zone, newMap);
-            }
-            // remembers if a object was in a zone during the resolution of an effect
+            // also remembers if a object was in a zone during the resolution of an effect (short living LKI)
             // e.g. Wrath destroys all and you the question is is the replacement effect to apply because the source was also moved by the same effect
             // because it ahppens all at the same time the replcaement effect has still to be applied
-            Set<UUID> idSet = shortLivingLKI.get(zone);
-            if (idSet == null) {
-                idSet = new HashSet<>();
-                shortLivingLKI.put(zone, idSet);
-            }
-            idSet.add(objectId);
-            if (object instanceof Permanent) {
-                Map<Integer, MageObject> lkiExtendedMap = lkiExtended.get(objectId);
-                if (lkiExtendedMap != null) {
-                    lkiExtendedMap.put(object.getZoneChangeCounter(this), copy);
-                } else {
-                    lkiExtendedMap = new HashMap<>();
-                    lkiExtendedMap.put(object.getZoneChangeCounter(this), copy);
-                    lkiExtended.put(objectId, lkiExtendedMap);
-                }
-            }
+            lki.remember(objectId, zone, object.copy(), object instanceof Permanent ? object.getZoneChangeCounter(this) : -1);
         }
     }
 
@@ -2605,13 +2620,12 @@ public abstract class GameImpl implements Game, Serializable {
      */
     @Override
     public void resetLKI() {
-        lki.clear();
-        lkiExtended.clear();
+        lki.reset();
     }
 
     @Override
     public void resetShortLivingLKI() {
-        shortLivingLKI.clear();
+        lki.resetShortLiving();
     }
 
     @Override
@@ -2653,7 +2667,7 @@ public abstract class GameImpl implements Game, Serializable {
     }
 
     @Override
-    public Map<Zone, HashMap<UUID, MageObject>> getLKI() {
+    public LastKnownInformation getLKI() {
         return lki;
     }
 
@@ -42,4 +42,27 @@ public class GameOptions implements Serializable {
      * If true, players can rollback turn if all players agree
      */
     public boolean rollbackTurnsAllowed = true;
+
+    /**
+     * If true, the continuous effects are only applied again if something has
+     * changed in the game since they were applied the last time. If false,
+     * they are applied from scratch every time.
+     */
+    public boolean incrementalEffects = true;
+
+    /**
+     * If true, the state-based actions are only checked for the permanents
+     * that have changed since the last check found nothing to do (and not at
+     * all if nothing in the game has changed). If false, all permanents are
+     * checked every time.
+     */
+    public boolean incrementalStateBasedActions = true;
+
+    /**
+     * Debug mode for incremental state-based actions: all permanents are
+     * checked every time, and if something is done for a permanent that the
+     * incremental check would have skipped, an IllegalStateException is
+     * thrown.
+     */
+    public boolean verifyIncrementalStateBasedActions = false;
 }
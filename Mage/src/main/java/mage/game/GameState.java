@@ -38,6 +38,7 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import mage.MageObject;
@@ -76,7 +77,9 @@ import mage.players.Player;
 import mage.players.PlayerList;
 import mage.players.Players;
 import mage.target.Target;
+import mage.util.CopyOnWriteHashMap;
 import mage.util.Copyable;
+import mage.util.StateHash;
 import mage.util.ThreadLocalStringBuilder;
 import mage.watchers.Watcher;
 import mage.watchers.Watchers;
@@ -129,13 +132,19 @@ public class GameState implements Serializable, Copyable<GameState> {
     private List<TriggeredAbility> triggered = new ArrayList<>();
     private Combat combat;
     private Map<String, Object> values = new HashMap<>();
-    private Map<UUID, Zone> zones = new HashMap<>();
     private List<GameEvent> simultaneousEvents = new ArrayList<>();
-    private Map<UUID, CardState> cardState = new HashMap<>();
-    private Map<UUID, CardAttribute> cardAttribute = new HashMap<>();
-    private Map<UUID, Integer> zoneChangeCounter = new HashMap<>();
-    private Map<UUID, Card> copiedCards = new HashMap<>();
+    // per object values kept in tables indexed by the handles of the object ids (all tables of a state use the same handles)
+    private ObjectTable<Zone> zones;
+    private ObjectTable<CardState> cardState;
+    private ObjectTable<CardAttribute> cardAttribute;
+    private ObjectCounterTable zoneChangeCounter;
+    private CopyOnWriteHashMap<UUID, Card> copiedCards = new CopyOnWriteHashMap<>();
     private int permanentOrderNumber;
+    // changed by every fired event and every change of values and zones
+    private long version;
+    // versions of the state and of the effects at the last application of the continuous effects
+    private long effectsAppliedVersion = -1;
+    private long effectsAppliedEffectsVersion = -1;
 
     public GameState() {
         players = new Players();
@@ -153,6 +162,11 @@ public class GameState implements Serializable, Copyable<GameState> {
         combat = new Combat();
         turnMods = new TurnMods();
         watchers = new Watchers();
+        ObjectHandles handles = new ObjectHandles();
+        zones = new ObjectTable<>(handles);
+        cardState = new ObjectTable<>(handles);
+        cardAttribute = new ObjectTable<>(handles);
+        zoneChangeCounter = new ObjectCounterTable(handles);
     }
 
     public GameState(final GameState state) {
@@ -196,17 +210,18 @@ public class GameState implements Serializable, Copyable<GameState> {
                 this.values.put(entry.getKey(), entry.getValue());
             }
         }
-        this.zones.putAll(state.zones);
+        // ids created in the copy get handles of its own, so they don't grow the tables of the original
+        ObjectHandles handles = state.zones.getHandles().branch();
+        this.zones = state.zones.copy(handles);
         this.simultaneousEvents.addAll(state.simultaneousEvents);
-        for (Map.Entry<UUID, CardState> entry : state.cardState.entrySet()) {
-            cardState.put(entry.getKey(), entry.getValue().copy());
-        }
-        for (Map.Entry<UUID, CardAttribute> entry : state.cardAttribute.entrySet()) {
-            cardAttribute.put(entry.getKey(), entry.getValue().copy());
-        }
-        this.zoneChangeCounter.putAll(state.zoneChangeCounter);
-        this.copiedCards.putAll(state.copiedCards);
+        this.cardState = state.cardState.copy(handles, CardState::copy);
+        this.cardAttribute = state.cardAttribute.copy(handles, CardAttribute::copy);
+        this.zoneChangeCounter = state.zoneChangeCounter.copy(handles);
+        this.copiedCards = state.copiedCards.copy();
         this.permanentOrderNumber = state.permanentOrderNumber;
+        this.version = state.version;
+        this.effectsAppliedVersion = state.effectsAppliedVersion;
+        this.effectsAppliedEffectsVersion = state.effectsAppliedEffectsVersion;
     }
 
     public void restoreForRollBack(GameState state) {
@@ -249,6 +264,10 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.zoneChangeCounter = state.zoneChangeCounter;
         this.copiedCards = state.copiedCards;
         this.permanentOrderNumber = state.permanentOrderNumber;
+        // never go back to an older version, results calculated after the saved state are not valid for the restored state
+        this.version = Math.max(this.version, state.version) + 1;
+        // the players are restored without the values set by the effects, so the effects have to be applied again
+        this.effectsAppliedVersion = -1;
     }
 
     @Override
@@ -405,6 +424,87 @@ public class GameState implements Serializable, Copyable<GameState> {
         return sb.toString();
     }
 
+    /**
+     * Hash of the game state from the view of the given player (hidden
+     * information like the hand of the other players is not included). It's
+     * built from the same values as getValue(Game, UUID) but without creating
+     * strings, so it's much cheaper to use as cache or identity key. It still
+     * walks all players, permanents, stack and exile on every call (it's not
+     * maintained incrementally) and different states can get the same value,
+     * so callers using it as state identity should compare some exact values
+     * of the state too.
+     *
+     * @param game
+     * @param playerId
+     * @return
+     */
+    public long getHash(Game game, UUID playerId) {
+        return getHash(game, false, playerId);
+    }
+
+    /**
+     * Hash of the game state built from the same values as getValue(boolean,
+     * Game)
+     *
+     * @param useHidden include the hand content of all players
+     * @param game
+     * @return
+     */
+    public long getHash(boolean useHidden, Game game) {
+        return getHash(game, useHidden, null);
+    }
+
+    private long getHash(Game game, boolean useHidden, UUID playerId) {
+        long hash = StateHash.combine(turnNum, turn.getPhaseType() == null ? -1 : turn.getPhaseType().ordinal());
+        hash = StateHash.combine(hash, turn.getStepType() == null ? -1 : turn.getStepType().ordinal());
+        hash = StateHash.combine(hash, StateHash.hash(activePlayerId));
+        hash = StateHash.combine(hash, StateHash.hash(priorityPlayerId));
+        hash = StateHash.combine(hash, StateHash.hash(playerByOrderId));
+
+        for (Player player : players.values()) {
+            hash = StateHash.combine(hash, player.isPassed());
+            hash = StateHash.combine(hash, player.getLife());
+            if (useHidden || player.getId().equals(playerId)) {
+                hash = StateHash.combine(hash, player.getHand().getValueHash(game));
+            } else {
+                hash = StateHash.combine(hash, player.getHand().size());
+            }
+            hash = StateHash.combine(hash, player.getLibrary().size());
+            hash = StateHash.combine(hash, player.getGraveyard().getValueHash(game));
+        }
+
+        long permanentsHash = 0;
+        for (Permanent permanent : battlefield.getAllPermanents()) {
+            permanentsHash += StateHash.mix(permanent.getValueHash(this));
+        }
+        hash = StateHash.combine(hash, permanentsHash);
+
+        for (StackObject spell : stack) {
+            hash = StateHash.combine(hash, StateHash.hash(spell.getControllerId()));
+            hash = StateHash.combine(hash, spell.getName());
+            hash = StateHash.combine(hash, StateHash.hash(spell.getStackAbility().getOriginalId()));
+            for (UUID modeId : spell.getStackAbility().getModes().getSelectedModes()) {
+                Mode mode = spell.getStackAbility().getModes().get(modeId);
+                for (Target target : mode.getTargets()) {
+                    hash = StateHash.combine(hash, target.getTargets());
+                }
+            }
+        }
+
+        long exileHash = 0;
+        for (ExileZone zone : exile.getExileZones()) {
+            exileHash += StateHash.combine(zone.getName().hashCode(), zone.getValueHash(game));
+        }
+        hash = StateHash.combine(hash, exileHash);
+
+        for (CombatGroup group : combat.getGroups()) {
+            hash = StateHash.combine(hash, StateHash.hash(group.getDefenderId()));
+            hash = StateHash.combine(hash, group.getAttackers());
+            hash = StateHash.combine(hash, group.getBlockers());
+        }
+        return hash;
+    }
+
     public Players getPlayers() {
         return players;
     }
@@ -566,7 +666,34 @@ public class GameState implements Serializable, Copyable<GameState> {
         game.applyEffects();
     }
 
+    /**
+     * Applies the continuous effects. If the game runs with
+     * {@link GameOptions#incrementalEffects} and nothing has changed since the
+     * last application, the result of the last application is still valid and
+     * the layers are not applied again.
+     *
+     * The state version is raised by handled and simultaneous events, zone
+     * changes, setValue, restoring a state and by every application itself.
+     * The effects version is raised by added or removed effects and changes of
+     * their source abilities. All values that are reset here for players,
+     * permanents and combat are only set again by continuous effects in their
+     * layer application, except the alternate casting costs of a player
+     * (setCastSourceIdWithAlternateMana). These are set by as though effects
+     * while checking if a card can be cast (e.g. Worldheart Phoenix, Intet the
+     * Dreamer), so they are still cleared for every call.
+     *
+     * @param game
+     */
     public void applyEffects(Game game) {
+        if (game.getOptions().incrementalEffects
+                && version == effectsAppliedVersion
+                && effects.getVersion() == effectsAppliedEffectsVersion
+                && !effects.hasDiscardedEffects()) {
+            for (Player player : players.values()) {
+                player.setCastSourceIdWithAlternateMana(null, null, null);
+            }
+            return;
+        }
         for (Player player : players.values()) {
             player.reset();
         }
@@ -575,6 +702,22 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.reset();
         effects.apply(game);
         combat.checkForRemoveFromCombat(game);
+        // the objects have changed by the application
+        version++;
+        effectsAppliedVersion = version;
+        effectsAppliedEffectsVersion = effects.getVersion();
+    }
+
+    /**
+     * Returns a number that is changed by every fired event, every change of
+     * the values and zones of the game and every application of the continuous
+     * effects. Copies of the state have the same version, a restored state gets
+     * a new version.
+     *
+     * @return
+     */
+    public long getVersion() {
+        return version;
     }
 
     // Remove End of Combat effects
@@ -665,18 +808,35 @@ public class GameState implements Serializable, Copyable<GameState> {
         return null;
     }
 
+    ObjectHandles getObjectHandles() {
+        return zones.getHandles();
+    }
+
     public Zone getZone(UUID id) {
-        if (id != null && zones.containsKey(id)) {
-            return zones.get(id);
+        if (id == null) {
+            return null;
         }
-        return null;
+        Zone zone = zones.get(id);
+        if (zone == null) {
+            // objects that were put directly into their zone (e.g. copies of spells and abilities on the stack)
+            if (battlefield.containsPermanent(id)) {
+                return Zone.BATTLEFIELD;
+            }
+            if (stack.getObject(id) != null) {
+                return Zone.STACK;
+            }
+        }
+        return zone;
     }
 
     public void setZone(UUID id, Zone zone) {
-        zones.put(id, zone);
+        if (zones.put(id, zone) != zone) {
+            version++;
+        }
     }
 
     public void addSimultaneousEvent(GameEvent event, Game game) {
+        version++;
         simultaneousEvents.add(event);
     }
 
@@ -699,6 +859,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void handleEvent(GameEvent event, Game game) {
+        version++;
         watchers.watch(event, game);
         delayed.checkTriggers(event, game);
         triggers.checkTriggers(event, game);
@@ -745,8 +906,8 @@ public class GameState implements Serializable, Copyable<GameState> {
                     ZoneChangeData data = (ZoneChangeData) obj;
                     return this.fromZone == data.fromZone
                             && this.toZone == data.toZone
-                            && this.sourceId == data.sourceId
-                            && this.playerId == data.playerId;
+                            && Objects.equals(this.sourceId, data.sourceId)
+                            && Objects.equals(this.playerId, data.playerId);
                 }
                 return false;
             }
@@ -774,7 +935,9 @@ public class GameState implements Serializable, Copyable<GameState> {
                 ZoneChangeEvent castEvent = (ZoneChangeEvent) event;
                 UUID targetId = castEvent.getTargetId();
                 Card card = game.getCard(targetId);
-                movedCards.add(card);
+                if (card != null) { // tokens are no cards
+                    movedCards.add(card);
+                }
             }
             ZoneChangeData eventData = entry.getKey();
             if (!movedCards.isEmpty()) {
@@ -944,6 +1107,7 @@ public class GameState implements Serializable, Copyable<GameState> {
      * @param value
      */
     public void setValue(String valueId, Object value) {
+        version++;
         values.put(valueId, value);
     }
 
@@ -962,15 +1126,17 @@ public class GameState implements Serializable, Copyable<GameState> {
      * @return
      */
     public Abilities<ActivatedAbility> getActivatedOtherAbilities(UUID objectId, Zone zone) {
-        if (cardState.containsKey(objectId)) {
-            return cardState.get(objectId).getAbilities().getActivatedAbilities(zone);
+        CardState state = cardState.get(objectId);
+        if (state != null) {
+            return state.getAbilities().getActivatedAbilities(zone);
         }
         return null;
     }
 
     public Abilities<Ability> getAllOtherAbilities(UUID objectId) {
-        if (cardState.containsKey(objectId)) {
-            return cardState.get(objectId).getAbilities();
+        CardState state = cardState.get(objectId);
+        if (state != null) {
+            return state.getAbilities();
         }
         return null;
     }
@@ -1002,10 +1168,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         }
         newAbility.setSourceId(attachedTo.getId());
         newAbility.setControllerId(attachedTo.getOwnerId());
-        if (!cardState.containsKey(attachedTo.getId())) {
-            cardState.put(attachedTo.getId(), new CardState());
-        }
-        cardState.get(attachedTo.getId()).addAbility(newAbility);
+        getCardState(attachedTo.getId()).addAbility(newAbility);
         addAbility(newAbility, attachedTo.getId(), attachedTo);
     }
 
@@ -1027,9 +1190,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         triggers.removeAllGainedAbilities();
         getContinuousEffects().removeAllTemporaryEffects();
         this.setLegendaryRuleActive(true);
-        for (CardState state : cardState.values()) {
-            state.clearAbilities();
-        }
+        cardState.forEach(CardState::clearAbilities);
         cardAttribute.clear();
     }
 
@@ -1092,10 +1253,13 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public CardState getCardState(UUID cardId) {
-        if (!cardState.containsKey(cardId)) {
-            cardState.put(cardId, new CardState());
+        int handle = cardState.getHandles().getOrCreate(cardId);
+        CardState state = cardState.get(handle);
+        if (state == null) {
+            state = new CardState();
+            cardState.put(handle, state);
         }
-        return cardState.get(cardId);
+        return state;
     }
 
     public CardAttribute getCardAttribute(UUID cardId) {
@@ -1116,19 +1280,16 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public int getZoneChangeCounter(UUID objectId) {
-        if (this.zoneChangeCounter.containsKey(objectId)) {
-            return this.zoneChangeCounter.get(objectId);
-        }
-        return 1;
+        return this.zoneChangeCounter.get(objectId, 1);
     }
 
     public void updateZoneChangeCounter(UUID objectId) {
-        Integer value = getZoneChangeCounter(objectId);
-        value++;
-        this.zoneChangeCounter.put(objectId, value);
+        int handle = zoneChangeCounter.getHandles().getOrCreate(objectId);
+        this.zoneChangeCounter.put(handle, zoneChangeCounter.get(handle, 1) + 1);
         // card is changing zone so clear state
-        if (cardState.containsKey(objectId)) {
-            this.cardState.get(objectId).clear();
+        CardState state = cardState.get(handle);
+        if (state != null) {
+            state.clear();
         }
     }
 
@@ -31,10 +31,19 @@ package mage.game;
 import org.apache.log4j.Logger;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import mage.util.Copier;
 
 /**
+ * History of the saved game states, used for undo (bookmarks) and rollbacks.
+ *
+ * Undo restores complete state snapshots, there is no journal of inverse
+ * operations: permanents, abilities and effects are changed in place by the
+ * card classes, so there is no central place to record them. To save memory
+ * only the last bookmarks and some keyframes are kept as full state objects,
+ * the other states are kept compressed.
  *
  * @author BetaSteward_at_googlemail.com
  */
@@ -42,17 +51,69 @@ public class GameStates implements Serializable {
 
     private static final Logger logger = Logger.getLogger(GameStates.class);
 
-//    private final List<byte[]> states;
-    private final List<GameState> states;
+    /**
+     * States saved only for the game history (not bookmarked) are kept
+     * compressed, only every KEYFRAME_INTERVAL state is kept as full state
+     * object.
+     */
+    private static final int KEYFRAME_INTERVAL = 10;
+    /**
+     * Bookmarked states are kept as full state objects only while they are
+     * one of the last UNDO_WINDOW bookmarks, older bookmarks are compressed
+     * (undo mostly goes back to one of the last bookmarks).
+     */
+    private static final int UNDO_WINDOW = 5;
+
+    private final List<SavedState> states;
+    // indexes of the bookmarked states that are kept as full state objects (oldest first)
+    private final LinkedList<Integer> fullBookmarks;
 
     public GameStates() {
-        this.states = new LinkedList<>();
+        this.states = new ArrayList<>();
+        this.fullBookmarks = new LinkedList<>();
     }
 
     public void save(GameState gameState) {
-//        states.add(new Copier<GameState>().copyCompressed(gameState));
-        states.add(gameState.copy());
-        logger.trace("Saved game state: " + states.size());
+        save(gameState, true);
+    }
+
+    /**
+     * Saves a copy of the game state.
+     *
+     * @param gameState
+     * @param bookmark true if the state can be restored by an undo, the last
+     * UNDO_WINDOW of such states are kept as full state object so restoring
+     * them is cheap
+     */
+    public void save(GameState gameState, boolean bookmark) {
+        boolean keyframe = bookmark || isKeyframeIndex(states.size());
+        if (bookmark) {
+            fullBookmarks.add(states.size());
+            if (fullBookmarks.size() > UNDO_WINDOW) {
+                compress(fullBookmarks.removeFirst());
+            }
+        }
+        states.add(new SavedState(gameState, keyframe));
+        logger.trace("Saved game state: " + states.size() + (keyframe ? "" : " (compressed)"));
+    }
+
+    private static boolean isKeyframeIndex(int index) {
+        return index % KEYFRAME_INTERVAL == 0;
+    }
+
+    private void compress(int index) {
+        if (!isKeyframeIndex(index)) {
+            states.set(index, states.get(index).compress());
+            logger.trace("Compressed bookmarked game state: " + index);
+        }
+    }
+
+    /**
+     * @param index
+     * @return true if the state is only kept compressed
+     */
+    boolean isCompressed(int index) {
+        return states.get(index).state == null;
     }
 
     public int getSize() {
@@ -64,9 +125,9 @@ public class GameStates implements Serializable {
             while (states.size() > index + 1) {
                 states.remove(states.size() - 1);
             }
+            forgetRemovedBookmarks();
             logger.trace("Rolling back state: " + index);
-//            return new Copier<GameState>().uncompressCopy(states.get(index));
-            return states.get(index);
+            return states.get(index).getState();
         }
         return null;
     }
@@ -76,16 +137,60 @@ public class GameStates implements Serializable {
             while (states.size() > index && states.size() > 0) {
                 states.remove(states.size() - 1);
             }
+            forgetRemovedBookmarks();
         }
         return states.size();
     }
 
+    private void forgetRemovedBookmarks() {
+        while (!fullBookmarks.isEmpty() && fullBookmarks.getLast() >= states.size()) {
+            fullBookmarks.removeLast();
+        }
+    }
+
     public GameState get(int index) {
         if (index < states.size()) {
-//             return new Copier<GameState>().uncompressCopy(states.get(index));
-            return states.get(index);
+            return states.get(index).getState();
         }
         return null;
     }
 
+    private static class SavedState implements Serializable {
+
+        private final GameState state;
+        private final byte[] compressed;
+
+        private SavedState(byte[] compressed) {
+            this.state = null;
+            this.compressed = compressed;
+        }
+
+        SavedState(GameState gameState, boolean keyframe) {
+            if (keyframe) {
+                this.state = gameState.copy();
+                this.compressed = null;
+            } else {
+                this.state = null;
+                this.compressed = new Copier<GameState>().copyCompact(gameState);
+            }
+        }
+
+        SavedState compress() {
+            if (state == null) {
+                return this;
+            }
+            return new SavedState(new Copier<GameState>().copyCompact(state));
+        }
+
+        GameState getState() {
+            if (state != null) {
+                return state;
+            }
+            GameState gameState = new Copier<GameState>().uncompactCopy(compressed);
+            if (gameState == null) {
+                throw new IllegalStateException("Compressed game state could not be restored");
+            }
+            return gameState;
+        }
+    }
 }
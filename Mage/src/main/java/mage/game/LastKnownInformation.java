@@ -0,0 +1,177 @@
+package mage.game;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import mage.MageObject;
+import mage.constants.Zone;
+import mage.game.stack.Spell;
+import mage.util.Copyable;
+import mage.util.CopyOnWriteHashMap;
+
+/**
+ * Last known information (608.2h) of the objects that left a zone since the
+ * stack was empty the last time.
+ *
+ * All objects are kept in flat maps keyed by the object id and the zone (or the
+ * zone change counter for the permanents that left the battlefield), so a
+ * lookup is a single map access. The maps are copy on write, a copy of the
+ * game shares them with the original until one of both remembers or resets
+ * something.
+ */
+public class LastKnownInformation implements Serializable, Copyable<LastKnownInformation> {
+
+    private final CopyOnWriteHashMap<Key, MageObject> objects;
+    // spells by the id of their card, so the spell of a card can be found without going through all objects
+    private final CopyOnWriteHashMap<Key, MageObject> spellsByCardId;
+    private final CopyOnWriteHashMap<Key, MageObject> permanentsByZoneChangeCounter;
+    // objects that were moved by the current effect in resolution (so Wrath like effects can be handled correctly)
+    private final CopyOnWriteHashMap<Key, Boolean> shortLiving;
+
+    public LastKnownInformation() {
+        this.objects = new CopyOnWriteHashMap<>();
+        this.spellsByCardId = new CopyOnWriteHashMap<>();
+        this.permanentsByZoneChangeCounter = new CopyOnWriteHashMap<>();
+        this.shortLiving = new CopyOnWriteHashMap<>();
+    }
+
+    public LastKnownInformation(final LastKnownInformation lki) {
+        this.objects = lki.objects.copy();
+        this.spellsByCardId = lki.spellsByCardId.copy();
+        this.permanentsByZoneChangeCounter = lki.permanentsByZoneChangeCounter.copy();
+        this.shortLiving = lki.shortLiving.copy();
+    }
+
+    @Override
+    public LastKnownInformation copy() {
+        return new LastKnownInformation(this);
+    }
+
+    /**
+     * Remembers the object as last known information of the zone.
+     *
+     * @param objectId
+     * @param zone
+     * @param object copy of the object as it last existed in the zone
+     * @param zoneChangeCounter zone change counter of a permanent or -1
+     */
+    public void remember(UUID objectId, Zone zone, MageObject object, int zoneChangeCounter) {
+        objects.put(new Key(objectId, zone.ordinal()), object);
+        if (object instanceof Spell) {
+            spellsByCardId.put(new Key(((Spell) object).getCard().getId(), zone.ordinal()), object);
+        }
+        shortLiving.put(new Key(objectId, zone.ordinal()), Boolean.TRUE);
+        if (zoneChangeCounter >= 0) {
+            permanentsByZoneChangeCounter.put(new Key(objectId, zoneChangeCounter), object);
+        }
+    }
+
+    /**
+     * @param objectId
+     * @param zone
+     * @return the remembered object (not a copy) or null
+     */
+    public MageObject get(UUID objectId, Zone zone) {
+        return objects.get(new Key(objectId, zone.ordinal()));
+    }
+
+    /**
+     * @param cardId
+     * @param zone
+     * @return the remembered spell (not a copy) of the card or null
+     */
+    public MageObject getSpell(UUID cardId, Zone zone) {
+        return spellsByCardId.get(new Key(cardId, zone.ordinal()));
+    }
+
+    /**
+     * @param objectId
+     * @param zoneChangeCounter
+     * @return the remembered permanent (not a copy) that left the battlefield
+     * with the zone change counter or null
+     */
+    public MageObject getPermanent(UUID objectId, int zoneChangeCounter) {
+        return permanentsByZoneChangeCounter.get(new Key(objectId, zoneChangeCounter));
+    }
+
+    public boolean contains(UUID objectId, Zone zone) {
+        return objects.containsKey(new Key(objectId, zone.ordinal()));
+    }
+
+    /**
+     * @param zone
+     * @return the remembered objects (not copies) of the zone
+     */
+    public List<MageObject> getObjects(Zone zone) {
+        List<MageObject> zoneObjects = new ArrayList<>();
+        for (Map.Entry<Key, MageObject> entry : objects.entrySet()) {
+            if (entry.getKey().index == zone.ordinal()) {
+                zoneObjects.add(entry.getValue());
+            }
+        }
+        return zoneObjects;
+    }
+
+    /**
+     * @param objectId
+     * @param zone
+     * @return true if the object left the zone since the short living last
+     * known information was reset
+     */
+    public boolean isShortLiving(UUID objectId, Zone zone) {
+        return shortLiving.containsKey(new Key(objectId, zone.ordinal()));
+    }
+
+    public void reset() {
+        // reset is called for every priority with an empty stack, shared empty maps stay shared
+        if (!objects.isEmpty()) {
+            objects.clear();
+        }
+        if (!spellsByCardId.isEmpty()) {
+            spellsByCardId.clear();
+        }
+        if (!permanentsByZoneChangeCounter.isEmpty()) {
+            permanentsByZoneChangeCounter.clear();
+        }
+    }
+
+    public void resetShortLiving() {
+        if (!shortLiving.isEmpty()) {
+            shortLiving.clear();
+        }
+    }
+
+    /**
+     * Object id with the ordinal of a zone or a zone change counter.
+     */
+    private static final class Key implements Serializable {
+
+        private final UUID objectId;
+        private final int index;
+
+        Key(UUID objectId, int index) {
+            this.objectId = objectId;
+            this.index = index;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return index == other.index && Objects.equals(objectId, other.objectId);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(objectId) + index;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package mage.game;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Int values of game objects in an array indexed by the {@link ObjectHandles}
+ * of their ids. A copy shares the array until one of both gets changed.
+ */
+public class ObjectCounterTable implements Serializable {
+
+    private static final int ABSENT = Integer.MIN_VALUE;
+
+    private final ObjectHandles handles;
+    private int[] values;
+    private boolean shared;
+
+    public ObjectCounterTable(ObjectHandles handles) {
+        this.handles = handles;
+        this.values = newValues(Math.max(16, handles.size()));
+    }
+
+    private ObjectCounterTable(final ObjectCounterTable table, ObjectHandles handles) {
+        this.handles = handles;
+        this.values = table.values;
+        this.shared = true;
+        table.shared = true;
+    }
+
+    public ObjectCounterTable copy() {
+        return copy(handles);
+    }
+
+    /**
+     * @param handles the handles of the copy, the same or a
+     * {@link ObjectHandles#branch()} of the handles of this table
+     * @return a copy sharing the values with this table
+     */
+    public ObjectCounterTable copy(ObjectHandles handles) {
+        return new ObjectCounterTable(this, handles);
+    }
+
+    public ObjectHandles getHandles() {
+        return handles;
+    }
+
+    /**
+     * @param id
+     * @param defaultValue
+     * @return the value of the object or the default value if there is none
+     */
+    public int get(UUID id, int defaultValue) {
+        return get(handles.get(id), defaultValue);
+    }
+
+    public int get(int handle, int defaultValue) {
+        if (handle < 0 || handle >= values.length || values[handle] == ABSENT) {
+            return defaultValue;
+        }
+        return values[handle];
+    }
+
+    public void put(UUID id, int value) {
+        put(handles.getOrCreate(id), value);
+    }
+
+    public void put(int handle, int value) {
+        if (handle < values.length && values[handle] == value) {
+            // nothing changes so there is no need to unshare
+            return;
+        }
+        writable(handle)[handle] = value;
+    }
+
+    public void remove(UUID id) {
+        int handle = handles.get(id);
+        if (handle >= 0 && handle < values.length && values[handle] != ABSENT) {
+            writable(handle)[handle] = ABSENT;
+        }
+    }
+
+    private int[] writable(int handle) {
+        if (handle >= values.length) {
+            int oldLength = values.length;
+            values = Arrays.copyOf(values, Math.max(handle + 1, Math.max(handles.size(), oldLength * 2)));
+            Arrays.fill(values, oldLength, values.length, ABSENT);
+            shared = false;
+        } else if (shared) {
+            values = values.clone();
+            shared = false;
+        }
+        return values;
+    }
+
+    private static int[] newValues(int length) {
+        int[] newValues = new int[length];
+        Arrays.fill(newValues, ABSENT);
+        return newValues;
+    }
+}
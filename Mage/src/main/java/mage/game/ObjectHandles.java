@@ -0,0 +1,114 @@
+package mage.game;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dense int handles for the ids of the objects of a game, used as index of the
+ * per object tables of the game state ({@link ObjectTable},
+ * {@link ObjectCounterTable}).
+ *
+ * A handle is assigned the first time a value is stored for an id and never
+ * changes. A copy of a game state gets a {@link #branch()}: it sees the
+ * handles assigned until then and assigns new handles on its own, so ids
+ * created in a copy (e.g. in an AI simulation) do not grow the handles and
+ * tables of the original state. Assigning handles is thread safe because AI
+ * simulations copy states in several threads.
+ */
+public class ObjectHandles implements Serializable {
+
+    public static final int NO_HANDLE = -1;
+    // handle of the null id, the maps used before allowed null keys
+    private static final int NULL_HANDLE = 0;
+    // branches of branches are flattened at this depth, so a lookup never goes through more levels
+    private static final int MAX_DEPTH = 4;
+
+    // handles below base are assigned by the parent
+    private final ObjectHandles parent;
+    private final int base;
+    private final int depth;
+    private final ConcurrentHashMap<UUID, Integer> handles;
+    private final AtomicInteger nextHandle;
+
+    public ObjectHandles() {
+        this(null, NULL_HANDLE + 1, 0, new ConcurrentHashMap<>());
+    }
+
+    private ObjectHandles(ObjectHandles parent, int base, int depth, ConcurrentHashMap<UUID, Integer> handles) {
+        this.parent = parent;
+        this.base = base;
+        this.depth = depth;
+        this.handles = handles;
+        this.nextHandle = new AtomicInteger(base);
+    }
+
+    /**
+     * @return handles that see all handles assigned until now, handles
+     * assigned later by one of both are not seen by the other one
+     */
+    public ObjectHandles branch() {
+        int size = size();
+        if (size == base) {
+            // nothing assigned on this level, so the branch can skip it
+            return new ObjectHandles(parent, base, depth, new ConcurrentHashMap<>());
+        }
+        if (depth >= MAX_DEPTH) {
+            ConcurrentHashMap<UUID, Integer> flattened = new ConcurrentHashMap<>();
+            collect(flattened, size);
+            return new ObjectHandles(null, size, 0, flattened);
+        }
+        return new ObjectHandles(this, size, depth + 1, new ConcurrentHashMap<>());
+    }
+
+    private void collect(Map<UUID, Integer> target, int limit) {
+        for (ObjectHandles level = this; level != null; level = level.parent) {
+            for (Map.Entry<UUID, Integer> entry : level.handles.entrySet()) {
+                if (entry.getValue() < limit) {
+                    target.put(entry.getKey(), entry.getValue());
+                }
+            }
+            limit = Math.min(limit, level.base);
+        }
+    }
+
+    /**
+     * @param id
+     * @return the handle of the id or NO_HANDLE if no handle is assigned yet
+     */
+    public int get(UUID id) {
+        if (id == null) {
+            return NULL_HANDLE;
+        }
+        int limit = Integer.MAX_VALUE;
+        for (ObjectHandles level = this; level != null; level = level.parent) {
+            Integer handle = level.handles.get(id);
+            if (handle != null && handle < limit) {
+                return handle;
+            }
+            limit = Math.min(limit, level.base);
+        }
+        return NO_HANDLE;
+    }
+
+    /**
+     * @param id
+     * @return the handle of the id, a new one if no handle is assigned yet
+     */
+    public int getOrCreate(UUID id) {
+        int handle = get(id);
+        if (handle == NO_HANDLE) {
+            handle = handles.computeIfAbsent(id, key -> nextHandle.getAndIncrement());
+        }
+        return handle;
+    }
+
+    /**
+     * @return upper bound of all handles seen by these handles
+     */
+    public int size() {
+        return nextHandle.get();
+    }
+}
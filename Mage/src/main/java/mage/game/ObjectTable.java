@@ -0,0 +1,153 @@
+package mage.game;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Values of game objects in an array indexed by the {@link ObjectHandles} of
+ * their ids (a map by id without hashing per table, boxing and entry objects).
+ *
+ * {@link #copy(ObjectHandles)} shares the array with the copy until one of
+ * both gets changed (only for immutable values),
+ * {@link #copy(ObjectHandles, UnaryOperator)} copies the values too.
+ *
+ * @param <V>
+ */
+public class ObjectTable<V> implements Serializable {
+
+    private final ObjectHandles handles;
+    private Object[] values;
+    private boolean shared;
+
+    public ObjectTable(ObjectHandles handles) {
+        this.handles = handles;
+        this.values = new Object[Math.max(16, handles.size())];
+    }
+
+    private ObjectTable(ObjectHandles handles, Object[] values, boolean shared) {
+        this.handles = handles;
+        this.values = values;
+        this.shared = shared;
+    }
+
+    /**
+     * @return a copy sharing the values with this table
+     */
+    public ObjectTable<V> copy() {
+        return copy(handles);
+    }
+
+    /**
+     * @param handles the handles of the copy, the same or a
+     * {@link ObjectHandles#branch()} of the handles of this table
+     * @return a copy sharing the values with this table
+     */
+    public ObjectTable<V> copy(ObjectHandles handles) {
+        this.shared = true;
+        return new ObjectTable<>(handles, values, true);
+    }
+
+    /**
+     * @param copier
+     * @return a copy with copies of the values
+     */
+    public ObjectTable<V> copy(UnaryOperator<V> copier) {
+        return copy(handles, copier);
+    }
+
+    /**
+     * @param handles the handles of the copy, the same or a
+     * {@link ObjectHandles#branch()} of the handles of this table
+     * @param copier
+     * @return a copy with copies of the values
+     */
+    public ObjectTable<V> copy(ObjectHandles handles, UnaryOperator<V> copier) {
+        // the array may be longer than the handles in use, only these slots are copied
+        int length = Math.min(values.length, this.handles.size());
+        Object[] copiedValues = new Object[Math.max(16, length)];
+        for (int i = 0; i < length; i++) {
+            if (values[i] != null) {
+                copiedValues[i] = copier.apply((V) values[i]);
+            }
+        }
+        return new ObjectTable<>(handles, copiedValues, false);
+    }
+
+    public ObjectHandles getHandles() {
+        return handles;
+    }
+
+    public V get(UUID id) {
+        return get(handles.get(id));
+    }
+
+    public V get(int handle) {
+        if (handle < 0 || handle >= values.length) {
+            return null;
+        }
+        return (V) values[handle];
+    }
+
+    public boolean containsKey(UUID id) {
+        return get(id) != null;
+    }
+
+    /**
+     * @param id
+     * @param value
+     * @return the previous value
+     */
+    public V put(UUID id, V value) {
+        return put(handles.getOrCreate(id), value);
+    }
+
+    public V put(int handle, V value) {
+        V old = get(handle);
+        if (old == value) {
+            // nothing changes so there is no need to unshare
+            return old;
+        }
+        writable(handle)[handle] = value;
+        return old;
+    }
+
+    public V remove(UUID id) {
+        int handle = handles.get(id);
+        V old = get(handle);
+        if (old != null) {
+            writable(handle)[handle] = null;
+        }
+        return old;
+    }
+
+    public void clear() {
+        if (shared) {
+            values = new Object[values.length];
+            shared = false;
+        } else {
+            Arrays.fill(values, null);
+        }
+    }
+
+    public void forEach(Consumer<V> action) {
+        for (Object value : values) {
+            if (value != null) {
+                action.accept((V) value);
+            }
+        }
+    }
+
+    private Object[] writable(int handle) {
+        if (handle >= values.length) {
+            values = Arrays.copyOf(values, Math.max(handle + 1, Math.max(handles.size(), values.length * 2)));
+            shared = false;
+        } else if (shared) {
+            values = values.clone();
+            shared = false;
+        }
+        return values;
+    }
+}
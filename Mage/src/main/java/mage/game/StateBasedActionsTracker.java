@@ -0,0 +1,183 @@
+package mage.game;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import mage.constants.CardType;
+import mage.counters.CounterType;
+import mage.counters.Counters;
+import mage.game.permanent.Permanent;
+
+/**
+ * Remembers what the last checks of the state-based actions found nothing to
+ * do for, so {@link GameImpl#checkStateBasedActions()} only has to examine
+ * what has changed since then.
+ *
+ * The checks of a permanent that is not attached, has no attachments and is
+ * not paired only depend on its own characteristics (types, toughness, damage,
+ * deathtouch and counters). Such a permanent is remembered with these values
+ * if no rule applies to it, and is not examined again as long as they stay the
+ * same. All other rules depend on other objects, they are skipped only if the
+ * game state has not changed at all (same {@link GameState#getVersion()}).
+ */
+public class StateBasedActionsTracker implements Serializable {
+
+    // state version of the last check that found nothing to do
+    private long checkedVersion = -1;
+    private final Map<UUID, Checked> checkedPermanents = new HashMap<>();
+
+    /**
+     * @param version
+     * @return true if the state has not changed since the last check that
+     * found nothing to do
+     */
+    public boolean isUnchanged(long version) {
+        return version == checkedVersion;
+    }
+
+    public void setCheckedVersion(long version) {
+        this.checkedVersion = version;
+    }
+
+    /**
+     * @param permanent
+     * @param game
+     * @return the remembered values if nothing to do was found for the
+     * permanent with its current characteristics, otherwise null
+     */
+    public Checked getChecked(Permanent permanent, Game game) {
+        Checked checked = checkedPermanents.get(permanent.getId());
+        if (checked != null && checked.matches(permanent, game)) {
+            return checked;
+        }
+        return null;
+    }
+
+    public void setChecked(Permanent permanent, Checked checked) {
+        checkedPermanents.put(permanent.getId(), checked);
+    }
+
+    public void remove(UUID permanentId) {
+        checkedPermanents.remove(permanentId);
+    }
+
+    /**
+     * Forgets the permanents that have left the battlefield.
+     *
+     * @param permanents
+     */
+    public void retain(List<Permanent> permanents) {
+        if (checkedPermanents.size() <= permanents.size()) {
+            return;
+        }
+        Set<UUID> ids = new HashSet<>();
+        for (Permanent permanent : permanents) {
+            ids.add(permanent.getId());
+        }
+        checkedPermanents.keySet().retainAll(ids);
+    }
+
+    /**
+     * @param permanent
+     * @param game
+     * @return the current values of the permanent or null if its checks
+     * depend on other objects or may do something
+     */
+    public static Checked snapshot(Permanent permanent, Game game) {
+        if (permanent.getAttachedTo() != null
+                || !permanent.getAttachments().isEmpty()
+                || permanent.getPairedCard() != null) {
+            return null;
+        }
+        Checked checked = new Checked(permanent, game);
+        return checked.isWithoutAction() ? checked : null;
+    }
+
+    /**
+     * The characteristics of a permanent that its own checks depend on, with
+     * the rules that have to know about the permanent.
+     */
+    public static final class Checked implements Serializable {
+
+        private final List<CardType> cardType;
+        private final List<String> supertype;
+        private final List<String> subtype;
+        private final int toughness;
+        private final int damage;
+        private final boolean deathtouched;
+        private final int loyalty;
+        private final int p1p1;
+        private final int m1m1;
+
+        private Checked(Permanent permanent, Game game) {
+            this.cardType = new ArrayList<>(permanent.getCardType());
+            this.supertype = new ArrayList<>(permanent.getSupertype());
+            this.subtype = new ArrayList<>(permanent.getSubtype(game));
+            this.toughness = permanent.getToughness().getValue();
+            this.damage = permanent.getDamage();
+            this.deathtouched = permanent.isDeathtouched();
+            Counters counters = permanent.getCounters(game);
+            this.loyalty = counters.getCount(CounterType.LOYALTY);
+            this.p1p1 = counters.getCount(CounterType.P1P1);
+            this.m1m1 = counters.getCount(CounterType.M1M1);
+        }
+
+        public boolean matches(Permanent permanent, Game game) {
+            if (toughness != permanent.getToughness().getValue()
+                    || damage != permanent.getDamage()
+                    || deathtouched != permanent.isDeathtouched()
+                    || permanent.getAttachedTo() != null
+                    || !permanent.getAttachments().isEmpty()
+                    || permanent.getPairedCard() != null) {
+                return false;
+            }
+            Counters counters = permanent.getCounters(game);
+            return loyalty == counters.getCount(CounterType.LOYALTY)
+                    && p1p1 == counters.getCount(CounterType.P1P1)
+                    && m1m1 == counters.getCount(CounterType.M1M1)
+                    && cardType.equals(permanent.getCardType())
+                    && supertype.equals(permanent.getSupertype())
+                    && subtype.equals(permanent.getSubtype(game));
+        }
+
+        /**
+         * A permanent is only remembered if no rule applies to it at all. If a
+         * rule applies but its action does nothing (e.g. an indestructible
+         * creature with lethal damage), the action has to be tried again
+         * with every check.
+         *
+         * @return
+         */
+        private boolean isWithoutAction() {
+            if (cardType.contains(CardType.CREATURE)
+                    && (toughness <= 0 || toughness <= damage || deathtouched)) {
+                return false;
+            }
+            if (cardType.contains(CardType.PLANESWALKER) && loyalty == 0) {
+                return false;
+            }
+            if (cardType.contains(CardType.ENCHANTMENT) && subtype.contains("Aura")) {
+                // an unattached Aura depends on its card (bestow)
+                return false;
+            }
+            return p1p1 == 0 || m1m1 == 0;
+        }
+
+        public boolean isPlaneswalker() {
+            return cardType.contains(CardType.PLANESWALKER);
+        }
+
+        public boolean isWorld() {
+            return supertype.contains("World");
+        }
+
+        public boolean isLegendary() {
+            return supertype.contains("Legendary");
+        }
+    }
+}
@@ -29,6 +29,11 @@
 package mage.game.command;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
 
 /**
  *
@@ -36,6 +41,9 @@ import java.util.ArrayList;
  */
 public class Command extends ArrayList<CommandObject> {
 
+    // command objects by id, kept up to date by all changes of the command zone
+    private final Map<UUID, CommandObject> objectsById = new HashMap<>();
+
     public Command () {}
 
     public Command(final Command command) {
@@ -51,4 +59,105 @@ public class Command extends ArrayList<CommandObject> {
     public Command copy() {
         return new Command(this);
     }
+
+    public CommandObject getCommandObject(UUID id) {
+        return objectsById.get(id);
+    }
+
+    private void reindex() {
+        objectsById.clear();
+        for (int i = 0; i < size(); i++) {
+            CommandObject commandObject = get(i);
+            objectsById.putIfAbsent(commandObject.getId(), commandObject);
+        }
+    }
+
+    @Override
+    public boolean add(CommandObject commandObject) {
+        super.add(commandObject);
+        objectsById.putIfAbsent(commandObject.getId(), commandObject);
+        return true;
+    }
+
+    @Override
+    public void add(int index, CommandObject commandObject) {
+        super.add(index, commandObject);
+        reindex();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends CommandObject> c) {
+        boolean changed = super.addAll(c);
+        reindex();
+        return changed;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends CommandObject> c) {
+        boolean changed = super.addAll(index, c);
+        reindex();
+        return changed;
+    }
+
+    @Override
+    public CommandObject set(int index, CommandObject commandObject) {
+        CommandObject old = super.set(index, commandObject);
+        reindex();
+        return old;
+    }
+
+    @Override
+    public CommandObject remove(int index) {
+        CommandObject old = super.remove(index);
+        reindex();
+        return old;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (super.remove(o)) {
+            reindex();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super CommandObject> filter) {
+        if (super.removeIf(filter)) {
+            reindex();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        if (super.removeAll(c)) {
+            reindex();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        if (super.retainAll(c)) {
+            reindex();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        super.removeRange(fromIndex, toIndex);
+        reindex();
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        objectsById.clear();
+    }
 }
@@ -45,6 +45,7 @@ import mage.constants.CardType;
 import mage.game.Game;
 import mage.game.events.ZoneChangeEvent;
 import mage.util.GameLog;
+import mage.util.IdUtil;
 
 /**
  * @author nantuko
@@ -64,7 +65,7 @@ public class Emblem implements CommandObject {
     private String expansionSetCodeForImage = "";
 
     public Emblem() {
-        this.id = UUID.randomUUID();
+        this.id = IdUtil.newId();
     }
 
     public Emblem(final Emblem emblem) {
@@ -84,7 +85,7 @@ public class Emblem implements CommandObject {
 
     @Override
     public void assignNewId() {
-        this.id = UUID.randomUUID();
+        this.id = IdUtil.newId();
     }
 
     public void setSourceObject(MageObject sourceObject) {
@@ -30,6 +30,8 @@ package mage.game.permanent;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -49,6 +51,8 @@ import mage.game.Game;
 public class Battlefield implements Serializable {
 
     private final Map<UUID, Permanent> field = new LinkedHashMap<>();
+    // phased in permanents by controller (in battlefield order), rebuilt if null
+    private transient Map<UUID, List<Permanent>> activeByController;
 
     public Battlefield() {
     }
@@ -67,10 +71,47 @@ public class Battlefield implements Serializable {
         for (Permanent perm : field.values()) {
             perm.reset(game);
         }
+        activeByController = null;
     }
 
     public void clear() {
         field.clear();
+        activeByController = null;
+    }
+
+    /**
+     * Has to be called if the controller or the phasing status of a permanent
+     * on the battlefield has changed, to keep the index by controller up to
+     * date.
+     *
+     * @param permanent
+     */
+    public void permanentChanged(Permanent permanent) {
+        if (activeByController != null && field.get(permanent.getId()) == permanent) {
+            activeByController = null;
+        }
+    }
+
+    private List<Permanent> getActiveByController(UUID controllerId) {
+        if (activeByController == null) {
+            activeByController = new HashMap<>();
+            for (Permanent perm : field.values()) {
+                if (perm.isPhasedIn()) {
+                    addActiveByController(perm);
+                }
+            }
+        }
+        List<Permanent> active = activeByController.get(controllerId);
+        return active == null ? Collections.<Permanent>emptyList() : active;
+    }
+
+    private void addActiveByController(Permanent permanent) {
+        List<Permanent> active = activeByController.get(permanent.getControllerId());
+        if (active == null) {
+            active = new ArrayList<>();
+            activeByController.put(permanent.getControllerId(), active);
+        }
+        active.add(permanent);
     }
 
     /**
@@ -88,8 +129,8 @@ public class Battlefield implements Serializable {
      */
     public int countAll(FilterPermanent filter, UUID controllerId, Game game) {
         int count = 0;
-        for (Permanent permanent : field.values()) {
-            if (permanent.getControllerId().equals(controllerId) && filter.match(permanent, game) && permanent.isPhasedIn()) {
+        for (Permanent permanent : getActiveByController(controllerId)) {
+            if (filter.match(permanent, game)) {
                 count++;
             }
         }
@@ -161,8 +202,8 @@ public class Battlefield implements Serializable {
      */
     public boolean contains(FilterPermanent filter, UUID controllerId, int num, Game game) {
         int count = 0;
-        for (Permanent permanent : field.values()) {
-            if (permanent.getControllerId().equals(controllerId) && filter.match(permanent, game) && permanent.isPhasedIn()) {
+        for (Permanent permanent : getActiveByController(controllerId)) {
+            if (filter.match(permanent, game)) {
                 count++;
                 if (num == count) {
                     return true;
@@ -209,7 +250,13 @@ public class Battlefield implements Serializable {
     }
 
     public void addPermanent(Permanent permanent) {
-        field.put(permanent.getId(), permanent);
+        if (field.put(permanent.getId(), permanent) == null && activeByController != null) {
+            if (permanent.isPhasedIn()) {
+                addActiveByController(permanent);
+            }
+        } else {
+            activeByController = null;
+        }
     }
 
     public Permanent getPermanent(UUID key) {
@@ -217,7 +264,15 @@ public class Battlefield implements Serializable {
     }
 
     public void removePermanent(UUID key) {
-        field.remove(key);
+        Permanent permanent = field.remove(key);
+        if (permanent != null && activeByController != null) {
+            List<Permanent> active = activeByController.get(permanent.getControllerId());
+            if (active == null || !active.remove(permanent)) {
+                if (permanent.isPhasedIn()) {
+                    activeByController = null;
+                }
+            }
+        }
     }
 
     public boolean containsPermanent(UUID key) {
@@ -263,13 +318,7 @@ public class Battlefield implements Serializable {
      * @see Permanent
      */
     public List<Permanent> getAllActivePermanents(UUID controllerId) {
-        List<Permanent> active = new ArrayList<>();
-        for (Permanent perm : field.values()) {
-            if (perm.isPhasedIn() && perm.getControllerId().equals(controllerId)) {
-                active.add(perm);
-            }
-        }
-        return active;
+        return new ArrayList<>(getActiveByController(controllerId));
     }
 
     /**
@@ -322,8 +371,8 @@ public class Battlefield implements Serializable {
      */
     public List<Permanent> getAllActivePermanents(FilterPermanent filter, UUID controllerId, Game game) {
         List<Permanent> active = new ArrayList<>();
-        for (Permanent perm : field.values()) {
-            if (perm.isPhasedIn() && perm.getControllerId().equals(controllerId) && filter.match(perm, game)) {
+        for (Permanent perm : getActiveByController(controllerId)) {
+            if (filter.match(perm, game)) {
                 active.add(perm);
             }
         }
@@ -400,8 +449,8 @@ public class Battlefield implements Serializable {
 
     public List<Permanent> getPhasedIn(UUID controllerId) {
         List<Permanent> phasedIn = new ArrayList<>();
-        for (Permanent perm : field.values()) {
-            if (perm.getAbilities().containsKey(PhasingAbility.getInstance().getId()) && perm.isPhasedIn() && perm.getControllerId().equals(controllerId)) {
+        for (Permanent perm : getActiveByController(controllerId)) {
+            if (perm.getAbilities().containsKey(PhasingAbility.getInstance().getId())) {
                 phasedIn.add(perm);
             }
         }
@@ -424,6 +473,7 @@ public class Battlefield implements Serializable {
                 perm.resetControl();
             }
         }
+        activeByController = null;
     }
 
     /**
@@ -163,6 +163,14 @@ public interface Permanent extends Card, Controllable {
 
     String getValue(GameState state);
 
+    /**
+     * Hash of the same values getValue uses, without building a string
+     *
+     * @param state
+     * @return
+     */
+    long getValueHash(GameState state);
+
     @Deprecated
     void addAbility(Ability ability, Game game);
 
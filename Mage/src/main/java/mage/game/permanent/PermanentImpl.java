@@ -76,6 +76,7 @@ import mage.game.stack.Spell;
 import mage.game.stack.StackObject;
 import mage.players.Player;
 import mage.util.GameLog;
+import mage.util.StateHash;
 import mage.util.ThreadLocalStringBuilder;
 
 /**
@@ -229,6 +230,28 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         return sb.toString();
     }
 
+    @Override
+    public long getValueHash(GameState state) {
+        long hash = StateHash.hash(controllerId);
+        hash = StateHash.combine(hash, name);
+        hash = StateHash.combine(hash, tapped);
+        hash = StateHash.combine(hash, damage);
+        hash = StateHash.combine(hash, subtype);
+        hash = StateHash.combine(hash, supertype);
+        hash = StateHash.combine(hash, power.getValue());
+        hash = StateHash.combine(hash, toughness.getValue());
+        long abilitiesHash = abilities.size();
+        for (Ability ability : abilities) {
+            abilitiesHash += StateHash.hash(ability.getOriginalId());
+        }
+        hash = StateHash.combine(hash, abilitiesHash);
+        long countersHash = 0;
+        for (Counter counter : getCounters(state).values()) {
+            countersHash += StateHash.combine(counter.getName().hashCode(), counter.getCount());
+        }
+        return StateHash.combine(hash, countersHash);
+    }
+
     @Override
     public void addInfo(String key, String value, Game game) {
         if (info == null) {
@@ -471,6 +494,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         if (!phasedIn) {
             if (!replaceEvent(EventType.PHASE_IN, game)) {
                 this.phasedIn = true;
+                game.getBattlefield().permanentChanged(this);
                 if (!game.isSimulation()) {
                     game.informPlayers(getLogName() + " phased in");
                 }
@@ -486,6 +510,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         if (phasedIn) {
             if (!replaceEvent(EventType.PHASE_OUT, game)) {
                 this.phasedIn = false;
+                game.getBattlefield().permanentChanged(this);
                 if (!game.isSimulation()) {
                     game.informPlayers(getLogName() + " phased out");
                 }
@@ -563,6 +588,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
 
         if (newController != null && (!newController.hasLeft() || !newController.hasLost())) {
             this.controllerId = controllerId;
+            game.getBattlefield().permanentChanged(this);
             return true;
         }
         return false;
@@ -28,6 +28,7 @@
 package mage.game.permanent.token;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import mage.MageObject;
@@ -168,11 +169,51 @@ public class Token extends MageObjectImpl {
     }
 
     public boolean putOntoBattlefield(int amount, Game game, UUID sourceId, UUID controllerId, boolean tapped, boolean attacking, UUID attackedPlayer) {
-        Player controller = game.getPlayer(controllerId);
-        if (controller == null) {
+        if (game.getPlayer(controllerId) == null) {
             return false;
         }
         lastAddedTokenIds.clear();
+        if (createPermanents(amount, game, sourceId, controllerId, tapped, attacking, attackedPlayer)) {
+            game.getState().applyEffects(game); // Needed to do it here without LKIReset i.e. do get SwordOfTheMeekTest running correctly.
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Each of the players creates the amount of tokens. All tokens enter the
+     * battlefield at the same time, the continuous effects are applied once
+     * after all tokens were created (instead of once per player). The zone
+     * change events of the tokens are handled together with the other
+     * simultaneous events.
+     *
+     * @param amount
+     * @param game
+     * @param sourceId
+     * @param controllerIds
+     * @return true if any of the players created tokens
+     */
+    public boolean putOntoBattlefield(int amount, Game game, UUID sourceId, Collection<UUID> controllerIds) {
+        lastAddedTokenIds.clear();
+        boolean created = false;
+        for (UUID controllerId : controllerIds) {
+            if (game.getPlayer(controllerId) != null) {
+                created |= createPermanents(amount, game, sourceId, controllerId, false, false, null);
+            }
+        }
+        if (created) {
+            game.getState().applyEffects(game);
+        }
+        return created;
+    }
+
+    /**
+     * Creates the tokens without applying the continuous effects.
+     *
+     * @return false if the creation was replaced
+     */
+    private boolean createPermanents(int amount, Game game, UUID sourceId, UUID controllerId, boolean tapped, boolean attacking, UUID attackedPlayer) {
+        Player controller = game.getPlayer(controllerId);
 
         // moved here from CreateTokenEffect because not all cards that create tokens use CreateTokenEffect
         // they use putOntoBattlefield directly
@@ -234,7 +275,6 @@ public class Token extends MageObjectImpl {
                 }
 
             }
-            game.getState().applyEffects(game); // Needed to do it here without LKIReset i.e. do get SwordOfTheMeekTest running correctly.
             return true;
         }
         return false;
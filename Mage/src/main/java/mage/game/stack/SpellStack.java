@@ -28,8 +28,13 @@
 package mage.game.stack;
 
 import java.util.ArrayDeque;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Predicate;
 import mage.MageObject;
 import mage.constants.Zone;
 import mage.constants.ZoneDetail;
@@ -46,6 +51,10 @@ public class SpellStack extends ArrayDeque<StackObject> {
     private static final Logger logger = Logger.getLogger(SpellStack.class);
 
     protected Date dateLastAdded;
+    // stack objects by id and spells by the id of their card, kept up to date by all changes of the stack
+    // (if there are more than one, the one closest to the top)
+    private final Map<UUID, StackObject> objectsById = new HashMap<>();
+    private final Map<UUID, Spell> spellsBySourceId = new HashMap<>();
 
     public SpellStack() {
     }
@@ -123,11 +132,11 @@ public class SpellStack extends ArrayDeque<StackObject> {
     }
 
     public StackObject getStackObject(UUID id) {
+        StackObject object = objectsById.get(id);
+        if (object != null) {
+            return object;
+        }
         for (StackObject stackObject : this) {
-            UUID objectId = stackObject.getId();
-            if (objectId.equals(id)) {
-                return stackObject;
-            }
             UUID sourceId = stackObject.getSourceId();
             if (sourceId.equals(id)) {
                 return stackObject;
@@ -137,14 +146,26 @@ public class SpellStack extends ArrayDeque<StackObject> {
     }
 
     public Spell getSpell(UUID id) {
-        for (StackObject stackObject : this) {
-            if (stackObject instanceof Spell) {
-                if (stackObject.getId().equals(id) || stackObject.getSourceId().equals(id)) {
-                    return (Spell) stackObject;
-                }
-            }
+        StackObject object = objectsById.get(id);
+        if (object instanceof Spell) {
+            return (Spell) object;
         }
-        return null;
+        return spellsBySourceId.get(id);
+    }
+
+    /**
+     * Gets the stack object with the id or the spell of the card with the id
+     * (abilities are not found by the id of their source).
+     *
+     * @param id
+     * @return
+     */
+    public StackObject getObject(UUID id) {
+        StackObject object = objectsById.get(id);
+        if (object != null) {
+            return object;
+        }
+        return spellsBySourceId.get(id);
     }
 
     public SpellStack copy() {
@@ -154,9 +175,218 @@ public class SpellStack extends ArrayDeque<StackObject> {
     @Override
     public void push(StackObject e) {
         super.push(e);
+        indexTop(e);
         this.dateLastAdded = new Date();
     }
 
+    private void indexTop(StackObject object) {
+        objectsById.put(object.getId(), object);
+        if (object instanceof Spell) {
+            spellsBySourceId.put(object.getSourceId(), (Spell) object);
+        }
+    }
+
+    private void indexBottom(StackObject object) {
+        objectsById.putIfAbsent(object.getId(), object);
+        if (object instanceof Spell) {
+            spellsBySourceId.putIfAbsent(object.getSourceId(), (Spell) object);
+        }
+    }
+
+    private void reindex() {
+        objectsById.clear();
+        spellsBySourceId.clear();
+        for (Iterator<StackObject> it = super.iterator(); it.hasNext();) {
+            indexBottom(it.next());
+        }
+    }
+
+    @Override
+    public void addFirst(StackObject e) {
+        super.addFirst(e);
+        indexTop(e);
+    }
+
+    @Override
+    public void addLast(StackObject e) {
+        super.addLast(e);
+        indexBottom(e);
+    }
+
+    @Override
+    public boolean offerFirst(StackObject e) {
+        addFirst(e);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(StackObject e) {
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public boolean add(StackObject e) {
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public boolean offer(StackObject e) {
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends StackObject> c) {
+        for (StackObject object : c) {
+            addLast(object);
+        }
+        return !c.isEmpty();
+    }
+
+    @Override
+    public StackObject pollFirst() {
+        StackObject object = super.pollFirst();
+        if (object != null) {
+            reindex();
+        }
+        return object;
+    }
+
+    @Override
+    public StackObject pollLast() {
+        StackObject object = super.pollLast();
+        if (object != null) {
+            reindex();
+        }
+        return object;
+    }
+
+    @Override
+    public StackObject removeFirst() {
+        StackObject object = super.removeFirst();
+        reindex();
+        return object;
+    }
+
+    @Override
+    public StackObject removeLast() {
+        StackObject object = super.removeLast();
+        reindex();
+        return object;
+    }
+
+    @Override
+    public StackObject poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public StackObject pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public StackObject remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        if (super.removeFirstOccurrence(o)) {
+            reindex();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        if (super.removeLastOccurrence(o)) {
+            reindex();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super StackObject> filter) {
+        if (super.removeIf(filter)) {
+            reindex();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        if (super.removeAll(c)) {
+            reindex();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        if (super.retainAll(c)) {
+            reindex();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        objectsById.clear();
+        spellsBySourceId.clear();
+    }
+
+    @Override
+    public Iterator<StackObject> iterator() {
+        return new IndexedIterator(super.iterator());
+    }
+
+    @Override
+    public Iterator<StackObject> descendingIterator() {
+        return new IndexedIterator(super.descendingIterator());
+    }
+
+    /**
+     * Updates the index if stack objects are removed by the iterator.
+     */
+    private class IndexedIterator implements Iterator<StackObject> {
+
+        private final Iterator<StackObject> it;
+
+        IndexedIterator(Iterator<StackObject> it) {
+            this.it = it;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return it.hasNext();
+        }
+
+        @Override
+        public StackObject next() {
+            return it.next();
+        }
+
+        @Override
+        public void remove() {
+            it.remove();
+            reindex();
+        }
+    }
+
     public Date getDateLastAdded() {
         return dateLastAdded;
     }
@@ -32,6 +32,7 @@ import java.io.Serializable;
 import java.util.UUID;
 import mage.constants.PhaseStep;
 import mage.constants.TurnPhase;
+import mage.util.IdUtil;
 
 
 /**
@@ -65,7 +66,7 @@ public class TurnMod implements Serializable {
      * @param skip - true = skips next turn, false = player gets extra turn
      */
     public TurnMod(UUID playerId, boolean skip) {
-        this.id = UUID.randomUUID();
+        this.id = IdUtil.newId();
         this.playerId = playerId;
         if (skip) {
             this.skipTurn = true;
@@ -82,7 +83,7 @@ public class TurnMod implements Serializable {
      * @param newControllerId - id of the player that controlls playerId's next turn
      */
     public TurnMod(UUID playerId, UUID newControllerId) {
-        this.id = UUID.randomUUID();
+        this.id = IdUtil.newId();
         this.playerId = playerId;
         this.newControllerId = newControllerId;
     }
@@ -96,7 +97,7 @@ public class TurnMod implements Serializable {
      * @param skip
      */
     public TurnMod(UUID playerId, TurnPhase phase, TurnPhase afterPhase, boolean skip) {
-        this.id = UUID.randomUUID();
+        this.id = IdUtil.newId();
         this.playerId = playerId;
         if (skip) {
             this.skipPhase = phase;
@@ -115,7 +116,7 @@ public class TurnMod implements Serializable {
      * @param afterStep - set to null if extraStep is after the next step
      */
     public TurnMod(UUID playerId, Step step, PhaseStep afterStep) {
-        this.id = UUID.randomUUID();
+        this.id = IdUtil.newId();
         this.playerId = playerId;
         this.extraStep = step;
         this.afterStep = afterStep;
@@ -128,7 +129,7 @@ public class TurnMod implements Serializable {
      * @param step - step to skip the next time
      */
     public TurnMod(UUID playerId, PhaseStep step) {
-        this.id = UUID.randomUUID();
+        this.id = IdUtil.newId();
         this.playerId = playerId;
         this.skipStep = step;
     }
@@ -53,7 +53,9 @@ import mage.util.RandomUtil;
 public class Library implements Serializable {
 
     private boolean emptyDraw;
-    private final Deque<UUID> library = new ArrayDeque<>();
+    private Deque<UUID> library = new ArrayDeque<>();
+    // the card order is shared with copies of the library until one of them changes it
+    private boolean shared;
     private final UUID playerId;
 
     public Library(UUID playerId) {
@@ -63,9 +65,17 @@ public class Library implements Serializable {
     public Library(final Library lib) {
         this.emptyDraw = lib.emptyDraw;
         this.playerId = lib.playerId;
-        for (UUID id : lib.library) {
-            this.library.addLast(id);
+        this.library = lib.library;
+        this.shared = true;
+        lib.shared = true;
+    }
+
+    private Deque<UUID> writable() {
+        if (shared) {
+            library = new ArrayDeque<>(library);
+            shared = false;
         }
+        return library;
     }
 
     /**
@@ -79,8 +89,8 @@ public class Library implements Serializable {
             shuffled[n] = shuffled[r];
             shuffled[r] = temp;
         }
-        library.clear();
-        library.addAll(Arrays.asList(shuffled));
+        library = new ArrayDeque<>(Arrays.asList(shuffled));
+        shared = false;
     }
 
     /**
@@ -91,7 +101,7 @@ public class Library implements Serializable {
      * @see Card
      */
     public Card removeFromTop(Game game) {
-        UUID cardId = library.pollFirst();
+        UUID cardId = writable().pollFirst();
         Card card = game.getCard(cardId);
         if (card == null) {
             emptyDraw = true;
@@ -107,7 +117,7 @@ public class Library implements Serializable {
      * @see Card
      */
     public Card removeFromBottom(Game game) {
-        UUID cardId = library.pollLast();
+        UUID cardId = writable().pollLast();
         Card card = game.getCard(cardId);
         if (card == null) {
             emptyDraw = true;
@@ -134,13 +144,13 @@ public class Library implements Serializable {
      * @see Card
      */
     public Card getFromBottom(Game game) {
-        return game.getCard(library.pollLast());
+        return game.getCard(writable().pollLast());
     }
 
     public void putOnTop(Card card, Game game) {
         if (card.getOwnerId().equals(playerId)) {
             card.setZone(Zone.LIBRARY, game);
-            library.addFirst(card.getId());
+            writable().addFirst(card.getId());
         } else {
             game.getPlayer(card.getOwnerId()).getLibrary().putOnTop(card, game);
         }
@@ -149,10 +159,11 @@ public class Library implements Serializable {
     public void putOnBottom(Card card, Game game) {
         if (card.getOwnerId().equals(playerId)) {
             card.setZone(Zone.LIBRARY, game);
-            if (library.contains(card.getId())) {
-                library.remove(card.getId());
+            Deque<UUID> cards = writable();
+            if (cards.contains(card.getId())) {
+                cards.remove(card.getId());
             }
-            library.add(card.getId());
+            cards.add(card.getId());
         } else {
             game.getPlayer(card.getOwnerId()).getLibrary().putOnBottom(card, game);
         }
@@ -163,7 +174,8 @@ public class Library implements Serializable {
     }
 
     public void clear() {
-        library.clear();
+        library = new ArrayDeque<>();
+        shared = false;
     }
 
     public int size() {
@@ -171,10 +183,8 @@ public class Library implements Serializable {
     }
 
     public void set(Library newLibrary) {
-        library.clear();
-        for (UUID card : newLibrary.getCardList()) {
-            library.add(card);
-        }
+        library = new ArrayDeque<>(newLibrary.library);
+        shared = false;
     }
 
     public List<UUID> getCardList() {
@@ -230,7 +240,7 @@ public class Library implements Serializable {
     public void addAll(Set<Card> cards, Game game) {
         for (Card card : cards) {
             card.setZone(Zone.LIBRARY, game);
-            library.add(card.getId());
+            writable().add(card.getId());
         }
     }
 
@@ -244,7 +254,10 @@ public class Library implements Serializable {
     }
 
     public Card remove(UUID cardId, Game game) {
-        Iterator<UUID> it = library.iterator();
+        if (!library.contains(cardId)) {
+            return null;
+        }
+        Iterator<UUID> it = writable().iterator();
         while (it.hasNext()) {
             UUID card = it.next();
             if (card.equals(cardId)) {
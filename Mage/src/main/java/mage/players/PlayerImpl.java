@@ -192,6 +192,19 @@ public abstract class PlayerImpl implements Player, Serializable {
     protected UserData userData;
     protected MatchPlayer matchPlayer;
 
+    // available mana of the last calculation, valid as long as the versions of the game state and the effects don't change
+    private transient ManaOptions manaAvailable;
+    private transient long manaAvailableStateVersion = -1;
+    private transient long manaAvailableEffectsVersion = -1;
+    // playable abilities and cards of the last check, valid as long as the versions and the mana pool don't change
+    private transient List<Ability> playable;
+    private transient boolean playableHidden;
+    private transient Set<UUID> playableInHand;
+    private transient long playableStateVersion = -1;
+    private transient long playableEffectsVersion = -1;
+    private transient Mana playableManaPool;
+    private transient List<Mana> playableConditionalMana;
+
     /**
      * During some steps we can't play anything
      */
@@ -2323,6 +2336,20 @@ public abstract class PlayerImpl implements Player, Serializable {
 
     @Override
     public ManaOptions getManaAvailable(Game game) {
+        long stateVersion = game.getState().getVersion();
+        long effectsVersion = game.getContinuousEffects().getVersion();
+        if (manaAvailable == null
+                || stateVersion != manaAvailableStateVersion
+                || effectsVersion != manaAvailableEffectsVersion) {
+            manaAvailable = calculateManaAvailable(game);
+            manaAvailableStateVersion = stateVersion;
+            manaAvailableEffectsVersion = effectsVersion;
+        }
+        // callers add other mana to the options, so never return the cached options
+        return manaAvailable.copy();
+    }
+
+    protected ManaOptions calculateManaAvailable(Game game) {
         ManaOptions available = new ManaOptions();
 
         List<Abilities<ActivatedManaAbilityImpl>> sourceWithoutManaCosts = new ArrayList<>();
@@ -2429,33 +2456,45 @@ public abstract class PlayerImpl implements Player, Serializable {
      */
     protected boolean canPlay(ActivatedAbility ability, ManaOptions available, MageObject sourceObject, Game game) {
         if (!(ability instanceof ActivatedManaAbilityImpl)) {
-            ActivatedAbility copy = ability.copy();
-            copy.setCheckPlayableMode(); // prevents from endless loops for asking player to use effects by checking this mode
-            if (!copy.canActivate(playerId, game)) {
-                return false;
-            }
-            game.getContinuousEffects().costModification(copy, game);
-
+            // the ability itself is checked, only if its costs have to be modified a copy is needed
+            ActivatedAbility checkedAbility = ability;
             Card card = game.getCard(ability.getSourceId());
-            if (card != null) {
-                for (Ability ability0 : card.getAbilities()) {
-                    if (ability0 instanceof AdjustingSourceCosts) {
-                        // A workaround for Issue#457
-                        if (!(ability0 instanceof ConvokeAbility)) {
-                            ((AdjustingSourceCosts) ability0).adjustCosts(copy, game);
+            boolean checkPlayableMode = ability.isCheckPlayableMode();
+            // the check must not change the ability: of all canActivate implementations only
+            // ActivatedAbilityImpl changes the ability (the activator), the costs, targets and
+            // as though effects they check don't change the checked ability
+            UUID activatorId = ability instanceof ActivatedAbilityImpl ? ((ActivatedAbilityImpl) ability).getActivatorId() : null;
+            ability.setCheckPlayableMode(true); // prevents from endless loops for asking player to use effects by checking this mode
+            try {
+                if (!ability.canActivate(playerId, game)) {
+                    return false;
+                }
+                if (hasAdjustingSourceCosts(card) || game.getContinuousEffects().hasCostModification(ability, game)) {
+                    checkedAbility = ability.copy();
+                    game.getContinuousEffects().costModification(checkedAbility, game);
+                    if (card != null) {
+                        for (Ability ability0 : card.getAbilities()) {
+                            if (isAdjustingSourceCosts(ability0)) {
+                                ((AdjustingSourceCosts) ability0).adjustCosts(checkedAbility, game);
+                            }
                         }
                     }
                 }
+            } finally {
+                ability.setCheckPlayableMode(checkPlayableMode);
+                if (ability instanceof ActivatedAbilityImpl) {
+                    ((ActivatedAbilityImpl) ability).setActivatorId(activatorId);
+                }
             }
             boolean canBeCastRegularly = true;
-            if (copy instanceof SpellAbility && copy.getManaCosts().isEmpty() && copy.getCosts().isEmpty()) {
+            if (checkedAbility instanceof SpellAbility && checkedAbility.getManaCosts().isEmpty() && checkedAbility.getCosts().isEmpty()) {
                 // 117.6. Some mana costs contain no mana symbols. This represents an unpayable cost...
                 // 117.6a (...) If an alternative cost is applied to an unpayable cost,
                 // including an effect that allows a player to cast a spell without paying its mana cost, the alternative cost may be paid.
                 canBeCastRegularly = false;
             }
             if (canBeCastRegularly) {
-                ManaOptions abilityOptions = copy.getMinimumCostToActivate(playerId, game);
+                ManaOptions abilityOptions = checkedAbility.getMinimumCostToActivate(playerId, game);
                 if (abilityOptions.isEmpty()) {
                     return true;
                 } else {
@@ -2490,6 +2529,22 @@ public abstract class PlayerImpl implements Player, Serializable {
         return false;
     }
 
+    private static boolean hasAdjustingSourceCosts(Card card) {
+        if (card != null) {
+            for (Ability ability : card.getAbilities()) {
+                if (isAdjustingSourceCosts(ability)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAdjustingSourceCosts(Ability ability) {
+        // A workaround for Issue#457
+        return ability instanceof AdjustingSourceCosts && !(ability instanceof ConvokeAbility);
+    }
+
     protected boolean canPlayCardByAlternateCost(Card sourceObject, ManaOptions available, Ability ability, Game game) {
         if (sourceObject != null && !(sourceObject instanceof Permanent)) {
             for (Ability alternateSourceCostsAbility : sourceObject.getAbilities()) {
@@ -2591,36 +2646,46 @@ public abstract class PlayerImpl implements Player, Serializable {
 
     @Override
     public List<Ability> getPlayable(Game game, boolean hidden) {
-        List<Ability> playable = new ArrayList<>();
+        if (shouldSkipGettingPlayable(game)) {
+            return new ArrayList<>();
+        }
+        checkPlayableVersion(game);
+        if (playable == null || playableHidden != hidden) {
+            playable = calculatePlayable(game, hidden);
+            playableHidden = hidden;
+        }
+        // the caller may change the list
+        return new ArrayList<>(playable);
+    }
 
-        if (!shouldSkipGettingPlayable(game)) {
+    protected List<Ability> calculatePlayable(Game game, boolean hidden) {
+        List<Ability> playable = new ArrayList<>();
 
-            ManaOptions availableMana = getManaAvailable(game);
-            availableMana.addMana(manaPool.getMana());
-            for (ConditionalMana conditionalMana : manaPool.getConditionalMana()) {
-                availableMana.addMana(conditionalMana);
-            }
-            if (hidden) {
-                for (Card card : hand.getUniqueCards(game)) {
-                    for (Ability ability : card.getAbilities(game)) { // gets this activated ability from hand? (Morph?)
-                        if (ability.getZone().match(Zone.HAND)) {
-                            if (ability instanceof ActivatedAbility) {
-                                if (!(ability instanceof PlayLandAbility)
-                                        || !game.getContinuousEffects().preventedByRuleModification(GameEvent.getEvent(GameEvent.EventType.PLAY_LAND, ability.getSourceId(), ability.getSourceId(), playerId), ability, game, true)) {
-                                    if (canPlay((ActivatedAbility) ability, availableMana, card, game)) {
-                                        playable.add(ability);
-                                    }
+        ManaOptions availableMana = getManaAvailable(game);
+        availableMana.addMana(manaPool.getMana());
+        for (ConditionalMana conditionalMana : manaPool.getConditionalMana()) {
+            availableMana.addMana(conditionalMana);
+        }
+        if (hidden) {
+            for (Card card : hand.getUniqueCards(game)) {
+                for (Ability ability : card.getAbilities(game)) { // gets this activated ability from hand? (Morph?)
+                    if (ability.getZone().match(Zone.HAND)) {
+                        if (ability instanceof ActivatedAbility) {
+                            if (!(ability instanceof PlayLandAbility)
+                                    || !game.getContinuousEffects().preventedByRuleModification(GameEvent.getEvent(GameEvent.EventType.PLAY_LAND, ability.getSourceId(), ability.getSourceId(), playerId), ability, game, true)) {
+                                if (canPlay((ActivatedAbility) ability, availableMana, card, game)) {
+                                    playable.add(ability);
                                 }
-                            } else if (ability instanceof AlternativeSourceCosts) {
-                                if (card.getCardType().contains(CardType.LAND)) {
-                                    if (canLandPlayAlternateSourceCostsAbility(card, availableMana, ability, game)) { // e.g. Land with Morph
-                                        playable.add(ability);
-                                    }
-                                } else if (card.getCardType().contains(CardType.CREATURE)) { // e.g. makes a card available for play by Morph if the card may not be cast normally
-                                    if (!playable.contains(card.getSpellAbility())) {
-                                        if (((AlternativeSourceCosts) ability).isAvailable(card.getSpellAbility(), game)) {
-                                            playable.add(card.getSpellAbility());
-                                        }
+                            }
+                        } else if (ability instanceof AlternativeSourceCosts) {
+                            if (card.getCardType().contains(CardType.LAND)) {
+                                if (canLandPlayAlternateSourceCostsAbility(card, availableMana, ability, game)) { // e.g. Land with Morph
+                                    playable.add(ability);
+                                }
+                            } else if (card.getCardType().contains(CardType.CREATURE)) { // e.g. makes a card available for play by Morph if the card may not be cast normally
+                                if (!playable.contains(card.getSpellAbility())) {
+                                    if (((AlternativeSourceCosts) ability).isAvailable(card.getSpellAbility(), game)) {
+                                        playable.add(card.getSpellAbility());
                                     }
                                 }
                             }
@@ -2628,99 +2693,99 @@ public abstract class PlayerImpl implements Player, Serializable {
                     }
                 }
             }
-            for (Card card : graveyard.getUniqueCards(game)) {
-                boolean asThoughtCast = game.getContinuousEffects().asThough(card.getId(), AsThoughEffectType.PLAY_FROM_NOT_OWN_HAND_ZONE, this.getId(), game);
-                for (ActivatedAbility ability : card.getAbilities().getActivatedAbilities(Zone.ALL)) {
-                    boolean possible = false;
-                    if (ability.getZone().match(Zone.GRAVEYARD)) {
+        }
+        for (Card card : graveyard.getUniqueCards(game)) {
+            boolean asThoughtCast = game.getContinuousEffects().asThough(card.getId(), AsThoughEffectType.PLAY_FROM_NOT_OWN_HAND_ZONE, this.getId(), game);
+            for (ActivatedAbility ability : card.getAbilities().getActivatedAbilities(Zone.ALL)) {
+                boolean possible = false;
+                if (ability.getZone().match(Zone.GRAVEYARD)) {
+                    possible = true;
+                } else if (ability.getZone().match(Zone.HAND) && (ability instanceof SpellAbility || ability instanceof PlayLandAbility)) {
+                    if (asThoughtCast || canPlayCardsFromGraveyard()) {
                         possible = true;
-                    } else if (ability.getZone().match(Zone.HAND) && (ability instanceof SpellAbility || ability instanceof PlayLandAbility)) {
-                        if (asThoughtCast || canPlayCardsFromGraveyard()) {
-                            possible = true;
-                        }
-                    }
-                    if (possible && canPlay(ability, availableMana, card, game)) {
-                        playable.add(ability);
                     }
                 }
-                LinkedHashMap<UUID, ActivatedAbility> useable = new LinkedHashMap<>();
-                getOtherUseableActivatedAbilities(card, Zone.GRAVEYARD, game, useable);
-                for (Ability ability : useable.values()) {
+                if (possible && canPlay(ability, availableMana, card, game)) {
                     playable.add(ability);
                 }
             }
-            for (ExileZone exile : game.getExile().getExileZones()) {
-                for (Card card : exile.getCards(game)) {
-                    if (game.getContinuousEffects().asThough(card.getId(), AsThoughEffectType.PLAY_FROM_NOT_OWN_HAND_ZONE, this.getId(), game)) {
-                        for (Ability ability : card.getAbilities()) {
-                            if (ability.getZone().match(Zone.HAND)) {
-                                ability.setControllerId(this.getId()); // controller must be set for case owner != caster
-                                if (ability instanceof ActivatedAbility) {
-                                    if (((ActivatedAbility) ability).canActivate(playerId, game)) {
-                                        playable.add(ability);
-                                    }
+            LinkedHashMap<UUID, ActivatedAbility> useable = new LinkedHashMap<>();
+            getOtherUseableActivatedAbilities(card, Zone.GRAVEYARD, game, useable);
+            for (Ability ability : useable.values()) {
+                playable.add(ability);
+            }
+        }
+        for (ExileZone exile : game.getExile().getExileZones()) {
+            for (Card card : exile.getCards(game)) {
+                if (game.getContinuousEffects().asThough(card.getId(), AsThoughEffectType.PLAY_FROM_NOT_OWN_HAND_ZONE, this.getId(), game)) {
+                    for (Ability ability : card.getAbilities()) {
+                        if (ability.getZone().match(Zone.HAND)) {
+                            ability.setControllerId(this.getId()); // controller must be set for case owner != caster
+                            if (ability instanceof ActivatedAbility) {
+                                if (((ActivatedAbility) ability).canActivate(playerId, game)) {
+                                    playable.add(ability);
                                 }
-                                ability.setControllerId(card.getOwnerId());
                             }
+                            ability.setControllerId(card.getOwnerId());
                         }
                     }
                 }
             }
-            for (Cards cards : game.getState().getRevealed().values()) {
-                for (Card card : cards.getCards(game)) {
-                    if (game.getContinuousEffects().asThough(card.getId(), AsThoughEffectType.PLAY_FROM_NOT_OWN_HAND_ZONE, this.getId(), game)) {
-                        for (ActivatedAbility ability : card.getAbilities().getActivatedAbilities(Zone.HAND)) {
-                            if (ability instanceof SpellAbility || ability instanceof PlayLandAbility) {
-                                playable.add(ability);
-                            }
+        }
+        for (Cards cards : game.getState().getRevealed().values()) {
+            for (Card card : cards.getCards(game)) {
+                if (game.getContinuousEffects().asThough(card.getId(), AsThoughEffectType.PLAY_FROM_NOT_OWN_HAND_ZONE, this.getId(), game)) {
+                    for (ActivatedAbility ability : card.getAbilities().getActivatedAbilities(Zone.HAND)) {
+                        if (ability instanceof SpellAbility || ability instanceof PlayLandAbility) {
+                            playable.add(ability);
                         }
                     }
                 }
             }
-            // check if it's possible to play the top card of a library
-            for (UUID playerInRangeId : game.getState().getPlayersInRange(getId(), game)) {
-                Player player = game.getPlayer(playerInRangeId);
-                if (player != null) {
-                    if (player.isTopCardRevealed() && player.getLibrary().size() > 0) {
-                        Card card = player.getLibrary().getFromTop(game);
-                        if (game.getContinuousEffects().asThough(card.getId(), AsThoughEffectType.PLAY_FROM_NOT_OWN_HAND_ZONE, getId(), game)) {
-                            for (ActivatedAbility ability : card.getAbilities().getActivatedAbilities(Zone.HAND)) {
-                                if (ability instanceof SpellAbility || ability instanceof PlayLandAbility) {
-                                    playable.add(ability);
-                                }
+        }
+        // check if it's possible to play the top card of a library
+        for (UUID playerInRangeId : game.getState().getPlayersInRange(getId(), game)) {
+            Player player = game.getPlayer(playerInRangeId);
+            if (player != null) {
+                if (player.isTopCardRevealed() && player.getLibrary().size() > 0) {
+                    Card card = player.getLibrary().getFromTop(game);
+                    if (game.getContinuousEffects().asThough(card.getId(), AsThoughEffectType.PLAY_FROM_NOT_OWN_HAND_ZONE, getId(), game)) {
+                        for (ActivatedAbility ability : card.getAbilities().getActivatedAbilities(Zone.HAND)) {
+                            if (ability instanceof SpellAbility || ability instanceof PlayLandAbility) {
+                                playable.add(ability);
                             }
                         }
                     }
                 }
             }
-            // eliminate duplicate activated abilities
-            Map<String, Ability> playableActivated = new HashMap<>();
-            for (Permanent permanent : game.getBattlefield().getAllActivePermanents(playerId)) {
-                LinkedHashMap<UUID, ActivatedAbility> useableAbilities = getUseableActivatedAbilities(permanent, Zone.BATTLEFIELD, game);
-                for (ActivatedAbility ability : useableAbilities.values()) {
-                    playableActivated.putIfAbsent(ability.toString(), ability);
-                }
+        }
+        // eliminate duplicate activated abilities
+        Map<String, Ability> playableActivated = new HashMap<>();
+        for (Permanent permanent : game.getBattlefield().getAllActivePermanents(playerId)) {
+            LinkedHashMap<UUID, ActivatedAbility> useableAbilities = getUseableActivatedAbilities(permanent, Zone.BATTLEFIELD, game);
+            for (ActivatedAbility ability : useableAbilities.values()) {
+                playableActivated.putIfAbsent(ability.toString(), ability);
             }
-            // activated abilities from stack objects
-            for (StackObject stackObject : game.getState().getStack()) {
-                for (ActivatedAbility ability : stackObject.getAbilities().getActivatedAbilities(Zone.STACK)) {
-                    if (ability != null && canPlay(ability, availableMana, game.getObject(ability.getSourceId()), game)) {
-                        playableActivated.put(ability.toString(), ability);
-                    }
-
+        }
+        // activated abilities from stack objects
+        for (StackObject stackObject : game.getState().getStack()) {
+            for (ActivatedAbility ability : stackObject.getAbilities().getActivatedAbilities(Zone.STACK)) {
+                if (ability != null && canPlay(ability, availableMana, game.getObject(ability.getSourceId()), game)) {
+                    playableActivated.put(ability.toString(), ability);
                 }
-            }
-            // activated abilities from objects in the command zone (emblems or commanders)
-            for (CommandObject commandObject : game.getState().getCommand()) {
-                for (ActivatedAbility ability : commandObject.getAbilities().getActivatedAbilities(Zone.COMMAND)) {
-                    if (ability.getControllerId().equals(getId()) && canPlay(ability, availableMana, game.getObject(ability.getSourceId()), game)) {
-                        playableActivated.put(ability.toString(), ability);
-                    }
 
+            }
+        }
+        // activated abilities from objects in the command zone (emblems or commanders)
+        for (CommandObject commandObject : game.getState().getCommand()) {
+            for (ActivatedAbility ability : commandObject.getAbilities().getActivatedAbilities(Zone.COMMAND)) {
+                if (ability.getControllerId().equals(getId()) && canPlay(ability, availableMana, game.getObject(ability.getSourceId()), game)) {
+                    playableActivated.put(ability.toString(), ability);
                 }
+
             }
-            playable.addAll(playableActivated.values());
         }
+        playable.addAll(playableActivated.values());
 
         return playable;
     }
@@ -2735,40 +2800,49 @@ public abstract class PlayerImpl implements Player, Serializable {
     @Override
     public Set<UUID> getPlayableInHand(Game game
     ) {
-        Set<UUID> playable = new HashSet<>();
-        if (!shouldSkipGettingPlayable(game)) {
-            ManaOptions available = getManaAvailable(game);
-            available.addMana(manaPool.getMana());
+        if (shouldSkipGettingPlayable(game)) {
+            return new HashSet<>();
+        }
+        checkPlayableVersion(game);
+        if (playableInHand == null) {
+            playableInHand = calculatePlayableInHand(game);
+        }
+        return new HashSet<>(playableInHand);
+    }
 
-            for (Card card : hand.getCards(game)) {
-                Abilities:
-                for (Ability ability : card.getAbilities()) {
-                    if (ability.getZone().match(Zone.HAND)) {
-                        switch (ability.getAbilityType()) {
-                            case PLAY_LAND:
-                                if (game.getContinuousEffects().preventedByRuleModification(GameEvent.getEvent(GameEvent.EventType.PLAY_LAND, ability.getSourceId(), ability.getSourceId(), playerId), ability, game, true)) {
-                                    break;
-                                }
-                                if (canPlay((ActivatedAbility) ability, available, card, game)) {
-                                    playable.add(card.getId());
-                                    break Abilities;
-                                }
+    protected Set<UUID> calculatePlayableInHand(Game game) {
+        Set<UUID> playable = new HashSet<>();
+        ManaOptions available = getManaAvailable(game);
+        available.addMana(manaPool.getMana());
+
+        for (Card card : hand.getCards(game)) {
+            Abilities:
+            for (Ability ability : card.getAbilities()) {
+                if (ability.getZone().match(Zone.HAND)) {
+                    switch (ability.getAbilityType()) {
+                        case PLAY_LAND:
+                            if (game.getContinuousEffects().preventedByRuleModification(GameEvent.getEvent(GameEvent.EventType.PLAY_LAND, ability.getSourceId(), ability.getSourceId(), playerId), ability, game, true)) {
                                 break;
-                            case ACTIVATED:
-                            case SPELL:
-                                if (canPlay((ActivatedAbility) ability, available, card, game)) {
+                            }
+                            if (canPlay((ActivatedAbility) ability, available, card, game)) {
+                                playable.add(card.getId());
+                                break Abilities;
+                            }
+                            break;
+                        case ACTIVATED:
+                        case SPELL:
+                            if (canPlay((ActivatedAbility) ability, available, card, game)) {
+                                playable.add(card.getId());
+                                break Abilities;
+                            }
+                            break;
+                        case STATIC:
+                            if (card.getCardType().contains(CardType.LAND) && ability instanceof AlternativeSourceCosts) {
+                                if (canLandPlayAlternateSourceCostsAbility(card, available, ability, game)) { // e.g. Land with Morph
                                     playable.add(card.getId());
                                     break Abilities;
                                 }
-                                break;
-                            case STATIC:
-                                if (card.getCardType().contains(CardType.LAND) && ability instanceof AlternativeSourceCosts) {
-                                    if (canLandPlayAlternateSourceCostsAbility(card, available, ability, game)) { // e.g. Land with Morph
-                                        playable.add(card.getId());
-                                        break Abilities;
-                                    }
-                                }
-                        }
+                            }
                     }
                 }
             }
@@ -2777,6 +2851,35 @@ public abstract class PlayerImpl implements Player, Serializable {
         return playable;
     }
 
+    /**
+     * Forgets the playable abilities and cards of the last check if the game
+     * state, the continuous effects or the mana pool have changed since. So
+     * the GameView, the AI and the UI hints of the same priority reuse one
+     * check.
+     *
+     * @param game
+     */
+    private void checkPlayableVersion(Game game) {
+        long stateVersion = game.getState().getVersion();
+        long effectsVersion = game.getContinuousEffects().getVersion();
+        Mana poolMana = manaPool.getMana();
+        List<Mana> conditionalMana = new ArrayList<>();
+        for (ConditionalMana mana : manaPool.getConditionalMana()) {
+            conditionalMana.add(new Mana(mana));
+        }
+        if (stateVersion != playableStateVersion
+                || effectsVersion != playableEffectsVersion
+                || !poolMana.equals(playableManaPool)
+                || !conditionalMana.equals(playableConditionalMana)) {
+            playable = null;
+            playableInHand = null;
+            playableStateVersion = stateVersion;
+            playableEffectsVersion = effectsVersion;
+            playableManaPool = poolMana;
+            playableConditionalMana = conditionalMana;
+        }
+    }
+
     /**
      * Skip "silent" phase step when players are not allowed to cast anything.
      * E.g. players can't play or cast anything during declaring attackers.
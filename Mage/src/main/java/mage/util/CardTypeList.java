@@ -0,0 +1,32 @@
+package mage.util;
+
+import java.util.Collection;
+import mage.constants.CardType;
+
+/**
+ * List of card types with one bit per card type, contains checks don't have
+ * to go through the list.
+ */
+public class CardTypeList extends MaskedList<CardType> {
+
+    public CardTypeList() {
+    }
+
+    public CardTypeList(Collection<CardType> cardTypes) {
+        addAll(cardTypes);
+    }
+
+    public static long bitOf(CardType cardType) {
+        return 1L << cardType.ordinal();
+    }
+
+    @Override
+    protected long getBit(Object element) {
+        return element instanceof CardType ? bitOf((CardType) element) : 0;
+    }
+
+    @Override
+    protected boolean isExact() {
+        return true;
+    }
+}
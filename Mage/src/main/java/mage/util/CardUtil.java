@@ -505,7 +505,7 @@ public class CardUtil {
     public static UUID getExileZoneId(String key, Game game) {
         UUID exileId = (UUID) game.getState().getValue(key);
         if (exileId == null) {
-            exileId = UUID.randomUUID();
+            exileId = IdUtil.newId();
             game.getState().setValue(key, exileId);
         }
         return exileId;
@@ -0,0 +1,48 @@
+package mage.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectStreamClass;
+
+/**
+ * Reads streams written by {@link CompactObjectOutputStream}. Fails with an
+ * InvalidClassException if the serialVersionUID or the serialized fields of a
+ * local class differ from the class that was written.
+ *
+ */
+public class CompactObjectInputStream extends CopierObjectInputStream {
+
+    public CompactObjectInputStream(ClassLoader newLoader, InputStream theStream) throws IOException {
+        super(newLoader, theStream);
+    }
+
+    @Override
+    protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+        String className = readUTF();
+        long serialVersionUID = readLong();
+        int fieldsHash = readInt();
+        Class<?> clazz = Class.forName(className, false, getLoader());
+        ObjectStreamClass desc = ObjectStreamClass.lookupAny(clazz);
+        if (desc == null) {
+            throw new InvalidClassException(className, "class description not found");
+        }
+        if (desc.getSerialVersionUID() != serialVersionUID) {
+            throw new InvalidClassException(className, "local class incompatible: stream serialVersionUID = "
+                    + serialVersionUID + ", local class serialVersionUID = " + desc.getSerialVersionUID());
+        }
+        if (CompactObjectOutputStream.getFieldsHash(desc) != fieldsHash) {
+            throw new InvalidClassException(className, "local class incompatible: serialized fields have changed");
+        }
+        return desc;
+    }
+
+    @Override
+    protected Class resolveClass(ObjectStreamClass osc) throws IOException, ClassNotFoundException {
+        return Class.forName(osc.getName(), false, getLoader());
+    }
+
+    private ClassLoader getLoader() {
+        return myLoader != null ? myLoader : getClass().getClassLoader();
+    }
+}
@@ -0,0 +1,52 @@
+package mage.util;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.io.OutputStream;
+
+/**
+ * Object stream that writes only the name, the serialVersionUID and a hash of
+ * the serialized fields of a class instead of its full class description.
+ * ObjectOutputStream writes the description of a class once per stream and
+ * refers back to it for all further uses of the class, so the saving is the
+ * omitted field names and types of the class and of all its super classes.
+ * For a game state with hundreds of different card, ability and effect
+ * classes these are by far the biggest part of the stream.
+ *
+ * Has to be read by {@link CompactObjectInputStream}. The field layout of the
+ * classes is taken from the reading side, so the stream can only be read with
+ * the same class versions it was written with: the reader fails with an
+ * InvalidClassException if the serialVersionUID or the fields of a class
+ * differ. Only used for short lived snapshots of the game state (game state
+ * history), saved games use the standard descriptors.
+ *
+ */
+public class CompactObjectOutputStream extends ObjectOutputStream {
+
+    public CompactObjectOutputStream(OutputStream out) throws IOException {
+        super(out);
+    }
+
+    @Override
+    protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+        writeUTF(desc.getName());
+        writeLong(desc.getSerialVersionUID());
+        writeInt(getFieldsHash(desc));
+    }
+
+    /**
+     * @param desc
+     * @return hash of the names and types of the serialized fields of the
+     * class (without super classes, they have their own descriptions)
+     */
+    static int getFieldsHash(ObjectStreamClass desc) {
+        int hash = 1;
+        for (ObjectStreamField field : desc.getFields()) {
+            hash = 31 * hash + field.getName().hashCode();
+            hash = 31 * hash + (field.isPrimitive() ? field.getTypeCode() : field.getTypeString().hashCode());
+        }
+        return hash;
+    }
+}
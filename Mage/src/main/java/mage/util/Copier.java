@@ -101,4 +101,39 @@ public class Copier<T> {
         }
         return copy;
     }
+
+    /**
+     * Same as copyCompressed but writes only the name, serialVersionUID and a
+     * hash of the fields of the classes instead of their full descriptions
+     * (see {@link CompactObjectOutputStream}), this is faster and much smaller
+     * for game states. Use uncompactCopy to restore (with the same class
+     * versions only).
+     *
+     * @param obj
+     * @return
+     */
+    public byte[] copyCompact(T obj) {
+        try {
+            FastByteArrayOutputStream fbos = new FastByteArrayOutputStream();
+            try (ObjectOutputStream out = new CompactObjectOutputStream(new GZIPOutputStream(fbos))) {
+                out.writeObject(obj);
+            }
+            byte[] copy = new byte[fbos.getSize()];
+            System.arraycopy(fbos.getByteArray(), 0, copy, 0, fbos.getSize());
+            return copy;
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    public T uncompactCopy(byte[] buffer) {
+        T copy = null;
+        try (ObjectInputStream in = new CompactObjectInputStream(loader, new GZIPInputStream(new ByteArrayInputStream(buffer)))) {
+            copy = (T) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            e.printStackTrace();
+        }
+        return copy;
+    }
 }
@@ -0,0 +1,260 @@
+package mage.util;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A HashMap that shares its backing map with all copies made from it until
+ * one of them gets modified. Only the modified instance clones the backing map,
+ * so copying is O(1) and the cost is paid only by the copies that really
+ * change.
+ *
+ * Use this only for values that are immutable (UUID, Integer, enums) or that
+ * are shared between copies anyway (e.g. map.putAll(other) of objects), the
+ * values themselves are never copied.
+ *
+ * The collection views only support removing elements (iterator.remove()),
+ * entries can't be changed through setValue().
+ *
+ * @param <K>
+ * @param <V>
+ */
+public class CopyOnWriteHashMap<K, V> implements Map<K, V>, Serializable, Copyable<CopyOnWriteHashMap<K, V>> {
+
+    private HashMap<K, V> map;
+    private boolean shared;
+
+    public CopyOnWriteHashMap() {
+        this.map = new HashMap<>();
+    }
+
+    public CopyOnWriteHashMap(final CopyOnWriteHashMap<K, V> cowMap) {
+        this.map = cowMap.map;
+        this.shared = true;
+        cowMap.shared = true;
+    }
+
+    @Override
+    public CopyOnWriteHashMap<K, V> copy() {
+        return new CopyOnWriteHashMap<>(this);
+    }
+
+    /**
+     * Replaces the content of this map by the content of the given map without
+     * copying it (used for restoring a state)
+     *
+     * @param cowMap
+     */
+    public void restore(CopyOnWriteHashMap<K, V> cowMap) {
+        this.map = cowMap.map;
+        this.shared = true;
+        cowMap.shared = true;
+    }
+
+    private HashMap<K, V> writable() {
+        if (shared) {
+            map = new HashMap<>(map);
+            shared = false;
+        }
+        return map;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
+
+    @Override
+    public V get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        if (shared && value != null && value.equals(map.get(key))) {
+            // nothing changes so there is no need to unshare
+            return value;
+        }
+        return writable().put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (shared && !map.containsKey(key)) {
+            return null;
+        }
+        return writable().remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        if (!m.isEmpty()) {
+            writable().putAll(m);
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (shared) {
+            map = new HashMap<>();
+            shared = false;
+        } else {
+            map.clear();
+        }
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new AbstractSet<K>() {
+            @Override
+            public Iterator<K> iterator() {
+                final Iterator<Entry<K, V>> it = new EntryIterator();
+                return new Iterator<K>() {
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public K next() {
+                        return it.next().getKey();
+                    }
+
+                    @Override
+                    public void remove() {
+                        it.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return map.containsKey(o);
+            }
+        };
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                final Iterator<Entry<K, V>> it = new EntryIterator();
+                return new Iterator<V>() {
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public V next() {
+                        return it.next().getValue();
+                    }
+
+                    @Override
+                    public void remove() {
+                        it.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+        };
+    }
+
+    /**
+     * Iterates the backing map that was current at creation time. If an
+     * element is removed while the map is shared, the backing map gets cloned
+     * first and the iteration continues on the unchanged original.
+     */
+    private class EntryIterator implements Iterator<Entry<K, V>> {
+
+        private final HashMap<K, V> iteratedMap = map;
+        private final Iterator<Entry<K, V>> it = iteratedMap.entrySet().iterator();
+        private Entry<K, V> last;
+
+        @Override
+        public boolean hasNext() {
+            return it.hasNext();
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            last = it.next();
+            return new AbstractMap.SimpleImmutableEntry<>(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            if (iteratedMap == writable()) {
+                it.remove();
+            } else {
+                map.remove(last.getKey());
+            }
+            last = null;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return map.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return map.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return map.toString();
+    }
+}
@@ -0,0 +1,22 @@
+package mage.util;
+
+import java.util.UUID;
+
+/**
+ * Creates the ids of the objects created while a game is played (abilities,
+ * effects, costs, modes, tokens). The ids only have to be unique, they don't
+ * have to be unpredictable.
+ *
+ * @see IdUtil
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    /**
+     * Creates the ids with {@link UUID#randomUUID()}, all threads share one
+     * secure random generator.
+     */
+    IdGenerator RANDOM = UUID::randomUUID;
+
+    UUID newId();
+}
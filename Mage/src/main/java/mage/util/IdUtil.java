@@ -0,0 +1,31 @@
+package mage.util;
+
+import java.util.UUID;
+
+/**
+ * Access to the {@link IdGenerator} used by the game engine. By default the
+ * ids are created by a {@link ThreadLocalIdGenerator}, so game threads and AI
+ * simulations don't wait for each other to get new ids.
+ */
+public final class IdUtil {
+
+    private static volatile IdGenerator idGenerator = new ThreadLocalIdGenerator();
+
+    private IdUtil() {
+    }
+
+    public static UUID newId() {
+        return idGenerator.newId();
+    }
+
+    public static IdGenerator getIdGenerator() {
+        return idGenerator;
+    }
+
+    public static void setIdGenerator(IdGenerator idGenerator) {
+        if (idGenerator == null) {
+            throw new IllegalArgumentException("idGenerator must not be null");
+        }
+        IdUtil.idGenerator = idGenerator;
+    }
+}
@@ -0,0 +1,159 @@
+package mage.util;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * An array based list that keeps a 64 bit mask of its elements. contains
+ * checks for elements that aren't in the list are answered by the mask
+ * without going through the elements, if each element has its own bit
+ * (e.g. enums) all contains checks are answered by the mask.
+ *
+ * Order and duplicates of the elements are kept like in an ArrayList, so it can
+ * replace lists that are changed through the List interface.
+ *
+ * @param <E>
+ */
+public abstract class MaskedList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+
+    private static final Object[] EMPTY = {};
+
+    private Object[] elements = EMPTY;
+    private int size;
+    private long mask;
+
+    /**
+     * @param element
+     * @return the bit of the element or 0 if it has no bit (e.g. null), such
+     * elements are always searched in the list
+     */
+    protected abstract long getBit(Object element);
+
+    /**
+     * @return true if no two possible elements share a bit
+     */
+    protected abstract boolean isExact();
+
+    /**
+     * @return bits of all elements of the list
+     */
+    public long getMask() {
+        return mask;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index, size);
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E old = get(index);
+        elements[index] = element;
+        updateMask();
+        return old;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+        mask |= getBit(element);
+        modCount++;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        Object[] added = c.toArray();
+        if (added.length == 0) {
+            return false;
+        }
+        ensureCapacity(size + added.length);
+        System.arraycopy(added, 0, elements, size, added.length);
+        size += added.length;
+        if (c instanceof MaskedList && c.getClass() == getClass()) {
+            mask |= ((MaskedList) c).mask;
+        } else {
+            for (Object element : added) {
+                mask |= getBit(element);
+            }
+        }
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public E remove(int index) {
+        E old = get(index);
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        updateMask();
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+        mask = 0;
+        modCount++;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        long bit = getBit(o);
+        if (bit != 0) {
+            if ((mask & bit) == 0) {
+                return false;
+            }
+            if (isExact()) {
+                return true;
+            }
+        }
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        for (int i = 0; i < size; i++) {
+            if (o == null ? elements[i] == null : o.equals(elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void updateMask() {
+        long newMask = 0;
+        for (int i = 0; i < size; i++) {
+            newMask |= getBit(elements[i]);
+        }
+        mask = newMask;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(capacity, elements.length * 2));
+        }
+    }
+
+    private void checkIndex(int index, int limit) {
+        if (index < 0 || index >= limit) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package mage.util;
+
+import java.util.UUID;
+
+/**
+ * Helper to build 64 bit hash values of game states without creating
+ * strings.
+ *
+ * Ordered content is combined with {@link #combine(long, long)}, unordered
+ * content (e.g. the permanents of the battlefield or the cards in a
+ * graveyard) is summed up with {@link #mix(long)} applied to each element, so
+ * the result is independent of the iteration order and equal elements don't
+ * cancel each other out.
+ *
+ */
+public final class StateHash {
+
+    private StateHash() {
+    }
+
+    /**
+     * Spreads the bits of the value over the whole 64 bits (finalizer of
+     * SplitMix64)
+     *
+     * @param value
+     * @return
+     */
+    public static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public static long combine(long hash, long value) {
+        return mix(hash * 31 + value);
+    }
+
+    public static long combine(long hash, boolean value) {
+        return combine(hash, value ? 1231 : 1237);
+    }
+
+    public static long combine(long hash, Object value) {
+        return combine(hash, value == null ? 0 : value.hashCode());
+    }
+
+    public static long hash(UUID id) {
+        if (id == null) {
+            return 0;
+        }
+        return mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+    }
+}
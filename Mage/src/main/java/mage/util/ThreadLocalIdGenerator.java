@@ -0,0 +1,35 @@
+package mage.util;
+
+import java.util.UUID;
+
+/**
+ * Creates unique ids without synchronization between the threads. Every
+ * thread takes one random UUID as start and then counts up its least
+ * significant bits, so no two threads and no two calls of one thread return
+ * the same id.
+ */
+public class ThreadLocalIdGenerator implements IdGenerator {
+
+    private static final ThreadLocal<Sequence> SEQUENCE = ThreadLocal.withInitial(Sequence::new);
+
+    @Override
+    public UUID newId() {
+        return SEQUENCE.get().next();
+    }
+
+    private static final class Sequence {
+
+        private final long mostSigBits;
+        private long leastSigBits;
+
+        private Sequence() {
+            UUID start = UUID.randomUUID();
+            this.mostSigBits = start.getMostSignificantBits();
+            this.leastSigBits = start.getLeastSignificantBits();
+        }
+
+        private UUID next() {
+            return new UUID(mostSigBits, leastSigBits++);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package mage.util;
+
+import java.util.Collection;
+
+/**
+ * List of subtype or supertype names. The bit of a name is taken from its
+ * (cached) hash code, so names that are not in the list are mostly rejected
+ * without comparing strings.
+ */
+public class TypeNameList extends MaskedList<String> {
+
+    public TypeNameList() {
+    }
+
+    public TypeNameList(Collection<String> names) {
+        addAll(names);
+    }
+
+    @Override
+    protected long getBit(Object element) {
+        return element instanceof String ? 1L << (element.hashCode() & 63) : 0;
+    }
+
+    @Override
+    protected boolean isExact() {
+        return false;
+    }
+}
@@ -28,10 +28,12 @@
 package mage.watchers;
 
 import java.io.Serializable;
+import java.util.Set;
 import java.util.UUID;
 import mage.constants.WatcherScope;
 import mage.game.Game;
 import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
 
 /**
  *
@@ -96,6 +98,16 @@ public abstract class Watcher implements Serializable {
         condition = false;
     }
 
+    /**
+     * Returns all event types watch has to be called for. Watchers that
+     * return null are called for every event.
+     *
+     * @return the event types or null if not known
+     */
+    public Set<EventType> getEventTypes() {
+        return null;
+    }
+
     public abstract void watch(GameEvent event, Game game);
 
     public abstract Watcher copy();
@@ -27,10 +27,15 @@
  */
 package mage.watchers;
 
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import mage.game.Game;
 import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
 
 /**
  *
@@ -38,11 +43,37 @@ import mage.game.events.GameEvent;
  */
 public class Watchers extends HashMap<String, Watcher> {
 
+    /**
+     * Classes that declare the event types of their watch method
+     * (getEventTypes is implemented by the same class that implements watch
+     * or by a sub class of it)
+     */
+    private static final Map<Class<?>, Boolean> eventTypesDeclared = new ConcurrentHashMap<>();
+
+    // the watchers by the event types they have to see (same keys as the map itself)
+    private final Map<EventType, Map<String, Watcher>> byEventType = new EnumMap<>(EventType.class);
+    // watchers that don't declare their event types, they see every event
+    private final Map<String, Watcher> allEventTypes = new HashMap<>();
+
     public Watchers() {
     }
 
     public Watchers(final Watchers watchers) {
-        watchers.entrySet().forEach((entry) -> this.put(entry.getKey(), entry.getValue().copy()));
+        watchers.entrySet().forEach((entry) -> super.put(entry.getKey(), entry.getValue().copy()));
+        // the copied watchers have the same event types, so the index can be taken over by key
+        for (Map.Entry<EventType, Map<String, Watcher>> entry : watchers.byEventType.entrySet()) {
+            copyIndex(entry.getValue(), getEventTypeIndex(entry.getKey()));
+        }
+        copyIndex(watchers.allEventTypes, allEventTypes);
+    }
+
+    private void copyIndex(Map<String, Watcher> from, Map<String, Watcher> to) {
+        for (String key : from.keySet()) {
+            Watcher watcher = this.get(key);
+            if (watcher != null) {
+                to.put(key, watcher);
+            }
+        }
     }
 
     public Watchers copy() {
@@ -53,8 +84,99 @@ public class Watchers extends HashMap<String, Watcher> {
         putIfAbsent(watcher.getKey(), watcher);
     }
 
+    @Override
+    public Watcher put(String key, Watcher watcher) {
+        Watcher oldWatcher = super.put(key, watcher);
+        if (oldWatcher != null) {
+            removeFromIndex(key, oldWatcher);
+        }
+        addToIndex(key, watcher);
+        return oldWatcher;
+    }
+
+    @Override
+    public Watcher putIfAbsent(String key, Watcher watcher) {
+        Watcher oldWatcher = get(key);
+        if (oldWatcher == null) {
+            put(key, watcher);
+        }
+        return oldWatcher;
+    }
+
+    @Override
+    public Watcher remove(Object key) {
+        Watcher oldWatcher = super.remove(key);
+        if (oldWatcher != null) {
+            removeFromIndex((String) key, oldWatcher);
+        }
+        return oldWatcher;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        byEventType.clear();
+        allEventTypes.clear();
+    }
+
+    private void addToIndex(String key, Watcher watcher) {
+        Set<EventType> eventTypes = getDeclaredEventTypes(watcher);
+        if (eventTypes == null) {
+            allEventTypes.put(key, watcher);
+        } else {
+            for (EventType eventType : eventTypes) {
+                getEventTypeIndex(eventType).put(key, watcher);
+            }
+        }
+    }
+
+    private void removeFromIndex(String key, Watcher watcher) {
+        Set<EventType> eventTypes = getDeclaredEventTypes(watcher);
+        if (eventTypes == null) {
+            allEventTypes.remove(key);
+        } else {
+            for (EventType eventType : eventTypes) {
+                Map<String, Watcher> index = byEventType.get(eventType);
+                if (index != null) {
+                    index.remove(key);
+                }
+            }
+        }
+    }
+
+    private Map<String, Watcher> getEventTypeIndex(EventType eventType) {
+        Map<String, Watcher> index = byEventType.get(eventType);
+        if (index == null) {
+            index = new HashMap<>();
+            byEventType.put(eventType, index);
+        }
+        return index;
+    }
+
+    private static Set<EventType> getDeclaredEventTypes(Watcher watcher) {
+        Class<?> watcherClass = watcher.getClass();
+        Boolean declared = eventTypesDeclared.get(watcherClass);
+        if (declared == null) {
+            try {
+                Class<?> watchClass = watcherClass.getMethod("watch", GameEvent.class, Game.class).getDeclaringClass();
+                Class<?> declareClass = watcherClass.getMethod("getEventTypes").getDeclaringClass();
+                declared = watchClass.isAssignableFrom(declareClass);
+            } catch (NoSuchMethodException ex) {
+                declared = false;
+            }
+            eventTypesDeclared.put(watcherClass, declared);
+        }
+        return declared ? watcher.getEventTypes() : null;
+    }
+
     public void watch(GameEvent event, Game game) {
-        for (Watcher watcher : this.values()) {
+        Map<String, Watcher> index = byEventType.get(event.getType());
+        if (index != null) {
+            for (Watcher watcher : index.values()) {
+                watcher.watch(event, game);
+            }
+        }
+        for (Watcher watcher : allEventTypes.values()) {
             watcher.watch(event, game);
         }
     }
@@ -66,4 +188,13 @@ public class Watchers extends HashMap<String, Watcher> {
     public Watcher get(String key, UUID id) {
         return this.get(id + key);
     }
+
+    /**
+     * @param eventType
+     * @return number of watchers that see events of the type
+     */
+    public int getWatcherCount(EventType eventType) {
+        Map<String, Watcher> index = byEventType.get(eventType);
+        return (index == null ? 0 : index.size()) + allEventTypes.size();
+    }
 }
@@ -5,6 +5,7 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import mage.MageObjectReference;
@@ -32,6 +33,11 @@ public class AttackedOrBlockedThisCombatWatcher extends Watcher {
         this.blockedThisTurnCreatures.addAll(watcher.blockedThisTurnCreatures);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BEGIN_COMBAT_STEP_PRE, GameEvent.EventType.ATTACKER_DECLARED, GameEvent.EventType.BLOCKER_DECLARED);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.BEGIN_COMBAT_STEP_PRE) {
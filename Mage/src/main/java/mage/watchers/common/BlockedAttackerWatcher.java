@@ -27,6 +27,7 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Set;
@@ -64,6 +65,11 @@ public class BlockedAttackerWatcher extends Watcher {
         return new BlockedAttackerWatcher(this);
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.BLOCKER_DECLARED);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == EventType.BLOCKER_DECLARED) {
@@ -27,6 +27,7 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -59,6 +60,11 @@ public class BlockedThisTurnWatcher extends Watcher {
         return new BlockedThisTurnWatcher(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BLOCKER_DECLARED);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.BLOCKER_DECLARED) {
@@ -27,6 +27,8 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.constants.WatcherScope;
 import mage.game.Game;
 import mage.game.events.DamagedPlayerEvent;
@@ -49,6 +51,11 @@ public class BloodthirstWatcher extends Watcher {
         super(watcher);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (condition) { //no need to check - condition has already occured
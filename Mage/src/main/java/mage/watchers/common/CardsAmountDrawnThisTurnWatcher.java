@@ -27,6 +27,8 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.constants.WatcherScope;
 import mage.game.Game;
 import mage.game.events.GameEvent;
@@ -58,6 +60,11 @@ public class CardsAmountDrawnThisTurnWatcher extends Watcher {
         amountOfCardsDrawnThisTurn.putAll(watcher.amountOfCardsDrawnThisTurn);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DREW_CARD);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.DREW_CARD) {
@@ -28,9 +28,11 @@
 
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.UUID;
 import mage.constants.PhaseStep;
 import mage.constants.WatcherScope;
@@ -61,6 +63,11 @@ public class CardsDrawnDuringDrawStepWatcher extends Watcher {
         }
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DREW_CARD);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.DREW_CARD
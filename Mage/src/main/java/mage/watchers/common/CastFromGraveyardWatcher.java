@@ -27,6 +27,7 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -56,6 +57,11 @@ public class CastFromGraveyardWatcher extends Watcher {
         super(watcher);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         /**
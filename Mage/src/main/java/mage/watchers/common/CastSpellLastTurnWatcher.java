@@ -28,10 +28,12 @@
 package mage.watchers.common;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObjectReference;
 import mage.constants.WatcherScope;
@@ -64,6 +66,11 @@ public class CastSpellLastTurnWatcher extends Watcher {
         this.spellsCastThisTurnInOrder.addAll(watcher.spellsCastThisTurnInOrder);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.SPELL_CAST) {
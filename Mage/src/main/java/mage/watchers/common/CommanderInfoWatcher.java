@@ -27,8 +27,10 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObject;
 import mage.cards.Card;
@@ -70,6 +72,11 @@ public class CommanderInfoWatcher extends Watcher {
         return new CommanderInfoWatcher(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER, GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (checkCommanderDamage && event.getType() == EventType.DAMAGED_PLAYER && event instanceof DamagedPlayerEvent) {
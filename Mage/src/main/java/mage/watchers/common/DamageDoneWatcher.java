@@ -5,8 +5,10 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObjectReference;
 import mage.constants.WatcherScope;
@@ -43,6 +45,11 @@ public class DamageDoneWatcher extends Watcher {
         return new DamageDoneWatcher(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_CREATURE, GameEvent.EventType.DAMAGED_PLANESWALKER, GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         switch (event.getType()) {
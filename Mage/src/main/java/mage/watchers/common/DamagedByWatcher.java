@@ -27,6 +27,7 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -69,6 +70,11 @@ public class DamagedByWatcher extends Watcher {
         return new DamagedByWatcher(this);
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.DAMAGED_CREATURE, EventType.DAMAGED_PLANESWALKER);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         boolean eventHasAppropriateType = (event.getType() == EventType.DAMAGED_CREATURE) ||
@@ -1,7 +1,9 @@
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import mage.constants.WatcherScope;
 import mage.game.Game;
@@ -26,6 +28,11 @@ public class FirstSpellCastThisTurnWatcher extends Watcher {
         super(watcher);
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.SPELL_CAST, EventType.CAST_SPELL);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         switch (event.getType()) {
@@ -27,6 +27,8 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.constants.WatcherScope;
 import mage.constants.Zone;
 import mage.game.Game;
@@ -53,6 +55,11 @@ public class GravestormWatcher extends Watcher {
         this.gravestormCount = watcher.gravestormCount;
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.ZONE_CHANGE);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == EventType.ZONE_CHANGE) {
@@ -27,6 +27,8 @@
  */
 package mage.watchers.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.Mana;
 import mage.constants.WatcherScope;
 import mage.constants.Zone;
@@ -55,6 +57,11 @@ public class ManaSpentToCastWatcher extends Watcher {
         this.payment = watcher.payment;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST, GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.SPELL_CAST && event.getZone() == Zone.HAND) {
@@ -28,6 +28,8 @@
 
 package mage.watchers.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.constants.CardType;
 import mage.constants.WatcherScope;
 import mage.constants.Zone;
@@ -51,6 +53,11 @@ public class MorbidWatcher extends Watcher {
         super(watcher);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (condition) {
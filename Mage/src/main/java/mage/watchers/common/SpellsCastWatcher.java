@@ -6,8 +6,10 @@
 package mage.watchers.common;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import mage.MageObject;
 import mage.constants.WatcherScope;
@@ -40,6 +42,11 @@ public class SpellsCastWatcher extends Watcher {
         return new SpellsCastWatcher(this);
     }
 
+    @Override
+    public Set<EventType> getEventTypes() {
+        return EnumSet.of(EventType.SPELL_CAST);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (EventType.SPELL_CAST.equals(event.getType())) {
@@ -1,5 +1,7 @@
 package mage.watchers.common;
 
+import java.util.EnumSet;
+import java.util.Set;
 import mage.MageObject;
 import mage.constants.WatcherScope;
 import mage.constants.Zone;
@@ -29,6 +31,11 @@ public class ZuberasDiedWatcher extends Watcher {
         return new ZuberasDiedWatcher(this);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.ZONE_CHANGE && ((ZoneChangeEvent) event).isDiesEvent()) {
@@ -0,0 +1,199 @@
+package mage.abilities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import mage.abilities.common.EntersBattlefieldTriggeredAbility;
+import mage.abilities.effects.common.GainLifeEffect;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for the event type index of {@link TriggeredAbilities}
+ */
+public class TriggeredAbilitiesTest {
+
+    // abilities whose checkEventType was called by checkTriggers (the test abilities never trigger)
+    private static final List<TriggeredAbility> checked = new ArrayList<>();
+
+    private TriggeredAbilities abilities;
+    private TriggeredAbility entersBattlefield;
+    private TriggeredAbility undeclared;
+
+    @Before
+    public void setUp() {
+        abilities = new TriggeredAbilities();
+        entersBattlefield = new TestEntersBattlefieldTriggeredAbility();
+        undeclared = new TestTriggeredAbility();
+        abilities.put("entersBattlefield", entersBattlefield);
+        abilities.put("undeclared", undeclared);
+    }
+
+    private static List<TriggeredAbility> checkTriggers(TriggeredAbilities abilities, EventType eventType) {
+        checked.clear();
+        abilities.checkTriggers(GameEvent.getEvent(eventType, null, null, null), null);
+        return new ArrayList<>(checked);
+    }
+
+    @Test
+    public void shouldCheckDeclaredAbilitiesOnlyForTheirEventTypes() {
+        // given
+
+        // when
+
+        // then
+        assertEquals(2, checkTriggers(abilities, EventType.ENTERS_THE_BATTLEFIELD).size());
+        assertTrue(checkTriggers(abilities, EventType.ENTERS_THE_BATTLEFIELD).containsAll(Arrays.asList(entersBattlefield, undeclared)));
+        assertEquals(Collections.singletonList(undeclared), checkTriggers(abilities, EventType.ZONE_CHANGE));
+    }
+
+    @Test
+    public void shouldUpdateIndexAfterRemoveAndReplace() {
+        // given
+        TriggeredAbility otherEntersBattlefield = new TestEntersBattlefieldTriggeredAbility();
+
+        // when
+        abilities.remove("undeclared");
+        abilities.put("entersBattlefield", otherEntersBattlefield);
+
+        // then
+        assertEquals(Collections.singletonList(otherEntersBattlefield), checkTriggers(abilities, EventType.ENTERS_THE_BATTLEFIELD));
+        assertTrue(checkTriggers(abilities, EventType.ZONE_CHANGE).isEmpty());
+
+        // when
+        abilities.put("undeclared", undeclared);
+        abilities.clear();
+
+        // then
+        assertTrue(checkTriggers(abilities, EventType.ENTERS_THE_BATTLEFIELD).isEmpty());
+    }
+
+    @Test
+    public void shouldIndexCopiedAbilitiesInCopy() {
+        // given
+
+        // when
+        TriggeredAbilities copy = new TriggeredAbilities(abilities);
+        abilities.remove("entersBattlefield");
+
+        // then
+        TriggeredAbility copiedEntersBattlefield = copy.get("entersBattlefield");
+        TriggeredAbility copiedUndeclared = copy.get("undeclared");
+        assertNotSame(entersBattlefield, copiedEntersBattlefield);
+        assertEquals(2, checkTriggers(copy, EventType.ENTERS_THE_BATTLEFIELD).size());
+        assertTrue(checkTriggers(copy, EventType.ENTERS_THE_BATTLEFIELD).containsAll(Arrays.asList(copiedEntersBattlefield, copiedUndeclared)));
+        assertEquals(Collections.singletonList(copiedUndeclared), checkTriggers(copy, EventType.ZONE_CHANGE));
+        assertEquals(Collections.singletonList(undeclared), checkTriggers(abilities, EventType.ENTERS_THE_BATTLEFIELD));
+    }
+
+    @Test
+    public void shouldIgnoreDeclarationIfSubClassChecksOtherEvents() {
+        // given
+        TriggeredAbility overridden = new ZoneChangeTriggeredAbility();
+        TriggeredAbility otherOverridden = new ZoneChangeTriggeredAbility();
+
+        // when
+        abilities.put("overridden", overridden);
+        // the second ability of the class is put with the cached result of the class
+        abilities.put("otherOverridden", otherOverridden);
+
+        // then
+        assertTrue(checkTriggers(abilities, EventType.ZONE_CHANGE).containsAll(Arrays.asList(overridden, otherOverridden)));
+        assertTrue(checkTriggers(abilities, EventType.DRAW_STEP).containsAll(Arrays.asList(overridden, otherOverridden)));
+    }
+
+    /**
+     * Like a card that overrides checkEventType of a common ability without
+     * overriding getEventTypes
+     */
+    private static class ZoneChangeTriggeredAbility extends EntersBattlefieldTriggeredAbility {
+
+        ZoneChangeTriggeredAbility() {
+            super(new GainLifeEffect(1));
+        }
+
+        ZoneChangeTriggeredAbility(final ZoneChangeTriggeredAbility ability) {
+            super(ability);
+        }
+
+        @Override
+        public ZoneChangeTriggeredAbility copy() {
+            return new ZoneChangeTriggeredAbility(this);
+        }
+
+        @Override
+        public boolean checkEventType(GameEvent event, Game game) {
+            checked.add(this);
+            return false;
+        }
+    }
+
+    /**
+     * Declares its event type like the common ability
+     */
+    private static class TestEntersBattlefieldTriggeredAbility extends EntersBattlefieldTriggeredAbility {
+
+        TestEntersBattlefieldTriggeredAbility() {
+            super(new GainLifeEffect(1));
+        }
+
+        TestEntersBattlefieldTriggeredAbility(final TestEntersBattlefieldTriggeredAbility ability) {
+            super(ability);
+        }
+
+        @Override
+        public TestEntersBattlefieldTriggeredAbility copy() {
+            return new TestEntersBattlefieldTriggeredAbility(this);
+        }
+
+        @Override
+        public Set<EventType> getEventTypes() {
+            return super.getEventTypes();
+        }
+
+        @Override
+        public boolean checkEventType(GameEvent event, Game game) {
+            checked.add(this);
+            return false;
+        }
+    }
+
+    private static class TestTriggeredAbility extends TriggeredAbilityImpl {
+
+        TestTriggeredAbility() {
+            super(Zone.BATTLEFIELD, new GainLifeEffect(1));
+        }
+
+        TestTriggeredAbility(final TestTriggeredAbility ability) {
+            super(ability);
+        }
+
+        @Override
+        public TestTriggeredAbility copy() {
+            return new TestTriggeredAbility(this);
+        }
+
+        @Override
+        public boolean checkEventType(GameEvent event, Game game) {
+            checked.add(this);
+            return false;
+        }
+
+        @Override
+        public boolean checkTrigger(GameEvent event, Game game) {
+            return true;
+        }
+
+        @Override
+        public String getRule() {
+            return "test";
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package mage.abilities.costs.mana;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link ManaCostsImpl}
+ */
+public class ManaCostsImplTest {
+
+    @Test
+    public void shouldCreateIndependentCostsForSameString() {
+        // given
+        ManaCostsImpl<ManaCost> first = new ManaCostsImpl<>("{1}{G}{W/U}");
+        ManaCostsImpl<ManaCost> second = new ManaCostsImpl<>("{1}{G}{W/U}");
+
+        // when
+        first.get(1).setPaid();
+
+        // then
+        assertEquals(3, second.size());
+        assertNotSame(first.get(1), second.get(1));
+        assertFalse(second.get(1).isPaid());
+        assertFalse(new ManaCostsImpl<>("{1}{G}{W/U}").get(1).isPaid());
+        assertEquals("{1}{G}{W/U}", second.getText());
+    }
+
+    @Test
+    public void shouldLoadEmptyCosts() {
+        // when
+        ManaCostsImpl<ManaCost> costs = new ManaCostsImpl<>("");
+
+        // then
+        assertTrue(costs.isEmpty());
+        costs.load(null);
+        assertTrue(costs.isEmpty());
+    }
+
+    @Test
+    public void shouldParseCostsInParallelThreads() throws InterruptedException {
+        // given
+        String[] manaStrings = {"{X}{R}", "{2}{B}{B}", "{W}{U}{B}", "{2/W}{2/W}", "{C}{S}", "{4}{U}"};
+        Map<String, String> errors = new ConcurrentHashMap<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    for (String mana : manaStrings) {
+                        String text = new ManaCostsImpl<>(mana).getText();
+                        if (!mana.equals(text)) {
+                            errors.put(mana, text);
+                        }
+                    }
+                }
+            }));
+        }
+
+        // when
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertEquals(new ConcurrentHashMap<String, String>(), errors);
+    }
+}
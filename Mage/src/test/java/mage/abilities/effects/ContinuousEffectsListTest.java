@@ -0,0 +1,144 @@
+package mage.abilities.effects;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import mage.abilities.Ability;
+import mage.abilities.common.SimpleStaticAbility;
+import mage.abilities.effects.common.RegenerateSourceEffect;
+import mage.abilities.effects.common.SkipDrawStepEffect;
+import mage.constants.Duration;
+import mage.constants.Outcome;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import mage.game.events.GameEvent.EventType;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for the event type index of {@link ContinuousEffectsList}
+ */
+public class ContinuousEffectsListTest {
+
+    private ContinuousEffectsList<ReplacementEffect> effects;
+    private ReplacementEffect regenerate;
+    private ReplacementEffect undeclared;
+    private ReplacementEffect skipDraw;
+
+    @Before
+    public void setUp() {
+        effects = new ContinuousEffectsList<>();
+        regenerate = new RegenerateSourceEffect();
+        undeclared = new TestReplacementEffect();
+        skipDraw = new SkipDrawStepEffect();
+        add(regenerate);
+        add(undeclared);
+        add(skipDraw);
+    }
+
+    private void add(ReplacementEffect effect) {
+        Ability source = new SimpleStaticAbility(Zone.BATTLEFIELD, effect);
+        effects.addEffect(effect, source);
+    }
+
+    @Test
+    public void shouldReturnDeclaredAndUndeclaredEffectsInListOrder() {
+        // given
+
+        // when
+
+        // then
+        assertEquals(Arrays.asList(regenerate, undeclared), effects.getEffects(EventType.DESTROY_PERMANENT));
+        assertEquals(Arrays.asList(undeclared, skipDraw), effects.getEffects(EventType.DRAW_STEP));
+        assertEquals(Collections.singletonList(undeclared), effects.getEffects(EventType.ZONE_CHANGE));
+    }
+
+    @Test
+    public void shouldUpdateIndexAfterRemove() {
+        // given
+        assertEquals(2, effects.getEffects(EventType.DESTROY_PERMANENT).size());
+
+        // when
+        effects.removeEffects(regenerate.getId(), new HashSet<>(effects.getAbility(regenerate.getId())));
+
+        // then
+        assertEquals(Collections.singletonList(undeclared), effects.getEffects(EventType.DESTROY_PERMANENT));
+    }
+
+    @Test
+    public void shouldIgnoreDeclarationIfSubClassChecksOtherEvents() {
+        // given
+        ReplacementEffect overridden = new RegenerateSourceEffect() {
+            @Override
+            public boolean checksEventType(GameEvent event, Game game) {
+                return event.getType() == EventType.ZONE_CHANGE;
+            }
+        };
+
+        // when
+        add(overridden);
+
+        // then
+        assertTrue(effects.getEffects(EventType.ZONE_CHANGE).contains(overridden));
+    }
+
+    @Test
+    public void shouldChangeVersionWithEffectsAndAbilities() {
+        // given
+        long version = effects.getVersion();
+
+        // when
+        effects.addEffect(regenerate, new SimpleStaticAbility(Zone.BATTLEFIELD, regenerate));
+        long versionAfterAbilityAdded = effects.getVersion();
+        effects.removeEffects(skipDraw.getId(), new HashSet<>(effects.getAbility(skipDraw.getId())));
+
+        // then
+        assertNotEquals(version, versionAfterAbilityAdded);
+        assertNotEquals(versionAfterAbilityAdded, effects.getVersion());
+    }
+
+    @Test
+    public void shouldKeepVersionInCopy() {
+        // given
+        effects.removeEffects(skipDraw.getId(), new HashSet<>(effects.getAbility(skipDraw.getId())));
+
+        // when
+        ContinuousEffectsList<ReplacementEffect> copy = effects.copy();
+
+        // then
+        assertEquals(effects.getVersion(), copy.getVersion());
+    }
+
+    private static class TestReplacementEffect extends ReplacementEffectImpl {
+
+        TestReplacementEffect() {
+            super(Duration.WhileOnBattlefield, Outcome.Benefit);
+        }
+
+        TestReplacementEffect(final TestReplacementEffect effect) {
+            super(effect);
+        }
+
+        @Override
+        public TestReplacementEffect copy() {
+            return new TestReplacementEffect(this);
+        }
+
+        @Override
+        public boolean replaceEvent(GameEvent event, Ability source, Game game) {
+            return false;
+        }
+
+        @Override
+        public boolean checksEventType(GameEvent event, Game game) {
+            return event.getType() == EventType.ZONE_CHANGE;
+        }
+
+        @Override
+        public boolean applies(GameEvent event, Ability source, Game game) {
+            return true;
+        }
+    }
+}
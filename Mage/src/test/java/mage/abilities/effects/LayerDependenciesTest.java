@@ -0,0 +1,119 @@
+package mage.abilities.effects;
+
+import java.util.Arrays;
+import java.util.List;
+import mage.abilities.Ability;
+import mage.constants.DependencyType;
+import mage.constants.Duration;
+import mage.constants.Layer;
+import mage.constants.Outcome;
+import mage.constants.SubLayer;
+import mage.game.Game;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link LayerDependencies}
+ */
+public class LayerDependenciesTest {
+
+    @Test
+    public void shouldApplyInTimestampOrderWithoutDependencies() {
+        // given
+        List<ContinuousEffect> effects = Arrays.asList(new TestEffect(), new TestEffect(), new TestEffect());
+
+        // when
+        LayerDependencies dependencies = new LayerDependencies(effects, true);
+
+        // then
+        assertArrayEquals(new int[]{0, 1, 2}, dependencies.getApplyOrder());
+    }
+
+    @Test
+    public void shouldApplyDependentEffectAfterItsDependencies() {
+        // given
+        TestEffect dependent = new TestEffect();
+        dependent.setDependedToType(DependencyType.BecomeMountain);
+        TestEffect mountain = new TestEffect();
+        mountain.addDependencyType(DependencyType.BecomeMountain);
+        List<ContinuousEffect> effects = Arrays.asList(dependent, new TestEffect(), mountain);
+
+        // when
+        LayerDependencies dependencies = new LayerDependencies(effects, true);
+
+        // then
+        assertArrayEquals(new int[]{1, 2, 0}, dependencies.getApplyOrder());
+        assertTrue(dependencies.getDependentTo(0).contains(mountain.getId()));
+        assertNull(dependencies.getDependentTo(1));
+    }
+
+    @Test
+    public void shouldIgnoreDependenciesIfNotChecked() {
+        // given
+        TestEffect dependent = new TestEffect();
+        dependent.setDependedToType(DependencyType.BecomeMountain);
+        TestEffect mountain = new TestEffect();
+        mountain.addDependencyType(DependencyType.BecomeMountain);
+
+        // when
+        LayerDependencies dependencies = new LayerDependencies(Arrays.asList(dependent, mountain), false);
+
+        // then
+        assertArrayEquals(new int[]{0, 1}, dependencies.getApplyOrder());
+    }
+
+    @Test
+    public void shouldNotApplyEffectsWaitingForEachOther() {
+        // given
+        TestEffect first = new TestEffect();
+        first.setDependedToType(DependencyType.BecomeMountain);
+        first.addDependencyType(DependencyType.BecomeForest);
+        TestEffect second = new TestEffect();
+        second.setDependedToType(DependencyType.BecomeForest);
+        second.addDependencyType(DependencyType.BecomeMountain);
+        List<ContinuousEffect> effects = Arrays.asList(first, second, new TestEffect());
+
+        // when
+        LayerDependencies dependencies = new LayerDependencies(effects, true);
+
+        // then
+        assertArrayEquals(new int[]{2}, dependencies.getApplyOrder());
+    }
+
+    @Test
+    public void shouldOnlyMatchSameEffectsInSameOrder() {
+        // given
+        TestEffect first = new TestEffect();
+        TestEffect second = new TestEffect();
+
+        // when
+        LayerDependencies dependencies = new LayerDependencies(Arrays.asList(first, second), true);
+
+        // then
+        assertTrue(dependencies.isFor(Arrays.asList(first, second)));
+        assertTrue(dependencies.isFor(Arrays.asList(first.copy(), second.copy())));
+        assertFalse(dependencies.isFor(Arrays.asList(second, first)));
+        assertFalse(dependencies.isFor(Arrays.asList(first)));
+    }
+
+    private static class TestEffect extends ContinuousEffectImpl {
+
+        TestEffect() {
+            super(Duration.WhileOnBattlefield, Layer.TypeChangingEffects_4, SubLayer.NA, Outcome.Benefit);
+        }
+
+        TestEffect(final TestEffect effect) {
+            super(effect);
+        }
+
+        @Override
+        public TestEffect copy() {
+            return new TestEffect(this);
+        }
+
+        @Override
+        public boolean apply(Game game, Ability source) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package mage.abilities.mana;
+
+import mage.Mana;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link ManaOptions}
+ */
+public class ManaOptionsTest {
+
+    private static ManaOptions options(Mana... manas) {
+        ManaOptions options = new ManaOptions();
+        for (Mana mana : manas) {
+            options.add(mana);
+        }
+        return options;
+    }
+
+    @Test
+    public void shouldKeepOneOptionPerColorCombination() {
+        // given
+        ManaOptions available = new ManaOptions();
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            available.addMana(options(Mana.WhiteMana(1), Mana.BlueMana(1)));
+        }
+
+        // then
+        assertEquals(21, available.size());
+        for (Mana mana : available) {
+            assertEquals(20, mana.count());
+        }
+    }
+
+    @Test
+    public void shouldRemoveDominatedOptions() {
+        // given
+        ManaOptions available = options(Mana.WhiteMana(1));
+
+        // when
+        available.addMana(options(Mana.WhiteMana(1), new Mana(0, 0, 0, 1, 0, 0, 1, 0)));
+
+        // then
+        assertEquals(1, available.size());
+        assertEquals(new Mana(0, 0, 0, 2, 0, 0, 1, 0), available.get(0));
+    }
+
+    @Test
+    public void shouldLimitNumberOfOptions() {
+        // given
+        ManaOptions available = new ManaOptions();
+        ManaOptions fiveColors = options(Mana.WhiteMana(1), Mana.BlueMana(1), Mana.BlackMana(1), Mana.RedMana(1), Mana.GreenMana(1));
+
+        // when
+        for (int i = 0; i < 24; i++) {
+            available.addMana(fiveColors);
+        }
+
+        // then
+        assertEquals(ManaOptions.MAX_OPTIONS, available.size());
+        for (Mana mana : available) {
+            assertEquals(24, mana.count());
+        }
+    }
+
+    @Test
+    public void shouldKeepAllPayableCostsWhenLimiting() {
+        // given
+        ManaOptions available = new ManaOptions();
+        ManaOptions arcaneSanctum = options(Mana.WhiteMana(1), Mana.BlueMana(1), Mana.BlackMana(1));
+        ManaOptions jungleShrine = options(Mana.RedMana(1), Mana.GreenMana(1), Mana.WhiteMana(1));
+
+        // when
+        for (int i = 0; i < 12; i++) {
+            available.addMana(arcaneSanctum);
+        }
+        for (int i = 0; i < 12; i++) {
+            available.addMana(jungleShrine);
+        }
+
+        // then
+        assertEquals(ManaOptions.MAX_OPTIONS, available.size());
+        // these combinations were not kept before the rest was folded into one option
+        assertTrue(canPay(available, Mana.GreenMana(8)));
+        assertTrue(canPay(available, Mana.WhiteMana(24)));
+        assertTrue(canPay(available, new Mana(0, 12, 12, 0, 0, 0, 0, 0)));
+        assertFalse(canPay(available, Mana.GenericMana(25)));
+    }
+
+    private static boolean canPay(ManaOptions available, Mana cost) {
+        for (Mana mana : available) {
+            if (cost.enough(mana)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,99 @@
+package mage.counters;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link Counters}
+ */
+public class CountersTest {
+
+    @Test
+    public void shouldCountCountersOfTypesAndOtherNames() {
+        // given
+        Counters counters = new Counters();
+
+        // when
+        counters.addCounter(CounterType.P1P1.createInstance(2));
+        counters.addCounter(CounterType.P1P1.createInstance());
+        counters.addCounter(new Counter("custom", 4));
+
+        // then
+        assertEquals(2, counters.size());
+        assertEquals(3, counters.getCount(CounterType.P1P1));
+        assertEquals(3, counters.getCount("+1/+1"));
+        assertEquals(4, counters.getCount("custom"));
+        assertEquals(0, counters.getCount(CounterType.POISON));
+        assertTrue(counters.containsKey(CounterType.P1P1));
+        assertTrue(counters.get("+1/+1") instanceof BoostCounter);
+        assertEquals(1, counters.getBoostCounters().size());
+    }
+
+    @Test
+    public void shouldRemoveCountersWithoutCount() {
+        // given
+        Counters counters = new Counters();
+        counters.addCounter(CounterType.CHARGE.createInstance(2));
+
+        // when
+        counters.removeCounter(CounterType.CHARGE, 2);
+
+        // then
+        assertTrue(counters.isEmpty());
+        assertFalse(counters.containsKey(CounterType.CHARGE.getName()));
+        assertFalse(counters.removeCounter("charge"));
+    }
+
+    @Test
+    public void shouldCopyCounters() {
+        // given
+        Counters counters = new Counters();
+        counters.addCounter(CounterType.AGE.createInstance(1));
+        counters.addCounter(new Counter("custom", 1));
+
+        // when
+        Counters copy = counters.copy();
+        copy.addCounter(CounterType.AGE.createInstance(1));
+        copy.addCounter(new Counter("custom", 1));
+
+        // then
+        assertEquals(1, counters.getCount(CounterType.AGE));
+        assertEquals(1, counters.getCount("custom"));
+        assertEquals(2, copy.getCount(CounterType.AGE));
+        assertEquals(2, copy.getCount("custom"));
+    }
+
+    @Test
+    public void shouldBehaveLikeMapOfCountersByName() {
+        // given
+        Counters counters = new Counters();
+        counters.addCounter(CounterType.TIME.createInstance(3));
+        counters.addCounter("custom", 1);
+        counters.addCounter(CounterType.LOYALTY.createInstance(5));
+
+        // when
+        Map<String, Counter> map = new HashMap<>(counters);
+        for (Iterator<String> it = counters.keySet().iterator(); it.hasNext();) {
+            if (it.next().equals("time")) {
+                it.remove();
+            }
+        }
+
+        // then
+        assertEquals(3, map.size());
+        assertEquals(3, map.get("time").getCount());
+        assertEquals(2, counters.size());
+        assertEquals(0, counters.getCount(CounterType.TIME));
+        assertEquals(5, counters.getCount("loyalty"));
+
+        // when
+        counters.values().removeIf(counter -> counter.getName().equals("custom"));
+
+        // then
+        assertEquals(1, counters.size());
+        assertEquals(0, counters.getCount("custom"));
+    }
+}
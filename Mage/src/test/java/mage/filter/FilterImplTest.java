@@ -0,0 +1,63 @@
+package mage.filter;
+
+import mage.constants.CardType;
+import mage.constants.TargetController;
+import mage.filter.predicate.mageobject.CardTypePredicate;
+import mage.filter.predicate.permanent.ControllerPredicate;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link FilterImpl}
+ */
+public class FilterImplTest {
+
+    @Test
+    public void shouldSharePredicatesWithCopies() {
+        // given
+        FilterPermanent filter = new FilterPermanent();
+        filter.add(new CardTypePredicate(CardType.CREATURE));
+        filter.add(new ControllerPredicate(TargetController.YOU));
+
+        // when
+        FilterPermanent copy = filter.copy();
+
+        // then
+        assertSame(filter.predicates, copy.predicates);
+        assertSame(filter.extraPredicates, copy.extraPredicates);
+    }
+
+    @Test
+    public void shouldNotChangeOriginalIfPredicateIsAddedToCopy() {
+        // given
+        FilterPermanent filter = new FilterPermanent();
+        filter.add(new CardTypePredicate(CardType.CREATURE));
+        FilterPermanent copy = filter.copy();
+
+        // when
+        copy.add(new CardTypePredicate(CardType.ARTIFACT));
+        copy.add(new ControllerPredicate(TargetController.YOU));
+
+        // then
+        assertEquals(1, filter.predicates.size());
+        assertEquals(0, filter.extraPredicates.size());
+        assertEquals(2, copy.predicates.size());
+        assertEquals(1, copy.extraPredicates.size());
+    }
+
+    @Test
+    public void shouldNotChangeCopyIfPredicateIsAddedToOriginal() {
+        // given
+        FilterCard filter = new FilterCard();
+        filter.add(new CardTypePredicate(CardType.CREATURE));
+        FilterCard copy = filter.copy();
+
+        // when
+        filter.add(new CardTypePredicate(CardType.ARTIFACT));
+
+        // then
+        assertEquals(2, filter.predicates.size());
+        assertEquals(1, copy.predicates.size());
+        assertEquals(filter.predicates.get(0), copy.predicates.get(0));
+    }
+}
@@ -0,0 +1,89 @@
+package mage.filter.predicate;
+
+import java.util.Arrays;
+import java.util.List;
+import mage.MageObject;
+import mage.ObjectColor;
+import mage.constants.CardType;
+import mage.filter.predicate.mageobject.CardTypePredicate;
+import mage.filter.predicate.mageobject.ColorPredicate;
+import mage.filter.predicate.mageobject.NamePredicate;
+import mage.game.Game;
+import mage.game.permanent.token.CentaurEnchantmentCreatureToken;
+import mage.game.permanent.token.GoldToken;
+import mage.game.permanent.token.SoldierToken;
+import mage.game.permanent.token.ThopterColorlessToken;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link Predicates#compile(Iterable)}
+ */
+public class PredicatesTest {
+
+    private final List<MageObject> objects = Arrays.asList(
+            new SoldierToken(),
+            new GoldToken(),
+            new ThopterColorlessToken(),
+            new CentaurEnchantmentCreatureToken());
+
+    private void assertSameAsAnd(List<Predicate<MageObject>> predicates) {
+        Predicate<MageObject> and = Predicates.and(predicates);
+        Predicate<MageObject> compiled = Predicates.compile(predicates);
+        for (MageObject object : objects) {
+            assertEquals(object.getName() + " " + predicates, and.apply(object, null), compiled.apply(object, null));
+        }
+    }
+
+    @Test
+    public void shouldMatchLikeAndForCardTypes() {
+        // given
+        CardTypePredicate creature = new CardTypePredicate(CardType.CREATURE);
+        CardTypePredicate artifact = new CardTypePredicate(CardType.ARTIFACT);
+        CardTypePredicate enchantment = new CardTypePredicate(CardType.ENCHANTMENT);
+
+        // when
+
+        // then
+        assertSameAsAnd(Arrays.<Predicate<MageObject>>asList(creature));
+        assertSameAsAnd(Arrays.<Predicate<MageObject>>asList(creature, artifact));
+        assertSameAsAnd(Arrays.<Predicate<MageObject>>asList(creature, Predicates.not(artifact)));
+        assertSameAsAnd(Arrays.<Predicate<MageObject>>asList(Predicates.or(artifact, enchantment)));
+        assertSameAsAnd(Arrays.<Predicate<MageObject>>asList(Predicates.or(artifact, enchantment), Predicates.not(creature)));
+        assertSameAsAnd(Arrays.<Predicate<MageObject>>asList(Predicates.and(creature, Predicates.and(enchantment))));
+    }
+
+    @Test
+    public void shouldMatchLikeAndForMixedPredicates() {
+        // given
+        CardTypePredicate creature = new CardTypePredicate(CardType.CREATURE);
+        ColorPredicate white = new ColorPredicate(ObjectColor.WHITE);
+        NamePredicate soldier = new NamePredicate("Soldier");
+
+        // when
+
+        // then
+        assertSameAsAnd(Arrays.<Predicate<MageObject>>asList(creature, white));
+        assertSameAsAnd(Arrays.<Predicate<MageObject>>asList(soldier, Predicates.not(white)));
+        assertSameAsAnd(Arrays.<Predicate<MageObject>>asList(Predicates.or(soldier, creature), Predicates.not(white)));
+        assertSameAsAnd(Arrays.<Predicate<MageObject>>asList());
+    }
+
+    @Test
+    public void shouldCheckCardTypesBeforeOtherPredicates() {
+        // given
+        Predicate<MageObject> failing = new Predicate<MageObject>() {
+            @Override
+            public boolean apply(MageObject input, Game game) {
+                throw new IllegalStateException("must not be evaluated");
+            }
+        };
+        Predicate<MageObject> compiled = Predicates.compile(Arrays.asList(failing, new CardTypePredicate(CardType.LAND)));
+
+        // when
+        boolean matches = compiled.apply(new SoldierToken(), null);
+
+        // then
+        assertFalse(matches);
+    }
+}
@@ -0,0 +1,132 @@
+package mage.game;
+
+import java.util.UUID;
+import mage.constants.Zone;
+import mage.counters.CounterType;
+import mage.game.permanent.Permanent;
+import mage.game.permanent.PermanentToken;
+import mage.game.permanent.token.SoldierToken;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link GameState}
+ */
+public class GameStateTest {
+
+    @Test
+    public void shouldNotGrowTablesOfOriginalForIdsCreatedInCopy() {
+        // given
+        GameState state = new GameState();
+        UUID id = UUID.randomUUID();
+        state.setZone(id, Zone.LIBRARY);
+        state.setZoneChangeCounter(id, 2);
+        int size = state.getObjectHandles().size();
+
+        // when
+        GameState copy = state.copy();
+        UUID[] newIds = new UUID[100];
+        for (int i = 0; i < newIds.length; i++) {
+            newIds[i] = UUID.randomUUID();
+            copy.setZone(newIds[i], Zone.BATTLEFIELD);
+            copy.updateZoneChangeCounter(newIds[i]);
+        }
+        copy.setZone(id, Zone.HAND);
+
+        // then
+        assertEquals(size, state.getObjectHandles().size());
+        for (UUID newId : newIds) {
+            assertEquals(ObjectHandles.NO_HANDLE, state.getObjectHandles().get(newId));
+            assertNull(state.getZone(newId));
+            assertEquals(Zone.BATTLEFIELD, copy.getZone(newId));
+            assertEquals(2, copy.getZoneChangeCounter(newId));
+        }
+        assertEquals(Zone.LIBRARY, state.getZone(id));
+        assertEquals(Zone.HAND, copy.getZone(id));
+        assertEquals(2, copy.getZoneChangeCounter(id));
+    }
+
+    @Test
+    public void shouldKeepIdsOfOriginalInCopiesOfCopies() {
+        // given
+        GameState state = new GameState();
+        UUID id = UUID.randomUUID();
+        state.setZone(id, Zone.LIBRARY);
+
+        // when
+        GameState copy = state;
+        UUID[] newIds = new UUID[10];
+        for (int i = 0; i < newIds.length; i++) {
+            copy = copy.copy();
+            newIds[i] = UUID.randomUUID();
+            copy.setZone(newIds[i], Zone.GRAVEYARD);
+            state.setZone(UUID.randomUUID(), Zone.EXILED);
+        }
+
+        // then
+        assertEquals(Zone.LIBRARY, copy.getZone(id));
+        for (UUID newId : newIds) {
+            assertEquals(Zone.GRAVEYARD, copy.getZone(newId));
+            assertNull(state.getZone(newId));
+        }
+        // the null id, the first id and the ids added to the original
+        assertEquals(12, state.getObjectHandles().size());
+    }
+
+    private static GameState createStateWithSoldier() {
+        GameState state = new GameState();
+        state.getBattlefield().addPermanent(new PermanentToken(new SoldierToken(), UUID.randomUUID(), "", null));
+        return state;
+    }
+
+    private static Permanent getSoldier(GameState state) {
+        return state.getBattlefield().getAllPermanents().iterator().next();
+    }
+
+    @Test
+    public void shouldHashCopyEqual() {
+        // given
+        GameState state = createStateWithSoldier();
+
+        // when
+        GameState copy = state.copy();
+
+        // then
+        assertEquals(state.getHash(true, null), copy.getHash(true, null));
+        assertEquals(getSoldier(state).getValueHash(state), getSoldier(copy).getValueHash(copy));
+    }
+
+    @Test
+    public void shouldChangeHashIfPermanentIsTapped() {
+        // given
+        GameState state = createStateWithSoldier();
+        GameState copy = state.copy();
+
+        // when
+        getSoldier(copy).setTapped(true);
+
+        // then
+        assertNotEquals(getSoldier(state).getValueHash(state), getSoldier(copy).getValueHash(copy));
+        assertNotEquals(state.getHash(true, null), copy.getHash(true, null));
+    }
+
+    @Test
+    public void shouldChangeHashIfCounterIsAdded() {
+        // given
+        GameState state = createStateWithSoldier();
+        GameState copy = state.copy();
+
+        // when
+        getSoldier(copy).getCounters(copy).addCounter(CounterType.P1P1.createInstance());
+
+        // then
+        assertNotEquals(getSoldier(state).getValueHash(state), getSoldier(copy).getValueHash(copy));
+        assertNotEquals(state.getHash(true, null), copy.getHash(true, null));
+
+        // when
+        getSoldier(state).getCounters(state).addCounter(CounterType.P1P1.createInstance());
+
+        // then
+        assertEquals(state.getHash(true, null), copy.getHash(true, null));
+    }
+}
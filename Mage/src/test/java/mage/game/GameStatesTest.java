@@ -0,0 +1,90 @@
+package mage.game;
+
+import static org.junit.Assert.*;
+import mage.util.Copier;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link GameStates}
+ */
+public class GameStatesTest {
+
+    private static GameStates saveBookmarks(int amount) {
+        GameStates states = new GameStates();
+        GameState state = new GameState();
+        for (int i = 0; i < amount; i++) {
+            state.setTurnNum(i);
+            states.save(state, true);
+        }
+        return states;
+    }
+
+    @Test
+    public void shouldCompressBookmarksOlderThanUndoWindow() {
+        // given
+
+        // when
+        GameStates states = saveBookmarks(9);
+
+        // then
+        assertFalse("keyframe", states.isCompressed(0));
+        for (int i = 1; i < 4; i++) {
+            assertTrue(states.isCompressed(i));
+        }
+        for (int i = 4; i < 9; i++) {
+            assertFalse(states.isCompressed(i));
+        }
+        for (int i = 0; i < 9; i++) {
+            assertEquals(i, states.get(i).getTurnNum());
+        }
+    }
+
+    @Test
+    public void shouldRollbackToCompressedBookmark() {
+        // given
+        GameStates states = saveBookmarks(9);
+
+        // when
+        GameState state = states.rollback(2);
+
+        // then
+        assertEquals(2, state.getTurnNum());
+        assertEquals(3, states.getSize());
+
+        // when
+        GameState newState = new GameState();
+        newState.setTurnNum(10);
+        for (int i = 0; i < 5; i++) {
+            states.save(newState, true);
+        }
+
+        // then
+        assertFalse(states.isCompressed(3));
+        assertTrue(states.isCompressed(2));
+        assertEquals(2, states.get(2).getTurnNum());
+        assertEquals(10, states.get(7).getTurnNum());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldFailIfCompressedStateCanNotBeRestored() {
+        // given
+        GameStates states = saveBookmarks(9);
+        assertTrue(states.isCompressed(1));
+        Copier.setLoader(new ClassLoader(GameStatesTest.class.getClassLoader()) {
+            @Override
+            public Class<?> loadClass(String name) throws ClassNotFoundException {
+                if (name.equals(GameState.class.getName())) {
+                    throw new ClassNotFoundException(name);
+                }
+                return super.loadClass(name);
+            }
+        });
+
+        // when
+        try {
+            states.get(1);
+        } finally {
+            Copier.setLoader(null);
+        }
+    }
+}
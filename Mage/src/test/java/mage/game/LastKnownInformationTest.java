@@ -0,0 +1,78 @@
+package mage.game;
+
+import java.util.UUID;
+import mage.MageObject;
+import mage.constants.Zone;
+import mage.game.command.Emblem;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link LastKnownInformation}
+ */
+public class LastKnownInformationTest {
+
+    @Test
+    public void shouldFindObjectsByZoneAndZoneChangeCounter() {
+        // given
+        LastKnownInformation lki = new LastKnownInformation();
+        UUID objectId = UUID.randomUUID();
+        MageObject object = new Emblem();
+
+        // when
+        lki.remember(objectId, Zone.BATTLEFIELD, object, 3);
+
+        // then
+        assertSame(object, lki.get(objectId, Zone.BATTLEFIELD));
+        assertNull(lki.get(objectId, Zone.GRAVEYARD));
+        assertSame(object, lki.getPermanent(objectId, 3));
+        assertNull(lki.getPermanent(objectId, 2));
+        assertTrue(lki.contains(objectId, Zone.BATTLEFIELD));
+        assertTrue(lki.isShortLiving(objectId, Zone.BATTLEFIELD));
+        assertEquals(1, lki.getObjects(Zone.BATTLEFIELD).size());
+        assertTrue(lki.getObjects(Zone.STACK).isEmpty());
+    }
+
+    @Test
+    public void shouldKeepShortLivingInformationAfterReset() {
+        // given
+        LastKnownInformation lki = new LastKnownInformation();
+        UUID objectId = UUID.randomUUID();
+        lki.remember(objectId, Zone.BATTLEFIELD, new Emblem(), 1);
+
+        // when
+        lki.reset();
+
+        // then
+        assertNull(lki.get(objectId, Zone.BATTLEFIELD));
+        assertNull(lki.getPermanent(objectId, 1));
+        assertTrue(lki.isShortLiving(objectId, Zone.BATTLEFIELD));
+
+        // when
+        lki.resetShortLiving();
+
+        // then
+        assertFalse(lki.isShortLiving(objectId, Zone.BATTLEFIELD));
+    }
+
+    @Test
+    public void shouldNotShareChangesBetweenCopies() {
+        // given
+        LastKnownInformation lki = new LastKnownInformation();
+        UUID objectId = UUID.randomUUID();
+        UUID otherId = UUID.randomUUID();
+        lki.remember(objectId, Zone.BATTLEFIELD, new Emblem(), 1);
+
+        // when
+        LastKnownInformation copy = lki.copy();
+        copy.remember(otherId, Zone.BATTLEFIELD, new Emblem(), 1);
+        lki.reset();
+
+        // then
+        assertNull(lki.get(otherId, Zone.BATTLEFIELD));
+        assertNull(lki.get(objectId, Zone.BATTLEFIELD));
+        assertNotNull(copy.get(objectId, Zone.BATTLEFIELD));
+        assertNotNull(copy.get(otherId, Zone.BATTLEFIELD));
+        assertFalse(lki.isShortLiving(otherId, Zone.BATTLEFIELD));
+    }
+}
@@ -0,0 +1,51 @@
+package mage.game;
+
+import java.util.UUID;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link ObjectCounterTable}
+ */
+public class ObjectCounterTableTest {
+
+    @Test
+    public void shouldReturnDefaultValueForUnknownObjects() {
+        // given
+        ObjectCounterTable table = new ObjectCounterTable(new ObjectHandles());
+        UUID id = UUID.randomUUID();
+
+        // when
+        table.put(id, 0);
+
+        // then
+        assertEquals(0, table.get(id, 1));
+        assertEquals(1, table.get(UUID.randomUUID(), 1));
+        assertEquals(1, table.get(null, 1));
+    }
+
+    @Test
+    public void shouldNotShareChangesBetweenCopies() {
+        // given
+        ObjectHandles handles = new ObjectHandles();
+        ObjectCounterTable table = new ObjectCounterTable(handles);
+        UUID id = UUID.randomUUID();
+        table.put(id, 2);
+
+        // when
+        ObjectCounterTable copy = table.copy();
+        copy.put(id, 3);
+        UUID newId = UUID.randomUUID();
+        for (int i = 0; i < 100; i++) {
+            table.put(UUID.randomUUID(), i);
+        }
+        table.put(newId, 5);
+        table.remove(id);
+
+        // then
+        assertEquals(1, table.get(id, 1));
+        assertEquals(3, copy.get(id, 1));
+        assertEquals(5, table.get(newId, 1));
+        assertEquals(1, copy.get(newId, 1));
+    }
+}
@@ -0,0 +1,55 @@
+package mage.game;
+
+import java.util.UUID;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link ObjectHandles}
+ */
+public class ObjectHandlesTest {
+
+    @Test
+    public void shouldNotSeeHandlesAssignedByOtherBranch() {
+        // given
+        ObjectHandles handles = new ObjectHandles();
+        UUID id = UUID.randomUUID();
+        int handle = handles.getOrCreate(id);
+
+        // when
+        ObjectHandles branch = handles.branch();
+        UUID branchId = UUID.randomUUID();
+        int branchHandle = branch.getOrCreate(branchId);
+        UUID laterId = UUID.randomUUID();
+        int laterHandle = handles.getOrCreate(laterId);
+
+        // then
+        assertEquals(handle, branch.get(id));
+        assertEquals(branchHandle, branch.get(branchId));
+        assertEquals(ObjectHandles.NO_HANDLE, handles.get(branchId));
+        assertEquals(laterHandle, handles.get(laterId));
+        assertEquals(ObjectHandles.NO_HANDLE, branch.get(laterId));
+    }
+
+    @Test
+    public void shouldKeepHandlesOfDeepBranches() {
+        // given
+        ObjectHandles handles = new ObjectHandles();
+        UUID[] ids = new UUID[20];
+
+        // when
+        ObjectHandles branch = handles;
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID();
+            branch.getOrCreate(ids[i]);
+            branch = branch.branch();
+        }
+
+        // then
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(i + 1, branch.get(ids[i]));
+        }
+        assertEquals(ids.length + 1, branch.size());
+        assertEquals(2, handles.size());
+    }
+}
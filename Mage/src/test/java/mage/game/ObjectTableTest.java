@@ -0,0 +1,85 @@
+package mage.game;
+
+import java.util.UUID;
+import mage.constants.Zone;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link ObjectTable}
+ */
+public class ObjectTableTest {
+
+    @Test
+    public void shouldStoreValuesById() {
+        // given
+        ObjectTable<Zone> table = new ObjectTable<>(new ObjectHandles());
+        UUID id = UUID.randomUUID();
+
+        // when
+        Zone old = table.put(id, Zone.HAND);
+
+        // then
+        assertNull(old);
+        assertEquals(Zone.HAND, table.get(id));
+        assertNull(table.get(UUID.randomUUID()));
+        assertEquals(Zone.HAND, table.put(id, Zone.GRAVEYARD));
+        assertEquals(Zone.GRAVEYARD, table.remove(id));
+        assertFalse(table.containsKey(id));
+    }
+
+    @Test
+    public void shouldGrowForManyObjects() {
+        // given
+        ObjectTable<Zone> table = new ObjectTable<>(new ObjectHandles());
+        UUID[] ids = new UUID[1000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID();
+        }
+
+        // when
+        for (int i = 0; i < ids.length; i++) {
+            table.put(ids[i], i % 2 == 0 ? Zone.LIBRARY : Zone.HAND);
+        }
+
+        // then
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(i % 2 == 0 ? Zone.LIBRARY : Zone.HAND, table.get(ids[i]));
+        }
+    }
+
+    @Test
+    public void shouldNotShareChangesBetweenCopies() {
+        // given
+        ObjectTable<Zone> table = new ObjectTable<>(new ObjectHandles());
+        UUID id = UUID.randomUUID();
+        UUID otherId = UUID.randomUUID();
+        table.put(id, Zone.LIBRARY);
+
+        // when
+        ObjectTable<Zone> copy = table.copy();
+        copy.put(id, Zone.HAND);
+        table.put(otherId, Zone.BATTLEFIELD);
+
+        // then
+        assertEquals(Zone.LIBRARY, table.get(id));
+        assertEquals(Zone.HAND, copy.get(id));
+        assertNull(copy.get(otherId));
+    }
+
+    @Test
+    public void shouldCopyValues() {
+        // given
+        ObjectTable<StringBuilder> table = new ObjectTable<>(new ObjectHandles());
+        UUID id = UUID.randomUUID();
+        table.put(id, new StringBuilder("a"));
+
+        // when
+        ObjectTable<StringBuilder> copy = table.copy(value -> new StringBuilder(value));
+        copy.get(id).append('b');
+
+        // then
+        assertEquals("a", table.get(id).toString());
+        assertEquals("ab", copy.get(id).toString());
+    }
+}
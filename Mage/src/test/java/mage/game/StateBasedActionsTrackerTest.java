@@ -0,0 +1,83 @@
+package mage.game;
+
+import java.util.Collections;
+import java.util.UUID;
+import mage.counters.CounterType;
+import mage.game.permanent.Permanent;
+import mage.game.permanent.PermanentToken;
+import mage.game.permanent.token.SoldierToken;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link StateBasedActionsTracker}
+ */
+public class StateBasedActionsTrackerTest {
+
+    private static Permanent createSoldier() {
+        return new PermanentToken(new SoldierToken(), UUID.randomUUID(), "", null);
+    }
+
+    @Test
+    public void shouldRememberPermanentUntilItsCharacteristicsChange() {
+        // given
+        StateBasedActionsTracker tracker = new StateBasedActionsTracker();
+        Permanent soldier = createSoldier();
+        StateBasedActionsTracker.Checked checked = StateBasedActionsTracker.snapshot(soldier, null);
+        assertNotNull(checked);
+
+        // when
+        tracker.setChecked(soldier, checked);
+
+        // then
+        assertSame(checked, tracker.getChecked(soldier, null));
+        assertFalse(checked.isPlaneswalker());
+        assertFalse(checked.isLegendary());
+
+        // when
+        soldier.getCounters((Game) null).addCounter(CounterType.P1P1.createInstance());
+
+        // then
+        assertNull(tracker.getChecked(soldier, null));
+    }
+
+    @Test
+    public void shouldNotRememberPermanentThatARuleAppliesTo() {
+        // given
+        Permanent soldier = createSoldier();
+
+        // when
+        soldier.getToughness().boostValue(-1);
+
+        // then
+        assertNull(StateBasedActionsTracker.snapshot(soldier, null));
+
+        // when
+        soldier.getToughness().boostValue(1);
+        soldier.getCounters((Game) null).addCounter(CounterType.P1P1.createInstance());
+        soldier.getCounters((Game) null).addCounter(CounterType.M1M1.createInstance());
+
+        // then
+        assertNull(StateBasedActionsTracker.snapshot(soldier, null));
+    }
+
+    @Test
+    public void shouldForgetPermanentsThatLeftTheBattlefield() {
+        // given
+        StateBasedActionsTracker tracker = new StateBasedActionsTracker();
+        Permanent soldier = createSoldier();
+        Permanent otherSoldier = createSoldier();
+        tracker.setChecked(soldier, StateBasedActionsTracker.snapshot(soldier, null));
+        tracker.setChecked(otherSoldier, StateBasedActionsTracker.snapshot(otherSoldier, null));
+        tracker.setCheckedVersion(5);
+
+        // when
+        tracker.retain(Collections.singletonList(otherSoldier));
+
+        // then
+        assertNull(tracker.getChecked(soldier, null));
+        assertNotNull(tracker.getChecked(otherSoldier, null));
+        assertTrue(tracker.isUnchanged(5));
+        assertFalse(tracker.isUnchanged(6));
+    }
+}
@@ -0,0 +1,50 @@
+package mage.game.command;
+
+import java.util.Iterator;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link Command}
+ */
+public class CommandTest {
+
+    @Test
+    public void shouldFindCommandObjectsById() {
+        // given
+        Command command = new Command();
+        Emblem emblem = new Emblem();
+
+        // when
+        command.add(emblem);
+
+        // then
+        assertSame(emblem, command.getCommandObject(emblem.getId()));
+        assertSame(emblem, command.copy().getCommandObject(emblem.getId()));
+    }
+
+    @Test
+    public void shouldNotFindRemovedCommandObjects() {
+        // given
+        Command command = new Command();
+        Emblem first = new Emblem();
+        Emblem second = new Emblem();
+        Emblem third = new Emblem();
+        command.add(first);
+        command.add(second);
+        command.add(third);
+
+        // when
+        command.remove(first);
+        for (Iterator<CommandObject> it = command.iterator(); it.hasNext();) {
+            if (it.next() == second) {
+                it.remove();
+            }
+        }
+
+        // then
+        assertNull(command.getCommandObject(first.getId()));
+        assertNull(command.getCommandObject(second.getId()));
+        assertSame(third, command.getCommandObject(third.getId()));
+    }
+}
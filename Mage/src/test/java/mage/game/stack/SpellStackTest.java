@@ -0,0 +1,97 @@
+package mage.game.stack;
+
+import java.util.Iterator;
+import java.util.UUID;
+import mage.abilities.common.SimpleStaticAbility;
+import mage.abilities.effects.common.GainLifeEffect;
+import mage.constants.Zone;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link SpellStack}
+ */
+public class SpellStackTest {
+
+    private static StackAbility newStackAbility() {
+        return new StackAbility(new SimpleStaticAbility(Zone.BATTLEFIELD, new GainLifeEffect(1)), UUID.randomUUID());
+    }
+
+    @Test
+    public void shouldFindPushedObjectsById() {
+        // given
+        SpellStack stack = new SpellStack();
+        StackAbility first = newStackAbility();
+        StackAbility second = newStackAbility();
+
+        // when
+        stack.push(first);
+        stack.push(second);
+
+        // then
+        assertSame(first, stack.getObject(first.getId()));
+        assertSame(second, stack.getStackObject(second.getId()));
+        assertNull(stack.getObject(UUID.randomUUID()));
+        assertNull(stack.getSpell(first.getId()));
+    }
+
+    @Test
+    public void shouldNotFindRemovedObjects() {
+        // given
+        SpellStack stack = new SpellStack();
+        StackAbility first = newStackAbility();
+        StackAbility second = newStackAbility();
+        StackAbility third = newStackAbility();
+        stack.push(first);
+        stack.push(second);
+        stack.push(third);
+
+        // when
+        stack.pop();
+        stack.remove(first);
+
+        // then
+        assertNull(stack.getObject(third.getId()));
+        assertNull(stack.getObject(first.getId()));
+        assertSame(second, stack.getObject(second.getId()));
+    }
+
+    @Test
+    public void shouldNotFindObjectsRemovedByIterator() {
+        // given
+        SpellStack stack = new SpellStack();
+        StackAbility first = newStackAbility();
+        StackAbility second = newStackAbility();
+        stack.push(first);
+        stack.push(second);
+
+        // when
+        for (Iterator<StackObject> it = stack.iterator(); it.hasNext();) {
+            if (it.next() == second) {
+                it.remove();
+            }
+        }
+
+        // then
+        assertNull(stack.getObject(second.getId()));
+        assertSame(first, stack.getObject(first.getId()));
+    }
+
+    @Test
+    public void shouldFindObjectsOfCopy() {
+        // given
+        SpellStack stack = new SpellStack();
+        StackAbility first = newStackAbility();
+        stack.push(first);
+
+        // when
+        SpellStack copy = stack.copy();
+        copy.clear();
+
+        // then
+        assertSame(first, stack.getObject(first.getId()));
+        assertNull(copy.getObject(first.getId()));
+        assertEquals(1, stack.copy().size());
+        assertNotNull(stack.copy().getObject(first.getId()));
+    }
+}
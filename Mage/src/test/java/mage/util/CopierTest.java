@@ -0,0 +1,130 @@
+package mage.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import mage.constants.Zone;
+import mage.counters.Counter;
+import mage.counters.CounterType;
+import mage.counters.Counters;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link Copier}
+ */
+public class CopierTest {
+
+    private static class TestObject implements Serializable {
+
+        private final UUID id = UUID.randomUUID();
+        private final List<UUID> cards = new ArrayList<>();
+        private final Map<UUID, Zone> zones = new HashMap<>();
+        private final Counters counters = new Counters();
+        private TestObject parent;
+        private int[] values;
+    }
+
+    private List<TestObject> createObjects(int amount) {
+        List<TestObject> objects = new ArrayList<>();
+        TestObject parent = null;
+        for (int i = 0; i < amount; i++) {
+            TestObject object = new TestObject();
+            object.cards.add(UUID.randomUUID());
+            object.zones.put(object.id, Zone.values()[i % Zone.values().length]);
+            object.counters.addCounter(CounterType.P1P1.createInstance(i));
+            object.counters.addCounter(new Counter("named", i));
+            object.values = new int[]{i, -i, Integer.MAX_VALUE};
+            object.parent = parent;
+            parent = object;
+            objects.add(object);
+        }
+        return objects;
+    }
+
+    @Test
+    public void shouldRestoreCompactCopy() {
+        // given
+        List<TestObject> objects = createObjects(50);
+
+        // when
+        byte[] data = new Copier<List<TestObject>>().copyCompact(objects);
+        List<TestObject> copy = new Copier<List<TestObject>>().uncompactCopy(data);
+
+        // then
+        assertNotNull(copy);
+        assertEquals(objects.size(), copy.size());
+        for (int i = 0; i < objects.size(); i++) {
+            TestObject original = objects.get(i);
+            TestObject restored = copy.get(i);
+            assertEquals(original.id, restored.id);
+            assertEquals(original.cards, restored.cards);
+            assertEquals(original.zones, restored.zones);
+            assertEquals(i, restored.counters.getCount(CounterType.P1P1));
+            assertEquals(i, restored.counters.getCount("named"));
+            assertArrayEquals(original.values, restored.values);
+            if (i > 0) {
+                // references inside of the graph are kept
+                assertSame(copy.get(i - 1), restored.parent);
+            }
+        }
+    }
+
+    @Test
+    public void shouldBeSmallerThanCompressedCopy() {
+        // given
+        List<TestObject> objects = createObjects(200);
+
+        // when
+        byte[] compressed = new Copier<List<TestObject>>().copyCompressed(objects);
+        byte[] compact = new Copier<List<TestObject>>().copyCompact(objects);
+
+        // then
+        assertTrue("compact: " + compact.length + " compressed: " + compressed.length, compact.length <= compressed.length);
+    }
+
+    @Test
+    public void shouldRejectCompactStreamOfOtherClassVersion() throws Exception {
+        // given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new OtherVersionObjectOutputStream(bytes)) {
+            out.writeObject(createObjects(1));
+        }
+
+        // when
+        try (CompactObjectInputStream in = new CompactObjectInputStream(null, new ByteArrayInputStream(bytes.toByteArray()))) {
+            in.readObject();
+            fail("InvalidClassException expected");
+        } catch (InvalidClassException ex) {
+            // then
+            assertTrue(ex.getMessage(), ex.getMessage().contains("local class incompatible"));
+        }
+    }
+
+    /**
+     * Writes the class descriptions like a different version of the classes
+     */
+    private static class OtherVersionObjectOutputStream extends CompactObjectOutputStream {
+
+        OtherVersionObjectOutputStream(OutputStream out) throws IOException {
+            super(out);
+        }
+
+        @Override
+        protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+            writeUTF(desc.getName());
+            writeLong(desc.getSerialVersionUID());
+            writeInt(CompactObjectOutputStream.getFieldsHash(desc) + 1);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package mage.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import mage.constants.CardType;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link MaskedList}
+ */
+public class MaskedListTest {
+
+    @Test
+    public void shouldKeepOrderAndDuplicatesLikeArrayList() {
+        // given
+        List<CardType> list = new CardTypeList();
+        List<CardType> expected = new ArrayList<>();
+
+        // when
+        for (List<CardType> types : Arrays.asList(list, expected)) {
+            types.add(CardType.ARTIFACT);
+            types.add(CardType.CREATURE);
+            types.add(0, CardType.TRIBAL);
+            types.add(CardType.CREATURE);
+            types.remove(CardType.CREATURE);
+        }
+
+        // then
+        assertEquals(expected, list);
+        assertEquals(expected.hashCode(), list.hashCode());
+        assertEquals(expected.toString(), list.toString());
+        assertTrue(list.contains(CardType.CREATURE));
+    }
+
+    @Test
+    public void shouldUpdateMaskOnRemove() {
+        // given
+        CardTypeList list = new CardTypeList(Arrays.asList(CardType.ARTIFACT, CardType.CREATURE));
+
+        // when
+        list.remove(CardType.CREATURE);
+
+        // then
+        assertFalse(list.contains(CardType.CREATURE));
+        assertTrue(list.contains(CardType.ARTIFACT));
+        assertEquals(CardTypeList.bitOf(CardType.ARTIFACT), list.getMask());
+    }
+
+    @Test
+    public void shouldUpdateMaskOnSetClearAndIteratorRemove() {
+        // given
+        CardTypeList list = new CardTypeList(Arrays.asList(CardType.LAND, CardType.CREATURE));
+
+        // when
+        list.set(0, CardType.ENCHANTMENT);
+        Iterator<CardType> iterator = list.iterator();
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+
+        // then
+        assertEquals(Arrays.asList(CardType.ENCHANTMENT), list);
+        assertFalse(list.contains(CardType.LAND));
+        assertFalse(list.contains(CardType.CREATURE));
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.getMask());
+    }
+
+    @Test
+    public void shouldFindNamesWithSameBit() {
+        // given
+        TypeNameList list = new TypeNameList(Arrays.asList("Human", "Soldier"));
+        String other = null;
+        for (int i = 0; other == null; i++) {
+            if ((("Goblin" + i).hashCode() & 63) == ("Human".hashCode() & 63)) {
+                other = "Goblin" + i;
+            }
+        }
+
+        // when
+        list.addAll(new TypeNameList(Arrays.asList("Legendary")));
+
+        // then
+        assertTrue(list.contains("Human"));
+        assertTrue(list.contains("Legendary"));
+        assertFalse(list.contains(other));
+        assertFalse(list.contains("Elf"));
+        assertFalse(list.contains(null));
+    }
+
+    @Test
+    public void shouldReportSizeForInvalidIndex() {
+        // given
+        CardTypeList list = new CardTypeList(Arrays.asList(CardType.LAND, CardType.CREATURE));
+
+        // when
+        try {
+            list.add(3, CardType.ARTIFACT);
+            fail("IndexOutOfBoundsException expected");
+        } catch (IndexOutOfBoundsException ex) {
+            // then
+            assertEquals("Index: 3, Size: 2", ex.getMessage());
+        }
+
+        // when
+        try {
+            list.get(2);
+            fail("IndexOutOfBoundsException expected");
+        } catch (IndexOutOfBoundsException ex) {
+            // then
+            assertEquals("Index: 2, Size: 2", ex.getMessage());
+        }
+    }
+}
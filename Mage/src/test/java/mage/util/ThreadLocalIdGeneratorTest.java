@@ -0,0 +1,57 @@
+package mage.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * Custom unit tests for {@link ThreadLocalIdGenerator}
+ */
+public class ThreadLocalIdGeneratorTest {
+
+    @Test
+    public void shouldCreateUniqueIdsInAllThreads() throws InterruptedException {
+        // given
+        IdGenerator generator = new ThreadLocalIdGenerator();
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    ids.add(generator.newId());
+                }
+            }));
+        }
+
+        // when
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertEquals(80000, ids.size());
+    }
+
+    @Test
+    public void shouldUseReplacedGenerator() {
+        // given
+        IdGenerator defaultGenerator = IdUtil.getIdGenerator();
+        UUID id = UUID.randomUUID();
+
+        // when
+        IdUtil.setIdGenerator(() -> id);
+        try {
+            // then
+            assertEquals(id, IdUtil.newId());
+        } finally {
+            IdUtil.setIdGenerator(defaultGenerator);
+        }
+    }
+}